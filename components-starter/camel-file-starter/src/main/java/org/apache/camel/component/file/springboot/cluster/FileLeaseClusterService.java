@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.springboot.cluster;
+
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A cluster service which elects the leader of a namespace by a lease on a shared volume, as an alternative to the
+ * file lock cluster service which polls a file lock.
+ *
+ * The lease of each namespace is a small record in a memory-mapped file in the root directory, which holds the id of
+ * the leader, the time of its last heartbeat and a fencing token which is incremented each time the lease is taken
+ * over. The leader renews the lease at each heartbeat, while the other members watch the record, and try to take over
+ * the lease as soon as it expires (or is released by the leader when stopped) instead of at the next poll.
+ *
+ * The members compare the heartbeat time written by the leader with their own clock, so the clocks of the members
+ * must be synchronized (such as by NTP) within the step down margin. The leader steps down when it could not renew
+ * the lease for the lease duration minus the step down margin, before the other members may take over the lease.
+ */
+public class FileLeaseClusterService extends AbstractCamelClusterService<FileLeaseClusterView> {
+
+    private String root;
+    private long leaseDuration = TimeUnit.SECONDS.toMillis(5);
+    private long heartbeatInterval = TimeUnit.SECONDS.toMillis(1);
+    private long stepDownMargin = TimeUnit.SECONDS.toMillis(1);
+    private ScheduledExecutorService executor;
+
+    public FileLeaseClusterService() {
+        // the id identifies the leader in the lease, so it must be unique
+        super("file-lease-" + UUID.randomUUID());
+    }
+
+    @Override
+    protected FileLeaseClusterView createView(String namespace) throws Exception {
+        return new FileLeaseClusterView(this, namespace);
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    /**
+     * Sets the root path, where the lease files of the namespaces are stored.
+     */
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public long getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * The time (in millis) the lease is held by the leader after its last heartbeat.
+     */
+    public void setLeaseDuration(long leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    /**
+     * The time (in millis) between the heartbeats of the leader, which is also the longest time between the checks of
+     * the lease by the other members.
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public long getStepDownMargin() {
+        return stepDownMargin;
+    }
+
+    /**
+     * The time (in millis) before the lease expires at which the leader steps down when it could not renew the lease,
+     * which must be larger than the difference between the clocks of the members.
+     */
+    public void setStepDownMargin(long stepDownMargin) {
+        this.stepDownMargin = stepDownMargin;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(root, "root");
+        if (stepDownMargin < 0 || stepDownMargin >= leaseDuration) {
+            throw new IllegalArgumentException(
+                    "The step down margin must not be negative and shorter than the lease duration: " + leaseDuration);
+        }
+        if (heartbeatInterval <= 0 || heartbeatInterval >= leaseDuration - stepDownMargin) {
+            throw new IllegalArgumentException(
+                    "The heartbeat interval must be positive and shorter than the lease duration minus the step down margin: "
+                                               + (leaseDuration - stepDownMargin));
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        CamelContext context = getCamelContext();
+        synchronized (this) {
+            if (executor != null) {
+                if (context != null) {
+                    context.getExecutorServiceManager().shutdownNow(executor);
+                } else {
+                    executor.shutdownNow();
+                }
+                executor = null;
+            }
+        }
+    }
+
+    synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            // the views only run short tasks, so a single thread is enough for all the namespaces
+            CamelContext context = ObjectHelper.notNull(getCamelContext(), "CamelContext");
+            executor = context.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "FileLeaseClusterService-" + getId());
+        }
+        return executor;
+    }
+}
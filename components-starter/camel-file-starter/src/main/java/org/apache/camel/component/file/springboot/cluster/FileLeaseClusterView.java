@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.springboot.cluster;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The view of a namespace of the {@link FileLeaseClusterService}.
+ *
+ * The lease record is read and updated through the file channel while holding a lock on the lease file, so only one
+ * member can take over an expired lease. The other members watch the record through the memory-mapped file without
+ * any lock, and a sequence number which is odd while the record is updated lets them detect a partially updated
+ * record. The memory-mapped record may be stale on a shared volume (such as NFS), which only delays noticing the
+ * changes of the lease, as the lease is always checked again under the lock before it is taken over.
+ *
+ * The lease expires at the time of the last heartbeat, which the leader writes with its own clock, plus the lease
+ * duration, as seen by the clocks of the other members. The clocks of the members must therefore be synchronized
+ * (such as by NTP), and the leader steps down when it could not renew the lease for the lease duration minus the step
+ * down margin, which must be larger than the clock difference between the members.
+ */
+public class FileLeaseClusterView extends AbstractCamelClusterView {
+
+    static final int RECORD_SIZE = 128;
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileLeaseClusterView.class);
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final int SEQUENCE = 0;
+    private static final int TOKEN = 8;
+    private static final int HEARTBEAT = 16;
+    private static final int DURATION = 24;
+    private static final int HOLDER_LENGTH = 32;
+    private static final int HOLDER = 40;
+    private static final int MAX_HOLDER_LENGTH = RECORD_SIZE - HOLDER;
+    private static final int MAX_READ_ATTEMPTS = 1000;
+    // the file locks are held by the JVM, so the members in the same JVM must not lock the same file concurrently
+    private static final Map<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final FileLeaseClusterService service;
+    private final ClusterMember localMember;
+    private final Path path;
+    private final Object jvmLock;
+    private FileChannel channel;
+    private MappedByteBuffer record;
+    private ScheduledFuture<?> task;
+    private volatile Lease lease = Lease.NONE;
+    private volatile long fencingToken;
+    private volatile long renewedAt;
+
+    FileLeaseClusterView(FileLeaseClusterService service, String namespace) {
+        super(service, namespace);
+
+        this.service = service;
+        this.localMember = new ClusterMember(service.getId());
+        this.path = Paths.get(service.getRoot(), namespace + ".lease").toAbsolutePath().normalize();
+        this.jvmLock = JVM_LOCKS.computeIfAbsent(path, k -> new Object());
+    }
+
+    @Override
+    public Optional<CamelClusterMember> getLeader() {
+        if (fencingToken != 0) {
+            return Optional.of(localMember);
+        }
+        Lease current = lease;
+        if (current.isExpired(System.currentTimeMillis()) || current.holder.equals(localMember.getId())) {
+            // the lease may be left over by a former instance of this member
+            return Optional.empty();
+        }
+        return Optional.of(new ClusterMember(current.holder));
+    }
+
+    @Override
+    public CamelClusterMember getLocalMember() {
+        return localMember;
+    }
+
+    @Override
+    public List<CamelClusterMember> getMembers() {
+        // the lease only knows about the leader
+        List<CamelClusterMember> answer = new ArrayList<>();
+        answer.add(localMember);
+        getLeader().filter(m -> !m.isLocal()).ifPresent(answer::add);
+        return answer;
+    }
+
+    /**
+     * The fencing token of the lease held by this member, or 0 when this member is not the leader.
+     *
+     * The token is incremented each time the lease is taken over, so the resources shared by the members can reject
+     * the updates of a former leader with a lower token.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        if (channel == null) {
+            Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            record = channel.map(FileChannel.MapMode.READ_WRITE, 0, RECORD_SIZE);
+        }
+        if (task == null) {
+            task = service.getExecutor().schedule(this::run, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        if (fencingToken != 0) {
+            try {
+                release();
+            } catch (IOException e) {
+                LOG.warn("Cannot release the lease of namespace: {} due to: {}", getNamespace(), e.getMessage());
+            }
+            fencingToken = 0;
+            fireLeadershipChangedEvent(Optional.empty());
+        }
+        if (channel != null) {
+            IOHelper.close(channel);
+            channel = null;
+            record = null;
+        }
+        lease = Lease.NONE;
+    }
+
+    private synchronized void run() {
+        if (!isRunAllowed() || record == null) {
+            return;
+        }
+        long delay = service.getHeartbeatInterval();
+        try {
+            if (fencingToken != 0 && isLeaseMaybeLost()) {
+                // such as when this member was paused, the other members may have taken over the lease meanwhile
+                LOG.warn("Could not renew the lease of namespace: {} in time", getNamespace());
+                stepDown();
+            }
+            delay = fencingToken != 0 ? renew() : watch();
+        } catch (Exception e) {
+            LOG.warn("Error checking the lease of namespace: {} due to: {}", getNamespace(), e.getMessage());
+            if (fencingToken != 0 && isLeaseMaybeLost()) {
+                // the lease could not be renewed in time, so it may have been taken over
+                stepDown();
+            }
+        }
+        if (isRunAllowed()) {
+            task = service.getExecutor().schedule(this::run, Math.max(0, delay), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Whether the lease may have expired for the other members, as it was last renewed longer ago than the lease
+     * duration minus the step down margin (for the difference between the clocks of the members).
+     */
+    private boolean isLeaseMaybeLost() {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - renewedAt);
+        return elapsed >= service.getLeaseDuration() - service.getStepDownMargin();
+    }
+
+    /**
+     * Checks the lease while not the leader, and takes it over when expired.
+     *
+     * @return the time until the next check
+     */
+    private long watch() throws IOException {
+        Lease previous = lease;
+        Lease current = read();
+        long now = System.currentTimeMillis();
+        if (current.isExpired(now)) {
+            current = acquire();
+            if (fencingToken != 0) {
+                LOG.info("Acquired the lease of namespace: {} with fencing token: {}", getNamespace(), fencingToken);
+                fireLeadershipChangedEvent(Optional.of(localMember));
+                return service.getHeartbeatInterval();
+            }
+            now = System.currentTimeMillis();
+        }
+        if (!Objects.equals(previous.holder, current.holder)) {
+            fireLeadershipChangedEvent(getLeader());
+        }
+        // check again as soon as the lease expires, or at the next heartbeat in case the lease is released
+        return Math.min(current.expiresAt() - now, service.getHeartbeatInterval());
+    }
+
+    /**
+     * Renews the lease while the leader.
+     *
+     * @return the time until the next renewal
+     */
+    private long renew() throws IOException {
+        Lease current;
+        synchronized (jvmLock) {
+            try (FileLock ignored = channel.lock(0, RECORD_SIZE, false)) {
+                current = readLocked();
+                if (current.token == fencingToken) {
+                    write(current, fencingToken, System.currentTimeMillis(), localMember.getId());
+                    renewedAt = System.nanoTime();
+                    return service.getHeartbeatInterval();
+                }
+            }
+        }
+        // the lease was taken over as it was not renewed in time
+        LOG.warn("Lost the lease of namespace: {} to: {}", getNamespace(), current.holder);
+        lease = current;
+        stepDown();
+        return 0;
+    }
+
+    private Lease acquire() throws IOException {
+        synchronized (jvmLock) {
+            try (FileLock ignored = channel.lock(0, RECORD_SIZE, false)) {
+                // check again while holding the lock, as another member may have taken over the lease meanwhile
+                Lease current = readLocked();
+                if (current.isExpired(System.currentTimeMillis())) {
+                    long token = current.token + 1;
+                    write(current, token, System.currentTimeMillis(), localMember.getId());
+                    renewedAt = System.nanoTime();
+                    fencingToken = token;
+                    current = readLocked();
+                }
+                lease = current;
+                return current;
+            }
+        }
+    }
+
+    private void release() throws IOException {
+        synchronized (jvmLock) {
+            try (FileLock ignored = channel.lock(0, RECORD_SIZE, false)) {
+                Lease current = readLocked();
+                if (current.token == fencingToken) {
+                    // keep the token, so the next leader gets a higher one
+                    write(current, fencingToken, 0, "");
+                    LOG.info("Released the lease of namespace: {}", getNamespace());
+                }
+            }
+        }
+    }
+
+    private void stepDown() {
+        fencingToken = 0;
+        fireLeadershipChangedEvent(getLeader());
+    }
+
+    /**
+     * Reads the lease record from the memory-mapped file without holding the lock on the lease file.
+     */
+    private Lease read() throws IOException {
+        for (int i = 0; i < MAX_READ_ATTEMPTS; i++) {
+            long sequence = (long) LONGS.getVolatile(record, SEQUENCE);
+            if ((sequence & 1) == 0) {
+                Lease answer = parse(record);
+                if ((long) LONGS.getVolatile(record, SEQUENCE) == sequence) {
+                    lease = answer;
+                    return answer;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        // the record may have been left partially updated by a member which failed meanwhile
+        synchronized (jvmLock) {
+            try (FileLock ignored = channel.lock(0, RECORD_SIZE, false)) {
+                lease = readLocked();
+                return lease;
+            }
+        }
+    }
+
+    /**
+     * Reads the lease record through the file channel, while holding the lock on the lease file.
+     */
+    private Lease readLocked() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                // a new lease file
+                break;
+            }
+        }
+        return parse(buffer);
+    }
+
+    private static Lease parse(ByteBuffer buffer) {
+        long sequence = buffer.getLong(SEQUENCE);
+        long token = buffer.getLong(TOKEN);
+        long heartbeat = buffer.getLong(HEARTBEAT);
+        long duration = buffer.getLong(DURATION);
+        int length = Math.max(0, Math.min(buffer.getInt(HOLDER_LENGTH), MAX_HOLDER_LENGTH));
+        byte[] holder = new byte[length];
+        for (int i = 0; i < length; i++) {
+            holder[i] = buffer.get(HOLDER + i);
+        }
+        return new Lease(sequence, token, heartbeat, duration, new String(holder, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the lease record through the file channel, while holding the lock on the lease file.
+     *
+     * @param current the lease record read while holding the lock
+     */
+    private void write(Lease current, long token, long heartbeat, String holder) throws IOException {
+        byte[] bytes = holder.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_HOLDER_LENGTH) {
+            throw new IllegalArgumentException("The cluster service id is too long: " + holder);
+        }
+        // the sequence is odd while the rest of the record is written
+        long sequence = current.sequence | 1;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        buffer.putLong(SEQUENCE, sequence);
+        buffer.putLong(TOKEN, token);
+        buffer.putLong(HEARTBEAT, heartbeat);
+        buffer.putLong(DURATION, service.getLeaseDuration());
+        buffer.putInt(HOLDER_LENGTH, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(HOLDER + i, bytes[i]);
+        }
+        writeFully(buffer.duplicate().limit(TOKEN));
+        writeFully(buffer.duplicate().position(TOKEN));
+        buffer.putLong(SEQUENCE, sequence + 1);
+        writeFully(buffer.duplicate().limit(TOKEN));
+        // write the record through to the shared volume
+        channel.force(false);
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer at the same position in the lease file.
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+    }
+
+    private static final class Lease {
+
+        static final Lease NONE = new Lease(0, 0, 0, 0, "");
+
+        private final long sequence;
+        private final long token;
+        private final long heartbeat;
+        private final long duration;
+        private final String holder;
+
+        Lease(long sequence, long token, long heartbeat, long duration, String holder) {
+            this.sequence = sequence;
+            this.token = token;
+            this.heartbeat = heartbeat;
+            this.duration = duration;
+            this.holder = holder;
+        }
+
+        long expiresAt() {
+            return heartbeat + duration;
+        }
+
+        boolean isExpired(long now) {
+            return holder.isEmpty() || now >= expiresAt();
+        }
+    }
+
+    private final class ClusterMember implements CamelClusterMember {
+
+        private final String id;
+
+        ClusterMember(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean isLeader() {
+            return getLeader().map(m -> m.getId().equals(id)).orElse(false);
+        }
+
+        @Override
+        public boolean isLocal() {
+            return id.equals(localMember.getId());
+        }
+    }
+}
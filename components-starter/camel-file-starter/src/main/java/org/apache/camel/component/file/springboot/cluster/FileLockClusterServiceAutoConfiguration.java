@@ -44,6 +44,10 @@ public class FileLockClusterServiceAutoConfiguration {
     @Bean(name = "file-lock-cluster-service")
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
     public CamelClusterService fileClusterService() throws Exception {
+        if (configuration.getLease().isEnabled()) {
+            return fileLeaseClusterService();
+        }
+
         FileLockClusterService service = new FileLockClusterService();
 
         Optional.ofNullable(configuration.getId())
@@ -63,4 +67,28 @@ public class FileLockClusterServiceAutoConfiguration {
 
         return service;
     }
+
+    private CamelClusterService fileLeaseClusterService() {
+        FileLeaseClusterService service = new FileLeaseClusterService();
+
+        Optional.ofNullable(configuration.getId())
+            .ifPresent(service::setId);
+        Optional.ofNullable(configuration.getRoot())
+            .ifPresent(service::setRoot);
+        Optional.ofNullable(configuration.getOrder())
+            .ifPresent(service::setOrder);
+        Optional.ofNullable(configuration.getAttributes())
+            .ifPresent(service::setAttributes);
+        Optional.ofNullable(configuration.getLease().getDuration())
+            .map(TimePatternConverter::toMilliSeconds)
+            .ifPresent(service::setLeaseDuration);
+        Optional.ofNullable(configuration.getLease().getHeartbeatInterval())
+            .map(TimePatternConverter::toMilliSeconds)
+            .ifPresent(service::setHeartbeatInterval);
+        Optional.ofNullable(configuration.getLease().getStepDownMargin())
+            .map(TimePatternConverter::toMilliSeconds)
+            .ifPresent(service::setStepDownMargin);
+
+        return service;
+    }
 }
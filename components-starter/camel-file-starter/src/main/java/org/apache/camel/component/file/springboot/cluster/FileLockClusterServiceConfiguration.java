@@ -57,6 +57,11 @@ public class FileLockClusterServiceConfiguration {
      */
     private Integer order;
 
+    /**
+     * Lease based cluster service configuration.
+     */
+    private LeaseConfiguration lease = new LeaseConfiguration();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -112,4 +117,74 @@ public class FileLockClusterServiceConfiguration {
     public void setOrder(Integer order) {
         this.order = order;
     }
+
+    public LeaseConfiguration getLease() {
+        return lease;
+    }
+
+    public void setLease(LeaseConfiguration lease) {
+        this.lease = lease;
+    }
+
+    // *****************************************
+    // Configuration Classes
+    // *****************************************
+
+    public static class LeaseConfiguration {
+        /**
+         * Whether to elect the leader by a lease in a memory-mapped file on the shared volume, which is taken over as
+         * soon as it expires, instead of by polling a file lock. Default is false.
+         */
+        private boolean enabled;
+
+        /**
+         * The time the lease is held by the leader after its last heartbeat. Default is 5 seconds.
+         */
+        private String duration;
+
+        /**
+         * The time between the heartbeats of the leader, which must be shorter than the lease duration minus the step
+         * down margin. Default is 1 second.
+         */
+        private String heartbeatInterval;
+
+        /**
+         * The time before the lease expires at which the leader steps down when it could not renew the lease. The
+         * members compare the heartbeats of the leader with their own clock, so the clocks of the members must be
+         * synchronized within the step down margin. Default is 1 second.
+         */
+        private String stepDownMargin;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDuration() {
+            return duration;
+        }
+
+        public void setDuration(String duration) {
+            this.duration = duration;
+        }
+
+        public String getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(String heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public String getStepDownMargin() {
+            return stepDownMargin;
+        }
+
+        public void setStepDownMargin(String stepDownMargin) {
+            this.stepDownMargin = stepDownMargin;
+        }
+    }
 }
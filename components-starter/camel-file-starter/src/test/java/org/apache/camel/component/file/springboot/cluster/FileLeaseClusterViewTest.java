@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.springboot.cluster;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.awaitility.Awaitility.await;
+
+public class FileLeaseClusterViewTest {
+
+    @TempDir
+    Path root;
+
+    private final List<CamelContext> contexts = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        contexts.forEach(CamelContext::stop);
+    }
+
+    @Test
+    public void testAcquireAndRenewLease() throws Exception {
+        FileLeaseClusterView a = startView(createService("a", 1000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> a.getFencingToken() == 1);
+        Assertions.assertTrue(a.getLocalMember().isLeader());
+
+        FileLeaseClusterView b = startView(createService("b", 1000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> b.getLeader().isPresent());
+        Assertions.assertEquals("a", b.getLeader().map(CamelClusterMember::getId).get());
+
+        // the lease is renewed by the leader, so it does not expire
+        Thread.sleep(2000);
+        Assertions.assertEquals(1, a.getFencingToken());
+        Assertions.assertEquals(0, b.getFencingToken());
+        Assertions.assertEquals("a", b.getLeader().map(CamelClusterMember::getId).get());
+    }
+
+    @Test
+    public void testTakeOverExpiredLease() throws Exception {
+        FileLeaseClusterService serviceA = createService("a", 1000);
+        FileLeaseClusterView a = startView(serviceA);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> a.getFencingToken() == 1);
+
+        FileLeaseClusterView b = startView(createService("b", 1000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> b.getLeader().isPresent());
+
+        // the leader stops renewing the lease, as if it had failed
+        serviceA.getExecutor().shutdownNow();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> b.getFencingToken() == 2);
+        Assertions.assertTrue(b.getLocalMember().isLeader());
+
+        // the former leader does not release the lease which was taken over
+        a.stop();
+        Thread.sleep(500);
+        Assertions.assertEquals(2, b.getFencingToken());
+        Assertions.assertTrue(b.getLocalMember().isLeader());
+    }
+
+    @Test
+    public void testTakeOverReleasedLease() throws Exception {
+        // the lease does not expire during the test, so it is only taken over when released
+        FileLeaseClusterView a = startView(createService("a", 60000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> a.getFencingToken() == 1);
+
+        FileLeaseClusterView b = startView(createService("b", 60000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> b.getLeader().isPresent());
+
+        a.stop();
+        Assertions.assertEquals(0, a.getFencingToken());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> b.getFencingToken() == 2);
+        Assertions.assertTrue(b.getLocalMember().isLeader());
+
+        // and the fencing token is incremented again by the next leader
+        b.stop();
+        FileLeaseClusterView c = startView(createService("c", 60000));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> c.getFencingToken() == 3);
+    }
+
+    private FileLeaseClusterService createService(String id, long leaseDuration) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        contexts.add(context);
+
+        FileLeaseClusterService service = new FileLeaseClusterService();
+        service.setId(id);
+        service.setRoot(root.toString());
+        service.setLeaseDuration(leaseDuration);
+        service.setHeartbeatInterval(100);
+        service.setStepDownMargin(200);
+        service.setCamelContext(context);
+        context.addService(service);
+        context.start();
+        return service;
+    }
+
+    private static FileLeaseClusterView startView(FileLeaseClusterService service) throws Exception {
+        FileLeaseClusterView view = (FileLeaseClusterView) service.getView("my-ns");
+        view.start();
+        return view;
+    }
+
+}
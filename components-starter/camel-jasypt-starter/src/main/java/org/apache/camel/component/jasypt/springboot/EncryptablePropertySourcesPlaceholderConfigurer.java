@@ -36,6 +36,11 @@ public class EncryptablePropertySourcesPlaceholderConfigurer
      */
     private StringEncryptor stringEncryptor;
 
+    /**
+     * The cache of the decrypted values, if any.
+     */
+    private JasyptDecryptionCache decryptionCache;
+
     /**
      * PropertySourcesPlaceholderConfigurer  constructor
      * @param stringEncryptor the encryptor
@@ -45,6 +50,16 @@ public class EncryptablePropertySourcesPlaceholderConfigurer
         this.stringEncryptor = stringEncryptor;
     }
 
+    /**
+     * PropertySourcesPlaceholderConfigurer  constructor
+     * @param stringEncryptor the encryptor
+     * @param decryptionCache the cache of the decrypted values
+     */
+    public EncryptablePropertySourcesPlaceholderConfigurer(StringEncryptor stringEncryptor, JasyptDecryptionCache decryptionCache){
+        this(stringEncryptor);
+        this.decryptionCache = decryptionCache;
+    }
+
 
     /**
      * Visit each bean definition in the given bean factory and attempt to replace ${...} property
@@ -71,7 +86,7 @@ public class EncryptablePropertySourcesPlaceholderConfigurer
                 resolved = resolved.trim();
             }
             if(isEncryptedValue(resolved)){
-                resolved = decrypt(resolved, stringEncryptor);
+                resolved = decryptionCache != null ? decryptionCache.decryptValue(resolved) : decrypt(resolved, stringEncryptor);
             }
             return (resolved.equals(this.nullValue) ? null : resolved);
         };
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jasypt.springboot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jasypt.encryption.StringEncryptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jasypt.properties.PropertyValueEncryptionUtils.decrypt;
+
+/**
+ * A bounded, memory only cache of the decrypted values of the encrypted properties, keyed by the encrypted values, so
+ * the values are not decrypted again each time the properties are resolved.
+ *
+ * The decrypted values can be held in char arrays, which are cleared when the values are evicted, expired or
+ * invalidated, instead of in strings which stay in memory until garbage collected. Note this only protects the cached
+ * copy: each lookup returns a new string, as the property resolvers require strings, which stays in memory until
+ * garbage collected like any other resolved property value.
+ *
+ * The expired values are purged on each lookup, so they are cleared even when their encrypted values are not looked
+ * up again.
+ */
+public class JasyptDecryptionCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JasyptDecryptionCache.class);
+
+    private final StringEncryptor stringEncryptor;
+    private final long timeToLive;
+    private final boolean zeroize;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long nextExpiry = Long.MAX_VALUE;
+
+    /**
+     * @param stringEncryptor the encryptor to decrypt the values which are not cached
+     * @param maxSize         the maximum number of decrypted values to cache
+     * @param timeToLive      the time (in millis) to cache a decrypted value, or 0 to cache it until evicted
+     * @param zeroize         whether to hold the decrypted values in char arrays which are cleared when no longer
+     *                        cached
+     */
+    public JasyptDecryptionCache(StringEncryptor stringEncryptor, int maxSize, long timeToLive, boolean zeroize) {
+        this.stringEncryptor = stringEncryptor;
+        this.timeToLive = timeToLive;
+        this.zeroize = zeroize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    eldest.getValue().clear();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the decrypted value of an encrypted value (such as <tt>ENC(...)</tt>), which is decrypted when not cached.
+     */
+    public String decryptValue(String encryptedValue) {
+        synchronized (entries) {
+            purgeExpired();
+            Entry entry = entries.get(encryptedValue);
+            if (entry != null) {
+                hits.increment();
+                return entry.getValue();
+            }
+        }
+
+        // decrypt without holding the lock, as decrypting is slow
+        misses.increment();
+        String answer = decrypt(encryptedValue, stringEncryptor);
+        synchronized (entries) {
+            purgeExpired();
+            Entry entry = new Entry(answer, currentTimeMillis());
+            Entry previous = entries.put(encryptedValue, entry);
+            if (previous != null) {
+                previous.clear();
+            }
+            nextExpiry = Math.min(nextExpiry, entry.expiresAt);
+        }
+        return answer;
+    }
+
+    /**
+     * Removes and clears the expired decrypted values, when the earliest one is due. Must hold the lock on the entries.
+     */
+    private void purgeExpired() {
+        long now = currentTimeMillis();
+        if (now < nextExpiry) {
+            return;
+        }
+        long next = Long.MAX_VALUE;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (now >= entry.expiresAt) {
+                it.remove();
+                entry.clear();
+            } else {
+                next = Math.min(next, entry.expiresAt);
+            }
+        }
+        nextExpiry = next;
+    }
+
+    /**
+     * The current time in millis, which the decrypted values expire against.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Decrypts the given encrypted values which are not cached yet, concurrently on the given number of threads.
+     *
+     * The values which cannot be decrypted are not cached, so the error is reported when the property is resolved.
+     */
+    public void preload(Collection<String> encryptedValues, int parallelism) {
+        Set<String> values = new LinkedHashSet<>(encryptedValues);
+        synchronized (entries) {
+            purgeExpired();
+            values.removeAll(entries.keySet());
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        if (parallelism <= 1 || values.size() == 1) {
+            values.forEach(this::tryDecryptValue);
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, values.size()), r -> {
+                Thread thread = new Thread(r, "JasyptDecryption-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (String value : values) {
+                    tasks.add(() -> {
+                        tryDecryptValue(value);
+                        return null;
+                    });
+                }
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.debug("Error decrypting encrypted properties", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        LOG.debug("Decrypted {} encrypted properties in {} millis", values.size(), System.currentTimeMillis() - start);
+    }
+
+    private void tryDecryptValue(String encryptedValue) {
+        try {
+            decryptValue(encryptedValue);
+        } catch (RuntimeException e) {
+            LOG.debug("Cannot decrypt encrypted property value due to: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the decrypted value of an encrypted value from the cache.
+     */
+    public void invalidate(String encryptedValue) {
+        synchronized (entries) {
+            Entry entry = entries.remove(encryptedValue);
+            if (entry != null) {
+                entry.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes all the decrypted values from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.values().forEach(Entry::clear);
+            entries.clear();
+            nextExpiry = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Number of decrypted values in the cache.
+     */
+    public int size() {
+        synchronized (entries) {
+            purgeExpired();
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of decrypted values found in the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of values which were decrypted as they were not in the cache.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private final class Entry {
+
+        private final String value;
+        private final char[] chars;
+        private final long expiresAt;
+
+        Entry(String value, long now) {
+            this.value = zeroize ? null : value;
+            this.chars = zeroize ? value.toCharArray() : null;
+            this.expiresAt = timeToLive > 0 ? now + timeToLive : Long.MAX_VALUE;
+        }
+
+        /**
+         * Gets the decrypted value, as a new string when held in a char array, which cannot be cleared.
+         */
+        String getValue() {
+            return chars != null ? new String(chars) : value;
+        }
+
+        void clear() {
+            if (chars != null) {
+                Arrays.fill(chars, '\0');
+            }
+        }
+    }
+}
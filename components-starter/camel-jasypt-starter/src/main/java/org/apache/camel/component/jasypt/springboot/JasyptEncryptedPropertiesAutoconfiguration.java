@@ -19,10 +19,12 @@ package org.apache.camel.component.jasypt.springboot;
 import org.apache.camel.component.properties.PropertiesParser;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.jasypt.encryption.StringEncryptor;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.jasypt.encryption.pbe.config.EnvironmentStringPBEConfig;
 import org.jasypt.salt.RandomSaltGenerator;
 import org.jasypt.salt.SaltGenerator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -39,15 +41,20 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.PropertySource;
 
 import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static org.apache.camel.component.jasypt.springboot.JasyptEncryptedPropertiesConfiguration.PREFIX;
 import static org.apache.camel.component.jasypt.springboot.JasyptEncryptedPropertiesUtils.getIVGenerator;
 import static org.apache.camel.component.jasypt.springboot.JasyptEncryptedPropertiesUtils.loadClass;
 import static org.apache.camel.component.jasypt.springboot.JasyptEncryptedPropertiesUtils.parsePassword;
+import static org.jasypt.properties.PropertyValueEncryptionUtils.isEncryptedValue;
 import static org.springframework.boot.context.properties.source.ConfigurationPropertySources.from;
 import static org.springframework.core.ResolvableType.forClass;
 import static org.springframework.core.annotation.AnnotationUtils.findAnnotation;
@@ -90,15 +97,36 @@ public class JasyptEncryptedPropertiesAutoconfiguration {
 
     @Bean
     @ConditionalOnMissingBean(StringEncryptor.class)
-    public StringEncryptor stringEncryptor(EnvironmentStringPBEConfig environmentVariablesConfiguration) {
+    public StringEncryptor stringEncryptor(EnvironmentStringPBEConfig environmentVariablesConfiguration,
+                                           JasyptEncryptedPropertiesConfiguration configuration) {
+        if (configuration.isDecryptionCacheEnabled() && configuration.getDecryptionParallelism() > 1) {
+            // a pool of encryptors, so the encrypted properties can be decrypted concurrently at startup
+            PooledPBEStringEncryptor pooledPBEStringEncryptor = new PooledPBEStringEncryptor();
+            pooledPBEStringEncryptor.setConfig(environmentVariablesConfiguration);
+            pooledPBEStringEncryptor.setPoolSize(configuration.getDecryptionParallelism());
+            return pooledPBEStringEncryptor;
+        }
         StandardPBEStringEncryptor standardPBEStringEncryptor = new StandardPBEStringEncryptor();
         standardPBEStringEncryptor.setConfig(environmentVariablesConfiguration);
         return standardPBEStringEncryptor;
     }
 
     @Bean
-    public EncryptablePropertySourcesPlaceholderConfigurer propertyConfigurer(StringEncryptor stringEncryptor) {
-        return new EncryptablePropertySourcesPlaceholderConfigurer(stringEncryptor);
+    @ConditionalOnProperty(name = "camel.component.jasypt.decryption-cache-enabled")
+    public JasyptDecryptionCache jasyptDecryptionCache(JasyptEncryptedPropertiesConfiguration configuration,
+                                                       StringEncryptor stringEncryptor, ConfigurableEnvironment environment) {
+        JasyptDecryptionCache decryptionCache = new JasyptDecryptionCache(stringEncryptor,
+                configuration.getDecryptionCacheMaxSize(), configuration.getDecryptionCacheTimeToLive(),
+                configuration.isDecryptionCacheZeroize());
+        // the encrypted properties are resolved at startup anyway, so decrypt them all up front
+        decryptionCache.preload(getEncryptedValues(environment), configuration.getDecryptionParallelism());
+        return decryptionCache;
+    }
+
+    @Bean
+    public EncryptablePropertySourcesPlaceholderConfigurer propertyConfigurer(StringEncryptor stringEncryptor,
+                                                                              ObjectProvider<JasyptDecryptionCache> decryptionCache) {
+        return new EncryptablePropertySourcesPlaceholderConfigurer(stringEncryptor, decryptionCache.getIfAvailable());
     }
 
     /*
@@ -106,8 +134,9 @@ public class JasyptEncryptedPropertiesAutoconfiguration {
         and allow the use of encrypted properties inside the camel context.
      */
     @Bean
-    public PropertiesParser encryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor) {
-        return new JasyptSpringEncryptedPropertiesParser(propertyResolver, stringEncryptor);
+    public PropertiesParser encryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor,
+                                                      ObjectProvider<JasyptDecryptionCache> decryptionCache) {
+        return new JasyptSpringEncryptedPropertiesParser(propertyResolver, stringEncryptor, decryptionCache.getIfAvailable());
     }
 
     public SaltGenerator getSaltGenerator(JasyptEncryptedPropertiesConfiguration configuration) {
@@ -118,4 +147,19 @@ public class JasyptEncryptedPropertiesAutoconfiguration {
         }
         return new RandomSaltGenerator();
     }
+
+    private static Set<String> getEncryptedValues(ConfigurableEnvironment environment) {
+        Set<String> answer = new LinkedHashSet<>();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            if (propertySource instanceof EnumerablePropertySource) {
+                for (String name : ((EnumerablePropertySource<?>) propertySource).getPropertyNames()) {
+                    Object value = propertySource.getProperty(name);
+                    if (value instanceof String && isEncryptedValue((String) value)) {
+                        answer.add((String) value);
+                    }
+                }
+            }
+        }
+        return answer;
+    }
 }
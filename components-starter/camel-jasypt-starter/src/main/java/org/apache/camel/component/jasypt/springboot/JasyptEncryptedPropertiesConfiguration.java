@@ -63,6 +63,39 @@ public class JasyptEncryptedPropertiesConfiguration {
     @Value("${camel.component.jasypt.provider-name}")
     private String providerName;
 
+    /**
+     * Whether to cache the decrypted values of the encrypted properties in memory, so they are not decrypted
+     * again each time the properties are resolved. Default: false
+     */
+    @Value("${camel.component.jasypt.decryption-cache-enabled}")
+    private boolean decryptionCacheEnabled;
+
+    /**
+     * The maximum number of decrypted values to cache. Default: 1000
+     */
+    @Value("${camel.component.jasypt.decryption-cache-max-size}")
+    private int decryptionCacheMaxSize = 1000;
+
+    /**
+     * The time (in millis) to cache a decrypted value, or 0 to cache it until evicted. Default: 0
+     */
+    @Value("${camel.component.jasypt.decryption-cache-time-to-live}")
+    private long decryptionCacheTimeToLive;
+
+    /**
+     * Whether to hold the cached decrypted values in char arrays, which are cleared when the values are evicted,
+     * expired or invalidated. Default: false
+     */
+    @Value("${camel.component.jasypt.decryption-cache-zeroize}")
+    private boolean decryptionCacheZeroize;
+
+    /**
+     * The number of encrypted properties decrypted concurrently when the decrypted values are cached at startup.
+     * Default: 4
+     */
+    @Value("${camel.component.jasypt.decryption-parallelism}")
+    private int decryptionParallelism = 4;
+
 
     public boolean isEnabled() {
         return enabled;
@@ -111,5 +144,45 @@ public class JasyptEncryptedPropertiesConfiguration {
     public void setProviderName(String providerName) {
         this.providerName = providerName;
     }
+
+    public boolean isDecryptionCacheEnabled() {
+        return decryptionCacheEnabled;
+    }
+
+    public void setDecryptionCacheEnabled(boolean decryptionCacheEnabled) {
+        this.decryptionCacheEnabled = decryptionCacheEnabled;
+    }
+
+    public int getDecryptionCacheMaxSize() {
+        return decryptionCacheMaxSize;
+    }
+
+    public void setDecryptionCacheMaxSize(int decryptionCacheMaxSize) {
+        this.decryptionCacheMaxSize = decryptionCacheMaxSize;
+    }
+
+    public long getDecryptionCacheTimeToLive() {
+        return decryptionCacheTimeToLive;
+    }
+
+    public void setDecryptionCacheTimeToLive(long decryptionCacheTimeToLive) {
+        this.decryptionCacheTimeToLive = decryptionCacheTimeToLive;
+    }
+
+    public boolean isDecryptionCacheZeroize() {
+        return decryptionCacheZeroize;
+    }
+
+    public void setDecryptionCacheZeroize(boolean decryptionCacheZeroize) {
+        this.decryptionCacheZeroize = decryptionCacheZeroize;
+    }
+
+    public int getDecryptionParallelism() {
+        return decryptionParallelism;
+    }
+
+    public void setDecryptionParallelism(int decryptionParallelism) {
+        this.decryptionParallelism = decryptionParallelism;
+    }
 }
 
@@ -32,15 +32,26 @@ public class JasyptSpringEncryptedPropertiesParser extends DefaultPropertiesPars
 
     private StringEncryptor stringEncryptor;
 
+    private JasyptDecryptionCache decryptionCache;
+
     @Autowired
     public JasyptSpringEncryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor){
         this.propertyResolver = propertyResolver;
         this.stringEncryptor = stringEncryptor;
     }
 
+    public JasyptSpringEncryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor,
+                                                 JasyptDecryptionCache decryptionCache){
+        this(propertyResolver, stringEncryptor);
+        this.decryptionCache = decryptionCache;
+    }
+
     @Override
     public String parseProperty(String key, String value, PropertiesLookup properties) {
         String originalValue = this.propertyResolver.getProperty(key);
-        return isEncryptedValue(originalValue) ? decrypt(originalValue, this.stringEncryptor) : originalValue;
+        if (!isEncryptedValue(originalValue)) {
+            return originalValue;
+        }
+        return decryptionCache != null ? decryptionCache.decryptValue(originalValue) : decrypt(originalValue, this.stringEncryptor);
     }
 }
\ No newline at end of file
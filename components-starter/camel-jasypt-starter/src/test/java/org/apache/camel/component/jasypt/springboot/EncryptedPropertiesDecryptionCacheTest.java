@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jasypt.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.apache.camel.component.jasypt.springboot.Constants.START_URI_TEST_ENCRYPTED_PROPS_IN_CC;
+import static org.apache.camel.component.jasypt.springboot.Constants.START_URI_TEST_ENCRYPTED_PROPS_OUT_CC;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootApplication
+@SpringBootTest(
+        classes = {EncryptedPropertiesDecryptionCacheTest.TestConfiguration.class},
+        properties = {"camel.component.jasypt.decryption-cache-enabled=true",
+                      "camel.component.jasypt.decryption-cache-zeroize=true"})
+public class EncryptedPropertiesDecryptionCacheTest extends EncryptedProperiesTestBase {
+
+    @Autowired
+    private JasyptDecryptionCache decryptionCache;
+
+    @Test
+    public void testDecryptedValuesAreCached() {
+        // the encrypted properties are decrypted at startup
+        long misses = decryptionCache.getMisses();
+        long hits = decryptionCache.getHits();
+        Assertions.assertTrue(decryptionCache.size() > 0);
+
+        testEncryption(START_URI_TEST_ENCRYPTED_PROPS_IN_CC, "mysecret");
+        testEncryption(START_URI_TEST_ENCRYPTED_PROPS_OUT_CC, "mysecret");
+        Assertions.assertEquals("mysecret", getCamelContext().resolvePropertyPlaceholders("{{encrypted.password}}"));
+        Assertions.assertEquals(misses, decryptionCache.getMisses());
+        Assertions.assertEquals(hits + 1, decryptionCache.getHits());
+    }
+
+    @Test
+    public void testInvalidateDecryptedValues() {
+        decryptionCache.invalidateAll();
+        Assertions.assertEquals(0, decryptionCache.size());
+
+        long misses = decryptionCache.getMisses();
+        Assertions.assertEquals("mysecret", getCamelContext().resolvePropertyPlaceholders("{{encrypted.password}}"));
+        Assertions.assertEquals("mysecret", getCamelContext().resolvePropertyPlaceholders("{{encrypted.password}}"));
+        Assertions.assertEquals(misses + 1, decryptionCache.getMisses());
+        Assertions.assertEquals(1, decryptionCache.size());
+    }
+
+    private CamelContext getCamelContext() {
+        return context.getBean(CamelContext.class);
+    }
+
+    @Configuration
+    @Import(Routes.class)
+    @AutoConfigureBefore(CamelAutoConfiguration.class)
+    public static class TestConfiguration {}
+
+}
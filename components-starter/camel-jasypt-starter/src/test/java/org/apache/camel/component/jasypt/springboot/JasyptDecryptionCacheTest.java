@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jasypt.springboot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jasypt.encryption.StringEncryptor;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JasyptDecryptionCacheTest {
+
+    private final AtomicInteger decryptions = new AtomicInteger();
+    private long now = 1000;
+
+    @Test
+    public void decryptedValuesExpireAfterTimeToLive() {
+        JasyptDecryptionCache cache = createCache(100);
+
+        assertThat(cache.decryptValue("ENC(secret)")).isEqualTo("terces");
+        now += 99;
+        assertThat(cache.decryptValue("ENC(secret)")).isEqualTo("terces");
+        assertThat(decryptions).hasValue(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        now += 1;
+        assertThat(cache.decryptValue("ENC(secret)")).isEqualTo("terces");
+        assertThat(decryptions).hasValue(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void expiredValuesArePurgedOnLookupOfOtherValues() {
+        JasyptDecryptionCache cache = createCache(100);
+
+        cache.decryptValue("ENC(first)");
+        now += 50;
+        cache.decryptValue("ENC(second)");
+        assertThat(cache.size()).isEqualTo(2);
+
+        // the first value expires without being looked up again
+        now += 50;
+        cache.decryptValue("ENC(second)");
+        assertThat(cache.size()).isEqualTo(1);
+
+        now += 50;
+        assertThat(cache.size()).isZero();
+        assertThat(decryptions).hasValue(2);
+    }
+
+    @Test
+    public void decryptedValuesDoNotExpireWithoutTimeToLive() {
+        JasyptDecryptionCache cache = createCache(0);
+
+        cache.decryptValue("ENC(secret)");
+        now += Integer.MAX_VALUE;
+        assertThat(cache.decryptValue("ENC(secret)")).isEqualTo("terces");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(decryptions).hasValue(1);
+    }
+
+    private JasyptDecryptionCache createCache(long timeToLive) {
+        StringEncryptor encryptor = new StringEncryptor() {
+            @Override
+            public String encrypt(String message) {
+                return new StringBuilder(message).reverse().toString();
+            }
+
+            @Override
+            public String decrypt(String encryptedMessage) {
+                decryptions.incrementAndGet();
+                return new StringBuilder(encryptedMessage).reverse().toString();
+            }
+        };
+        return new JasyptDecryptionCache(encryptor, 10, timeToLive, true) {
+            @Override
+            long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * An exchange which completed a route. Disabled by default, as an event is recorded for every exchange.
+ */
+@Name("org.apache.camel.ExchangeCompleted")
+@Label("Exchange Completed")
+@Category({ "Camel", "Exchange" })
+@Description("An exchange completed a route")
+@Enabled(false)
+@StackTrace(false)
+public class ExchangeCompletedEvent extends jdk.jfr.Event {
+
+    @Label("Route Id")
+    String routeId;
+
+    @Label("Exchange Id")
+    String exchangeId;
+
+    @Label("Elapsed")
+    @Description("The time the exchange took to complete the route")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+}
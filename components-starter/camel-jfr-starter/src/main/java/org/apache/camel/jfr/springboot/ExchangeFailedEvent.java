@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * An exchange which failed a route.
+ */
+@Name("org.apache.camel.ExchangeFailed")
+@Label("Exchange Failed")
+@Category({ "Camel", "Exchange" })
+@Description("An exchange failed a route")
+@StackTrace(false)
+public class ExchangeFailedEvent extends jdk.jfr.Event {
+
+    @Label("Route Id")
+    String routeId;
+
+    @Label("Exchange Id")
+    String exchangeId;
+
+    @Label("Elapsed")
+    @Description("The time the exchange took to fail the route")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Exception Class")
+    String exceptionClass;
+
+    @Label("Exception Message")
+    String exceptionMessage;
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.EventType;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.ExchangeHelper;
+
+/**
+ * An event notifier which records a JFR event when an exchange is redelivered by the error handler.
+ */
+public class JfrEventNotifier extends EventNotifierSupport {
+
+    private static final EventType REDELIVERY_EVENT = EventType.getEventType(RedeliveryEvent.class);
+
+    public JfrEventNotifier() {
+        // only the redelivery events are recorded (which are notified as failed events)
+        setIgnoreCamelContextInitEvents(true);
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreExchangeCreatedEvent(true);
+        setIgnoreExchangeCompletedEvent(true);
+        setIgnoreExchangeSendingEvents(true);
+        setIgnoreExchangeSentEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return REDELIVERY_EVENT.isEnabled();
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof CamelEvent.ExchangeRedeliveryEvent) {
+            RedeliveryEvent jfr = new RedeliveryEvent();
+            if (jfr.shouldCommit()) {
+                Exchange exchange = ((CamelEvent.ExchangeRedeliveryEvent) event).getExchange();
+                jfr.routeId = ExchangeHelper.getAtRouteId(exchange);
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.attempt = ((CamelEvent.ExchangeRedeliveryEvent) event).getAttempt();
+                jfr.elapsed = System.currentTimeMillis() - exchange.getCreated();
+                jfr.commit();
+            }
+        }
+    }
+
+}
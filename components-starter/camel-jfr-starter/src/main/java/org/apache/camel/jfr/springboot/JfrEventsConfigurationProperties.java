@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.jfr.events")
+public class JfrEventsConfigurationProperties {
+
+    /**
+     * Whether to record JFR events of Camel at runtime. The events are only recorded when they are enabled in a running
+     * recording, so there is almost no overhead when no recording is running.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether to record an event when an exchange completes or fails a route. The completed events are disabled by
+     * default in the recordings, as there is an event for every exchange.
+     */
+    private boolean routes = true;
+
+    /**
+     * Whether to record an event when a processor takes longer than the threshold of the event (20 ms by default) to
+     * process an exchange. This wraps every processor of the routes.
+     */
+    private boolean processors = true;
+
+    /**
+     * Whether to record an event when an exchange is redelivered by the error handler.
+     */
+    private boolean redeliveries = true;
+
+    /**
+     * Whether to record an event when a task is rejected by a thread pool of Camel.
+     */
+    private boolean threadPools = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(boolean routes) {
+        this.routes = routes;
+    }
+
+    public boolean isProcessors() {
+        return processors;
+    }
+
+    public void setProcessors(boolean processors) {
+        this.processors = processors;
+    }
+
+    public boolean isRedeliveries() {
+        return redeliveries;
+    }
+
+    public void setRedeliveries(boolean redeliveries) {
+        this.redeliveries = redeliveries;
+    }
+
+    public boolean isThreadPools() {
+        return threadPools;
+    }
+
+    public void setThreadPools(boolean threadPools) {
+        this.threadPools = threadPools;
+    }
+}
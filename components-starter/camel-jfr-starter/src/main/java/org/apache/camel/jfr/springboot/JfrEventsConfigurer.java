@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spring.boot.CamelContextConfiguration;
+
+/**
+ * Installs the recording of the JFR events of the routes, processors, redeliveries and thread pools before Camel is
+ * started.
+ *
+ * The events are only recorded when they are enabled in a running recording, such as a continuous recording started
+ * with <tt>-XX:StartFlightRecording</tt>, and their thresholds are configured with the recording settings.
+ */
+public class JfrEventsConfigurer implements CamelContextConfiguration {
+
+    private final JfrEventsConfigurationProperties config;
+
+    public JfrEventsConfigurer(JfrEventsConfigurationProperties config) {
+        this.config = config;
+    }
+
+    @Override
+    public void beforeApplicationStart(CamelContext camelContext) {
+        if (config.isRoutes()) {
+            camelContext.addRoutePolicyFactory(new JfrRoutePolicyFactory());
+        }
+        if (config.isProcessors()) {
+            camelContext.adapt(ExtendedCamelContext.class).addInterceptStrategy(new JfrInterceptStrategy());
+        }
+        if (config.isRedeliveries()) {
+            camelContext.getManagementStrategy().addEventNotifier(new JfrEventNotifier());
+        }
+        if (config.isThreadPools()) {
+            ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+            if (!(manager.getThreadPoolFactory() instanceof JfrThreadPoolFactory)) {
+                manager.setThreadPoolFactory(new JfrThreadPoolFactory(manager.getThreadPoolFactory()));
+            }
+        }
+    }
+
+    @Override
+    public void afterApplicationStart(CamelContext camelContext) {
+        // noop
+    }
+
+}
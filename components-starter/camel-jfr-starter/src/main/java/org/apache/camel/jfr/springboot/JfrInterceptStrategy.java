@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.EventType;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * An {@link InterceptStrategy} which records a JFR event when a processor of a route takes longer than the threshold
+ * of the event to process an exchange.
+ *
+ * The event is only created when it is enabled in a running recording, so the processors are not slowed down when no
+ * recording is running.
+ */
+public class JfrInterceptStrategy implements InterceptStrategy {
+
+    private static final EventType PROCESSOR_EVENT = EventType.getEventType(ProcessorEvent.class);
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget) {
+        return new JfrProcessor(target, ProcessorDefinitionHelper.getRouteId(definition), definition.getId());
+    }
+
+    private static final class JfrProcessor extends DelegateAsyncProcessor {
+
+        private final String routeId;
+        private final String nodeId;
+
+        JfrProcessor(Processor processor, String routeId, String nodeId) {
+            super(processor);
+            this.routeId = routeId;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            if (!PROCESSOR_EVENT.isEnabled()) {
+                return processor.process(exchange, callback);
+            }
+            ProcessorEvent event = new ProcessorEvent();
+            event.begin();
+            return processor.process(exchange, doneSync -> {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.routeId = routeId;
+                    event.nodeId = nodeId;
+                    event.exchangeId = exchange.getExchangeId();
+                    event.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "Jfr[" + processor + "]";
+        }
+    }
+
+}
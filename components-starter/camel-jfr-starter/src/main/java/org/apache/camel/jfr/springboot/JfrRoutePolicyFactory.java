@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.EventType;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+
+/**
+ * A {@link RoutePolicyFactory} which records a JFR event when an exchange completes or fails a route.
+ *
+ * The time an exchange starts a route is only kept when one of the events is enabled in a running recording, so the
+ * routes are not slowed down when no recording is running.
+ */
+public class JfrRoutePolicyFactory implements RoutePolicyFactory {
+
+    private static final EventType COMPLETED_EVENT = EventType.getEventType(ExchangeCompletedEvent.class);
+    private static final EventType FAILED_EVENT = EventType.getEventType(ExchangeFailedEvent.class);
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        return new JfrRoutePolicy(routeId);
+    }
+
+    private static final class JfrRoutePolicy extends RoutePolicySupport {
+
+        private final String startKey;
+
+        JfrRoutePolicy(String routeId) {
+            // the exchange may be routed through several routes
+            this.startKey = "CamelJfrRouteStart-" + routeId;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            if (COMPLETED_EVENT.isEnabled() || FAILED_EVENT.isEnabled()) {
+                exchange.setProperty(startKey, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object start = exchange.removeProperty(startKey);
+            if (!(start instanceof Long)) {
+                // the recording was started while the exchange was routed
+                return;
+            }
+            long elapsed = System.nanoTime() - (Long) start;
+            if (exchange.isFailed()) {
+                ExchangeFailedEvent event = new ExchangeFailedEvent();
+                if (event.shouldCommit()) {
+                    Exception cause = exchange.getException();
+                    event.routeId = route.getRouteId();
+                    event.exchangeId = exchange.getExchangeId();
+                    event.elapsed = elapsed;
+                    event.exceptionClass = cause.getClass().getName();
+                    event.exceptionMessage = cause.getMessage();
+                    event.commit();
+                }
+            } else {
+                ExchangeCompletedEvent event = new ExchangeCompletedEvent();
+                if (event.shouldCommit()) {
+                    event.routeId = route.getRouteId();
+                    event.exchangeId = exchange.getExchangeId();
+                    event.elapsed = elapsed;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+
+/**
+ * A {@link ThreadPoolFactory} which creates the thread pools with the given factory, and records a JFR event when a
+ * task is rejected by a thread pool.
+ */
+public class JfrThreadPoolFactory implements ThreadPoolFactory {
+
+    private final ThreadPoolFactory delegate;
+
+    public JfrThreadPoolFactory(ThreadPoolFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        // a cached thread pool never rejects tasks
+        return delegate.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return recordRejections(delegate.newThreadPool(profile, threadFactory), profile, threadFactory);
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return recordRejections(delegate.newScheduledThreadPool(profile, threadFactory), profile, threadFactory);
+    }
+
+    private static <T extends ExecutorService> T recordRejections(
+            T executor, ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            String name = threadFactory instanceof CamelThreadFactory
+                    ? ((CamelThreadFactory) threadFactory).getName() : profile.getId();
+            pool.setRejectedExecutionHandler(new RecordingRejectedExecutionHandler(name, pool.getRejectedExecutionHandler()));
+        }
+        return executor;
+    }
+
+    private static final class RecordingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+        private final String name;
+        private final RejectedExecutionHandler handler;
+
+        RecordingRejectedExecutionHandler(String name, RejectedExecutionHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            ThreadPoolRejectedEvent event = new ThreadPoolRejectedEvent();
+            if (event.shouldCommit()) {
+                event.threadPool = name;
+                event.activeThreads = executor.getActiveCount();
+                event.poolSize = executor.getPoolSize();
+                event.queueSize = executor.getQueue().size();
+                event.commit();
+            }
+            handler.rejectedExecution(task, executor);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A processor of a route which took longer than the threshold to process an exchange.
+ */
+@Name("org.apache.camel.Processor")
+@Label("Processor")
+@Category({ "Camel", "Processor" })
+@Description("A processor of a route took longer than the threshold to process an exchange")
+@Threshold("20 ms")
+@StackTrace(false)
+public class ProcessorEvent extends jdk.jfr.Event {
+
+    @Label("Route Id")
+    String routeId;
+
+    @Label("Node Id")
+    String nodeId;
+
+    @Label("Exchange Id")
+    String exchangeId;
+
+}
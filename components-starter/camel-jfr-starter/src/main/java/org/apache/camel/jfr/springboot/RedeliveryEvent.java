@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * An exchange which is redelivered by the error handler.
+ */
+@Name("org.apache.camel.Redelivery")
+@Label("Redelivery")
+@Category({ "Camel", "Exchange" })
+@Description("An exchange is redelivered by the error handler")
+@StackTrace(false)
+public class RedeliveryEvent extends jdk.jfr.Event {
+
+    @Label("Route Id")
+    String routeId;
+
+    @Label("Exchange Id")
+    String exchangeId;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Elapsed")
+    @Description("The time since the exchange was created")
+    @Timespan(Timespan.MILLISECONDS)
+    long elapsed;
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A task which is rejected by a thread pool of Camel, as the pool and its queue are full.
+ */
+@Name("org.apache.camel.ThreadPoolRejected")
+@Label("Thread Pool Rejected")
+@Category({ "Camel", "Thread Pool" })
+@Description("A task was rejected by a thread pool of Camel")
+@StackTrace(false)
+public class ThreadPoolRejectedEvent extends jdk.jfr.Event {
+
+    @Label("Thread Pool")
+    String threadPool;
+
+    @Label("Active Threads")
+    int activeThreads;
+
+    @Label("Pool Size")
+    int poolSize;
+
+    @Label("Queue Size")
+    int queueSize;
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr.springboot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(classes = JfrEventsTest.TestConfiguration.class)
+public class JfrEventsTest {
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    private Recording recording;
+
+    @BeforeEach
+    public void startRecording() {
+        recording = new Recording();
+        recording.enable(ExchangeCompletedEvent.class);
+        recording.enable(ExchangeFailedEvent.class);
+        recording.enable(ProcessorEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(RedeliveryEvent.class);
+        recording.enable(ThreadPoolRejectedEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    public void closeRecording() {
+        recording.close();
+    }
+
+    @Test
+    public void testExchangeCompletedEvent() throws Exception {
+        Exchange exchange = template.send("direct:ok", e -> e.getMessage().setBody("Hello"));
+
+        List<RecordedEvent> events = stopAndRead("org.apache.camel.ExchangeCompleted");
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("routeId")).isEqualTo("ok");
+        assertThat(event.getString("exchangeId")).isEqualTo(exchange.getExchangeId());
+        assertThat(event.getLong("elapsed")).isPositive();
+    }
+
+    @Test
+    public void testExchangeFailedEvent() throws Exception {
+        Exchange exchange = template.send("direct:fail", e -> e.getMessage().setBody("Hello"));
+
+        List<RecordedEvent> events = stopAndRead("org.apache.camel.ExchangeFailed");
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("routeId")).isEqualTo("fail");
+        assertThat(event.getString("exchangeId")).isEqualTo(exchange.getExchangeId());
+        assertThat(event.getLong("elapsed")).isPositive();
+        assertThat(event.getString("exceptionClass")).isEqualTo(IllegalArgumentException.class.getName());
+        assertThat(event.getString("exceptionMessage")).isEqualTo("Forced");
+        assertThat(stopAndRead("org.apache.camel.ExchangeCompleted")).isEmpty();
+    }
+
+    @Test
+    public void testProcessorEvent() throws Exception {
+        Exchange exchange = template.send("direct:ok", e -> e.getMessage().setBody("Hello"));
+
+        List<RecordedEvent> events = stopAndRead("org.apache.camel.Processor");
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("routeId")).isEqualTo("ok");
+            assertThat(event.getString("nodeId")).isEqualTo("upper");
+            assertThat(event.getString("exchangeId")).isEqualTo(exchange.getExchangeId());
+            assertThat(event.getDuration()).isPositive();
+        });
+    }
+
+    @Test
+    public void testRedeliveryEvents() throws Exception {
+        Exchange exchange = template.send("direct:retry", e -> e.getMessage().setBody("Hello"));
+        assertThat(exchange.isFailed()).isTrue();
+
+        List<RecordedEvent> events = stopAndRead("org.apache.camel.Redelivery");
+        assertThat(events).hasSize(2);
+        assertThat(events.stream().map(event -> event.getInt("attempt"))).containsExactly(1, 2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("routeId")).isEqualTo("retry");
+            assertThat(event.getString("exchangeId")).isEqualTo(exchange.getExchangeId());
+        });
+    }
+
+    @Test
+    public void testThreadPoolRejectedEvent() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("single")
+                .poolSize(1).maxPoolSize(1).maxQueueSize(1).rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build();
+        ExecutorService pool = camelContext.getExecutorServiceManager().newThreadPool(this, "Single", profile);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            pool.submit(() -> latch.await(10, TimeUnit.SECONDS));
+            pool.submit(() -> latch.await(10, TimeUnit.SECONDS));
+            assertThatExceptionOfType(RejectedExecutionException.class)
+                    .isThrownBy(() -> pool.submit(() -> latch.await(10, TimeUnit.SECONDS)));
+        } finally {
+            latch.countDown();
+            camelContext.getExecutorServiceManager().shutdown(pool);
+        }
+
+        List<RecordedEvent> events = stopAndRead("org.apache.camel.ThreadPoolRejected");
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("threadPool")).isEqualTo("Single");
+        assertThat(event.getInt("poolSize")).isEqualTo(1);
+        assertThat(event.getInt("queueSize")).isEqualTo(1);
+    }
+
+    private List<RecordedEvent> stopAndRead(String eventName) throws Exception {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Files.createTempFile("camel-jfr-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:ok").routeId("ok")
+                            .process(e -> e.getMessage().setBody(e.getMessage().getBody(String.class).toUpperCase()))
+                            .id("upper");
+
+                    from("direct:fail").routeId("fail")
+                            .throwException(new IllegalArgumentException("Forced"));
+
+                    from("direct:retry").routeId("retry")
+                            .errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(0))
+                            .throwException(new IllegalArgumentException("Forced"));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kamelet.springboot.preload;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.model.EndpointRequiredDefinition;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.ToDynamicDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RouteTemplateLoaderListener;
+import org.apache.camel.spring.boot.CamelContextConfiguration;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the kamelets which are referenced by the routes, before Camel is started.
+ *
+ * Only the kamelets referenced by the routes (and by the kamelets they use) are resolved from the kamelet locations,
+ * by their names, so the other kamelets in the locations are never read. The kamelets are parsed concurrently (when
+ * parallelism is greater than 1), and added as route templates to Camel, which then creates the routes from the
+ * loaded templates instead of loading each kamelet one by one when the routes are started.
+ */
+public class KameletPreloader implements CamelContextConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KameletPreloader.class);
+    private static final String SCHEME = "kamelet:";
+    private static final String EXTENSION = ".kamelet.yaml";
+
+    private final String location;
+    private final int parallelism;
+    private final RouteTemplateLoaderListener listener;
+    private final Map<String, String> loaded = new LinkedHashMap<>();
+
+    /**
+     * @param location    the comma separated locations of the kamelets
+     * @param parallelism the maximum number of kamelets to parse concurrently
+     * @param listener    optional listener to notify when a kamelet is loaded
+     */
+    public KameletPreloader(String location, int parallelism, RouteTemplateLoaderListener listener) {
+        this.location = location;
+        this.parallelism = parallelism;
+        this.listener = listener;
+    }
+
+    /**
+     * The kamelets which were loaded, by name, with the location they were loaded from.
+     */
+    public Map<String, String> getLoaded() {
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    @Override
+    public void beforeApplicationStart(CamelContext camelContext) {
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        Model model = ecc.getExtension(Model.class);
+
+        StopWatch watch = new StopWatch();
+        List<RouteDefinition> routes = new ArrayList<>(model.getRouteDefinitions());
+        for (RouteTemplateDefinition template : model.getRouteTemplateDefinitions()) {
+            routes.add(template.getRoute());
+        }
+        try {
+            // the loaded kamelets may use other kamelets as well
+            while (!routes.isEmpty()) {
+                Map<String, Resource> resources = resolve(ecc, model, findKamelets(routes));
+                if (resources.isEmpty()) {
+                    break;
+                }
+                int before = model.getRouteTemplateDefinitions().size();
+                load(camelContext, resources);
+                List<RouteTemplateDefinition> templates = model.getRouteTemplateDefinitions();
+                routes = new ArrayList<>();
+                for (RouteTemplateDefinition template : templates.subList(before, templates.size())) {
+                    routes.add(template.getRoute());
+                }
+            }
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        if (!loaded.isEmpty()) {
+            LOG.info("Loaded {} kamelets in {} millis", loaded.size(), watch.taken());
+        }
+    }
+
+    @Override
+    public void afterApplicationStart(CamelContext camelContext) {
+        // noop
+    }
+
+    private Map<String, Resource> resolve(ExtendedCamelContext ecc, Model model, Set<String> names) {
+        Map<String, Resource> answer = new LinkedHashMap<>();
+        for (String name : names) {
+            if (loaded.containsKey(name) || model.getRouteTemplateDefinition(name) != null) {
+                continue;
+            }
+            for (String path : location.split(",")) {
+                path = path.trim();
+                if (!path.endsWith("/")) {
+                    path += "/";
+                }
+                Resource resource = ecc.getResourceLoader().resolveResource(path + name + EXTENSION);
+                if (resource != null && resource.exists()) {
+                    answer.put(name, resource);
+                    break;
+                }
+            }
+            if (!answer.containsKey(name)) {
+                // let the kamelet component report the missing kamelet when the route is started
+                LOG.debug("Cannot find kamelet: {} in locations: {}", name, location);
+            }
+        }
+        return answer;
+    }
+
+    private void load(CamelContext camelContext, Map<String, Resource> resources) throws Exception {
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        Map<String, Collection<RoutesBuilder>> builders = new LinkedHashMap<>();
+        if (parallelism <= 1 || resources.size() == 1) {
+            for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+                builders.put(entry.getKey(), ecc.getRoutesLoader().findRoutesBuilders(entry.getValue()));
+            }
+        } else {
+            ExecutorService executor
+                    = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "KameletLoader", parallelism);
+            try {
+                Map<String, Future<Collection<RoutesBuilder>>> futures = new LinkedHashMap<>();
+                for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+                    futures.put(entry.getKey(),
+                            executor.submit(() -> ecc.getRoutesLoader().findRoutesBuilders(entry.getValue())));
+                }
+                for (Map.Entry<String, Future<Collection<RoutesBuilder>>> entry : futures.entrySet()) {
+                    try {
+                        builders.put(entry.getKey(), entry.getValue().get());
+                    } catch (ExecutionException e) {
+                        throw new IllegalArgumentException(
+                                "Error loading kamelet " + entry.getKey() + " due to: " + e.getCause().getMessage(),
+                                e.getCause());
+                    }
+                }
+            } finally {
+                camelContext.getExecutorServiceManager().shutdownNow(executor);
+            }
+        }
+
+        // add the route templates one by one, as the model is not thread safe
+        for (Map.Entry<String, Collection<RoutesBuilder>> entry : builders.entrySet()) {
+            Resource resource = resources.get(entry.getKey());
+            if (listener != null) {
+                listener.loadRouteTemplate(resource);
+            }
+            for (RoutesBuilder builder : entry.getValue()) {
+                camelContext.addRoutes(builder);
+            }
+            loaded.put(entry.getKey(), resource.getLocation());
+        }
+    }
+
+    /**
+     * The names of the kamelets used by the given routes.
+     */
+    static Set<String> findKamelets(List<RouteDefinition> routes) {
+        Set<String> answer = new LinkedHashSet<>();
+        for (RouteDefinition route : routes) {
+            if (route.getInput() != null) {
+                addKamelet(answer, route.getInput().getEndpointUri());
+            }
+            findKamelets(answer, route.getOutputs());
+        }
+        return answer;
+    }
+
+    private static void findKamelets(Set<String> answer, List<ProcessorDefinition<?>> outputs) {
+        for (ProcessorDefinition<?> output : outputs) {
+            if (output instanceof EndpointRequiredDefinition) {
+                addKamelet(answer, ((EndpointRequiredDefinition) output).getEndpointUri());
+            } else if (output instanceof ToDynamicDefinition) {
+                addKamelet(answer, ((ToDynamicDefinition) output).getUri());
+            }
+            findKamelets(answer, output.getOutputs());
+        }
+    }
+
+    private static void addKamelet(Set<String> answer, String uri) {
+        if (uri == null || !uri.startsWith(SCHEME)) {
+            return;
+        }
+        String name = uri.substring(SCHEME.length());
+        if (name.startsWith("//")) {
+            name = name.substring(2);
+        }
+        int pos = name.indexOf('?');
+        if (pos != -1) {
+            name = name.substring(0, pos);
+        }
+        pos = name.indexOf('/');
+        if (pos != -1) {
+            name = name.substring(0, pos);
+        }
+        // source and sink are the endpoints of the kamelet itself, and placeholders are only known at runtime
+        if (!name.isEmpty() && !"source".equals(name) && !"sink".equals(name) && !name.contains("{{")
+                && !name.contains("${")) {
+            answer.add(name);
+        }
+    }
+
+}
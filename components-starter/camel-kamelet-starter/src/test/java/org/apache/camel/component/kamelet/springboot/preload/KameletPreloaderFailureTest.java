@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kamelet.springboot.preload;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KameletPreloaderFailureTest {
+
+    @Test
+    public void testPreloadDisabled() {
+        new ApplicationContextRunner()
+            .withUserConfiguration(TestConfiguration.class)
+            .withPropertyValues(
+                "spring.main.banner-mode=off",
+                "camel.springboot.routes-include-pattern=false",
+                "camel.component.kamelet.location=classpath:kamelets",
+                "camel.component.kamelet.preload.enabled=false")
+            .run(
+                context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(KameletPreloader.class);
+                }
+            );
+    }
+
+    @Test
+    public void testKameletNotInLocation() {
+        new ApplicationContextRunner()
+            .withUserConfiguration(TestConfiguration.class)
+            .withPropertyValues(
+                "spring.main.banner-mode=off",
+                "camel.springboot.routes-include-pattern=false",
+                "camel.component.kamelet.location=classpath:missing-kamelets",
+                "camel.component.kamelet.preload.enabled=true")
+            .run(
+                context -> {
+                    // the kamelet is not preloaded, so the kamelet component fails to create the route
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure()).hasStackTraceContaining("greeting");
+                }
+            );
+    }
+
+    @Test
+    public void testInvalidKamelet() {
+        new ApplicationContextRunner()
+            .withUserConfiguration(TestConfiguration.class)
+            .withPropertyValues(
+                "spring.main.banner-mode=off",
+                "camel.springboot.routes-include-pattern=false",
+                "camel.component.kamelet.location=classpath:bad-kamelets",
+                "camel.component.kamelet.preload.enabled=true")
+            .run(
+                context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure()).hasStackTraceContaining("unknown-step");
+                }
+            );
+    }
+
+    @EnableAutoConfiguration
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").to("kamelet:greeting");
+                }
+            };
+        }
+    }
+}
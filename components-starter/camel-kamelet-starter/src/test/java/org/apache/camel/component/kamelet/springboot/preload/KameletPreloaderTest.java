@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kamelet.springboot.preload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.Model;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        KameletPreloaderTest.class,
+        KameletPreloaderTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern=false",
+        "camel.component.kamelet.location=classpath:kamelets",
+        "camel.component.kamelet.preload.enabled=true",
+        "camel.component.kamelet.preload.parallelism=2"
+    }
+)
+public class KameletPreloaderTest {
+
+    @Autowired
+    private CamelContext context;
+
+    @Autowired
+    private KameletPreloader preloader;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testPreloadKamelets() {
+        // the kamelet used by the route, and the kamelet used by that kamelet
+        Assertions.assertEquals(Arrays.asList("greeting", "upper"), new ArrayList<>(preloader.getLoaded().keySet()));
+        Assertions.assertTrue(preloader.getLoaded().get("greeting").endsWith("greeting.kamelet.yaml"));
+
+        Model model = context.adapt(ExtendedCamelContext.class).getExtension(Model.class);
+        Assertions.assertNotNull(model.getRouteTemplateDefinition("greeting"));
+        Assertions.assertNotNull(model.getRouteTemplateDefinition("upper"));
+    }
+
+    @Test
+    public void testRouteFromPreloadedKamelet() {
+        Assertions.assertEquals("HELLO WORLD", template.requestBody("direct:start", "World", String.class));
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").to("kamelet:greeting");
+                }
+            };
+        }
+    }
+
+}
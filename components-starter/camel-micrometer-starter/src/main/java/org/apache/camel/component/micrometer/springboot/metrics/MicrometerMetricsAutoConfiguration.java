@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.apache.camel.component.micrometer.MicrometerConstants;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto configuration of the Micrometer metrics of Camel, when a Spring Boot meter registry is available. The meter
+ * filters are applied to the meter registries by the actuator metrics auto configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean({ CamelAutoConfiguration.class, MeterRegistry.class })
+@ConditionalOnProperty(prefix = "camel.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureAfter(value = CamelAutoConfiguration.class,
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(MicrometerMetricsConfigurationProperties.class)
+public class MicrometerMetricsAutoConfiguration {
+
+    // the meters of the route policy, event notifiers and message history factory
+    private static final String CAMEL_METER_PREFIX = "Camel";
+
+    @Bean
+    public MicrometerMetricsConfigurer micrometerMetricsConfigurer(
+            MeterRegistry meterRegistry, MicrometerMetricsConfigurationProperties config) {
+        return new MicrometerMetricsConfigurer(meterRegistry, config);
+    }
+
+    @Bean
+    public MeterFilter camelMetricsUriTagsFilter(MicrometerMetricsConfigurationProperties config) {
+        return MeterFilter.maximumAllowableTags(
+                CAMEL_METER_PREFIX, MicrometerConstants.ENDPOINT_NAME, config.getMaxUriTags(), MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter camelMetricsTagsFilter(MicrometerMetricsConfigurationProperties config) {
+        List<Tag> tags = new ArrayList<>();
+        for (Map.Entry<String, String> entry : config.getTags().entrySet()) {
+            tags.add(Tag.of(entry.getKey(), entry.getValue()));
+        }
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                return tags.isEmpty() || !id.getName().startsWith(CAMEL_METER_PREFIX) ? id : id.withTags(tags);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.metrics")
+public class MicrometerMetricsConfigurationProperties {
+
+    /**
+     * Whether to record the metrics of Camel (routes, exchanges and message history) in the Spring Boot meter registry.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether to record the timings of the exchanges processed by each route, with the Micrometer route policy.
+     */
+    private boolean enableRoutePolicy = true;
+
+    /**
+     * Whether to record the timings of the exchanges sent to each endpoint, with the Micrometer exchange event notifier.
+     */
+    private boolean enableExchangeEventNotifier = true;
+
+    /**
+     * Whether to record the number of routes added and running, with the Micrometer route event notifier.
+     */
+    private boolean enableRouteEventNotifier = true;
+
+    /**
+     * Whether to record the timings of each processor of the routes, with the Micrometer message history factory. This
+     * turns on message history, which adds overhead to the processing of every message.
+     */
+    private boolean enableMessageHistory;
+
+    /**
+     * Tags to add to the meters of Camel, such as the name of the application.
+     */
+    private Map<String, String> tags = new LinkedHashMap<>();
+
+    /**
+     * The maximum number of endpoint URIs to record as tags of the meters of Camel. The meters of the endpoints which
+     * exceed this number (such as the endpoints of dynamic URIs) are not recorded.
+     */
+    private int maxUriTags = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnableRoutePolicy() {
+        return enableRoutePolicy;
+    }
+
+    public void setEnableRoutePolicy(boolean enableRoutePolicy) {
+        this.enableRoutePolicy = enableRoutePolicy;
+    }
+
+    public boolean isEnableExchangeEventNotifier() {
+        return enableExchangeEventNotifier;
+    }
+
+    public void setEnableExchangeEventNotifier(boolean enableExchangeEventNotifier) {
+        this.enableExchangeEventNotifier = enableExchangeEventNotifier;
+    }
+
+    public boolean isEnableRouteEventNotifier() {
+        return enableRouteEventNotifier;
+    }
+
+    public void setEnableRouteEventNotifier(boolean enableRouteEventNotifier) {
+        this.enableRouteEventNotifier = enableRouteEventNotifier;
+    }
+
+    public boolean isEnableMessageHistory() {
+        return enableMessageHistory;
+    }
+
+    public void setEnableMessageHistory(boolean enableMessageHistory) {
+        this.enableMessageHistory = enableMessageHistory;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Map<String, String> tags) {
+        this.tags = tags;
+    }
+
+    public int getMaxUriTags() {
+        return maxUriTags;
+    }
+
+    public void setMaxUriTags(int maxUriTags) {
+        this.maxUriTags = maxUriTags;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.component.micrometer.eventnotifier.MicrometerExchangeEventNotifier;
+import org.apache.camel.component.micrometer.eventnotifier.MicrometerRouteEventNotifier;
+import org.apache.camel.component.micrometer.messagehistory.MicrometerMessageHistoryFactory;
+import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
+import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spring.boot.CamelContextConfiguration;
+
+/**
+ * Installs the Micrometer route policy factory, event notifiers and message history factory of camel-micrometer,
+ * which record the metrics of Camel in the Spring Boot meter registry.
+ *
+ * They are installed before Camel is started, so the metrics of all the routes are recorded. Those which are already
+ * installed on the Camel context are not installed again, and those which are in the registry (such as configured by
+ * the application) are installed instead of new ones, so the metrics are not recorded twice.
+ */
+public class MicrometerMetricsConfigurer implements CamelContextConfiguration {
+
+    private final MeterRegistry meterRegistry;
+    private final MicrometerMetricsConfigurationProperties config;
+
+    public MicrometerMetricsConfigurer(MeterRegistry meterRegistry, MicrometerMetricsConfigurationProperties config) {
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+    }
+
+    @Override
+    public void beforeApplicationStart(CamelContext camelContext) {
+        if (config.isEnableRoutePolicy()
+                && !isInstalled(MicrometerRoutePolicyFactory.class, camelContext.getRoutePolicyFactories())) {
+            Collection<MicrometerRoutePolicyFactory> factories
+                    = lookup(camelContext, MicrometerRoutePolicyFactory.class, this::newRoutePolicyFactory);
+            for (MicrometerRoutePolicyFactory factory : factories) {
+                camelContext.addRoutePolicyFactory(factory);
+            }
+        }
+
+        ManagementStrategy strategy = camelContext.getManagementStrategy();
+        if (config.isEnableExchangeEventNotifier()
+                && !isInstalled(MicrometerExchangeEventNotifier.class, strategy.getEventNotifiers())) {
+            Collection<MicrometerExchangeEventNotifier> notifiers
+                    = lookup(camelContext, MicrometerExchangeEventNotifier.class, this::newExchangeEventNotifier);
+            for (MicrometerExchangeEventNotifier notifier : notifiers) {
+                strategy.addEventNotifier(CamelContextAware.trySetCamelContext(notifier, camelContext));
+            }
+        }
+        if (config.isEnableRouteEventNotifier()
+                && !isInstalled(MicrometerRouteEventNotifier.class, strategy.getEventNotifiers())) {
+            Collection<MicrometerRouteEventNotifier> notifiers
+                    = lookup(camelContext, MicrometerRouteEventNotifier.class, this::newRouteEventNotifier);
+            for (MicrometerRouteEventNotifier notifier : notifiers) {
+                strategy.addEventNotifier(CamelContextAware.trySetCamelContext(notifier, camelContext));
+            }
+        }
+
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        if (config.isEnableMessageHistory() && !isInstalled(MicrometerMessageHistoryFactory.class,
+                Collections.singleton(ecc.getMessageHistoryFactory()))) {
+            // only one message history factory can be used
+            MicrometerMessageHistoryFactory factory
+                    = lookup(camelContext, MicrometerMessageHistoryFactory.class, this::newMessageHistoryFactory)
+                            .iterator().next();
+            // the message history factory is only used when message history is enabled
+            camelContext.setMessageHistory(true);
+            ecc.setMessageHistoryFactory(CamelContextAware.trySetCamelContext(factory, camelContext));
+        }
+    }
+
+    @Override
+    public void afterApplicationStart(CamelContext camelContext) {
+        // noop
+    }
+
+    private MicrometerRoutePolicyFactory newRoutePolicyFactory() {
+        MicrometerRoutePolicyFactory answer = new MicrometerRoutePolicyFactory();
+        answer.setMeterRegistry(meterRegistry);
+        return answer;
+    }
+
+    private MicrometerExchangeEventNotifier newExchangeEventNotifier() {
+        MicrometerExchangeEventNotifier answer = new MicrometerExchangeEventNotifier();
+        answer.setMeterRegistry(meterRegistry);
+        return answer;
+    }
+
+    private MicrometerRouteEventNotifier newRouteEventNotifier() {
+        MicrometerRouteEventNotifier answer = new MicrometerRouteEventNotifier();
+        answer.setMeterRegistry(meterRegistry);
+        return answer;
+    }
+
+    private MicrometerMessageHistoryFactory newMessageHistoryFactory() {
+        MicrometerMessageHistoryFactory answer = new MicrometerMessageHistoryFactory();
+        answer.setMeterRegistry(meterRegistry);
+        return answer;
+    }
+
+    private static boolean isInstalled(Class<?> type, Collection<?> installed) {
+        for (Object service : installed) {
+            if (type.isInstance(service)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The services of the given type which are in the registry, such as configured by the application, or else a new
+     * service. Camel may not have installed the services of the registry, when they depend on the meter registry
+     * which is not created yet when Camel looks them up.
+     */
+    private static <T> Collection<T> lookup(CamelContext camelContext, Class<T> type, Supplier<T> factory) {
+        Set<T> answer = camelContext.getRegistry().findByType(type);
+        return !answer.isEmpty() ? answer : Collections.singleton(factory.get());
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.micrometer.MicrometerConstants;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(
+        classes = MicrometerMetricsAutoConfigurationTest.TestConfiguration.class,
+        properties = {"camel.metrics.tags.application=test",
+                      "camel.metrics.max-uri-tags=2"})
+public class MicrometerMetricsAutoConfigurationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testMetersOfRoutePolicyAndExchangeEventNotifier() {
+        template.sendBody("direct:start", "a");
+
+        assertThat(meterRegistry.find(MicrometerConstants.DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME).meters()).isNotEmpty();
+        assertThat(meterRegistry.find(MicrometerConstants.DEFAULT_CAMEL_EXCHANGE_EVENT_METER_NAME).meters()).isNotEmpty();
+    }
+
+    @Test
+    public void testTagsAreAddedToCamelMeters() {
+        template.sendBody("direct:start", "a");
+        meterRegistry.counter("other");
+
+        assertThat(camelMeters()).isNotEmpty().allMatch(meter -> "test".equals(meter.getId().getTag("application")));
+        assertThat(meterRegistry.get("other").counter().getId().getTag("application")).isNull();
+    }
+
+    @Test
+    public void testMetersOfEndpointsBeyondMaxUriTagsAreDenied() {
+        for (String body : new String[] { "a", "b", "c", "d" }) {
+            template.sendBody("direct:start", body);
+        }
+
+        Set<String> uris = camelMeters().stream()
+                .map(meter -> meter.getId().getTag(MicrometerConstants.ENDPOINT_NAME))
+                .filter(uri -> uri != null)
+                .collect(Collectors.toSet());
+        assertThat(uris).hasSize(2).doesNotContain("mock://d");
+    }
+
+    private List<Meter> camelMeters() {
+        return meterRegistry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().startsWith("Camel"))
+                .collect(Collectors.toList());
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("start")
+                            .toD("mock:${body}");
+                }
+            };
+        }
+    }
+}
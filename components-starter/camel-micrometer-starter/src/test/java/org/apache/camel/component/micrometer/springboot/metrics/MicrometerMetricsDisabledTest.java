@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(
+        classes = MicrometerMetricsAutoConfigurationTest.TestConfiguration.class,
+        properties = "camel.metrics.enabled=false")
+public class MicrometerMetricsDisabledTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testNothingIsInstalled() {
+        template.sendBody("direct:start", "a");
+
+        assertThat(context.getBeansOfType(MicrometerMetricsConfigurer.class)).isEmpty();
+        assertThat(camelContext.getRoutePolicyFactories()).noneMatch(MicrometerRoutePolicyFactory.class::isInstance);
+        assertThat(meterRegistry.getMeters()).noneMatch(meter -> meter.getId().getName().startsWith("Camel"));
+    }
+}
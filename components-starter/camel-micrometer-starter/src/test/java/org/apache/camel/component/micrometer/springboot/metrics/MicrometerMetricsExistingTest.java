@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.micrometer.MicrometerConstants;
+import org.apache.camel.component.micrometer.eventnotifier.MicrometerExchangeEventNotifier;
+import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(classes = MicrometerMetricsExistingTest.TestConfiguration.class)
+public class MicrometerMetricsExistingTest {
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Autowired
+    private MicrometerRoutePolicyFactory routePolicyFactory;
+
+    @Autowired
+    private MicrometerExchangeEventNotifier exchangeEventNotifier;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testExistingRoutePolicyFactoryAndEventNotifierAreNotInstalledAgain() {
+        List<Object> factories = camelContext.getRoutePolicyFactories().stream()
+                .filter(MicrometerRoutePolicyFactory.class::isInstance)
+                .collect(Collectors.toList());
+        assertThat(factories).containsExactly(routePolicyFactory);
+
+        List<Object> notifiers = camelContext.getManagementStrategy().getEventNotifiers().stream()
+                .filter(MicrometerExchangeEventNotifier.class::isInstance)
+                .collect(Collectors.toList());
+        assertThat(notifiers).containsExactly(exchangeEventNotifier);
+    }
+
+    @Test
+    public void testExchangesAreCountedOnce() {
+        template.sendBody("direct:start", "a");
+
+        assertThat(meterRegistry.get(MicrometerConstants.DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME).timer().count())
+                .isEqualTo(1);
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public MicrometerRoutePolicyFactory routePolicyFactory(MeterRegistry meterRegistry) {
+            MicrometerRoutePolicyFactory factory = new MicrometerRoutePolicyFactory();
+            factory.setMeterRegistry(meterRegistry);
+            return factory;
+        }
+
+        @Bean
+        public MicrometerExchangeEventNotifier exchangeEventNotifier(MeterRegistry meterRegistry) {
+            MicrometerExchangeEventNotifier notifier = new MicrometerExchangeEventNotifier();
+            notifier.setMeterRegistry(meterRegistry);
+            return notifier;
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("start")
+                            .to("mock:result");
+                }
+            };
+        }
+    }
+}
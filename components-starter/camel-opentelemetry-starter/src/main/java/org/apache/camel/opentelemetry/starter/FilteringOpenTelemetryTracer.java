@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.opentelemetry.starter;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.NamedNode;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.opentelemetry.OpenTelemetryTracer;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.support.EndpointHelper;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * An {@link OpenTelemetryTracer} which can only create the spans of the routes, and not the spans of the messages
+ * sent to endpoints, and which matches the exclude patterns only once per endpoint.
+ *
+ * The exclude patterns are matched against the endpoint of a route when the route is created, so the routes which
+ * are excluded are not traced at all, and against the endpoints the messages are sent to the first time a message is
+ * sent to the endpoint, instead of on every message.
+ */
+public class FilteringOpenTelemetryTracer extends OpenTelemetryTracer {
+
+    private static final int MAX_CACHED_URIS = 1000;
+
+    private final Set<String> excludes = new LinkedHashSet<>();
+    private final Map<String, Boolean> excluded = new ConcurrentHashMap<>();
+    private boolean routeSpansOnly;
+    private EventNotifier tracingEventNotifier;
+    private EventNotifier excludingEventNotifier;
+
+    public boolean isRouteSpansOnly() {
+        return routeSpansOnly;
+    }
+
+    /**
+     * Whether to only create the spans of the routes, and not the spans of the messages sent to endpoints.
+     */
+    public void setRouteSpansOnly(boolean routeSpansOnly) {
+        this.routeSpansOnly = routeSpansOnly;
+    }
+
+    @Override
+    public void setExcludePatterns(Set<String> excludePatterns) {
+        // the patterns are matched by this tracer, so they are not matched again on every message
+        excludes.clear();
+        if (excludePatterns != null) {
+            excludes.addAll(excludePatterns);
+        }
+        excluded.clear();
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        if (!excludes.isEmpty() && route instanceof RouteDefinition) {
+            String uri = ((RouteDefinition) route).getInput().getEndpointUri();
+            if (uri != null && isExcluded(camelContext, camelContext.resolvePropertyPlaceholders(uri))) {
+                // the route is not traced
+                return null;
+            }
+        }
+        return super.createRoutePolicy(camelContext, routeId, route);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        filterEventNotifier();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        filterEventNotifier();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (excludingEventNotifier != null) {
+            // put back the event notifier of the tracer, which is stopped by the tracer
+            ManagementStrategy strategy = getCamelContext().getManagementStrategy();
+            strategy.removeEventNotifier(excludingEventNotifier);
+            ServiceHelper.stopService(excludingEventNotifier);
+            strategy.addEventNotifier(tracingEventNotifier);
+            excludingEventNotifier = null;
+        }
+        tracingEventNotifier = null;
+        super.doStop();
+    }
+
+    private void filterEventNotifier() throws Exception {
+        if (tracingEventNotifier != null || !routeSpansOnly && excludes.isEmpty()) {
+            return;
+        }
+        // the event notifier added by the tracer creates the spans of the messages sent to endpoints, and is an
+        // inner class of the tracer, so it is told apart from the event notifiers of other tracers or libraries
+        ManagementStrategy strategy = getCamelContext().getManagementStrategy();
+        for (EventNotifier notifier : strategy.getEventNotifiers()) {
+            if (isTracingEventNotifier(notifier)) {
+                tracingEventNotifier = notifier;
+                break;
+            }
+        }
+        if (tracingEventNotifier == null) {
+            return;
+        }
+        if (routeSpansOnly) {
+            tracingEventNotifier.setIgnoreExchangeSendingEvents(true);
+            tracingEventNotifier.setIgnoreExchangeSentEvents(true);
+        } else {
+            excludingEventNotifier = new ExcludingEventNotifier(tracingEventNotifier);
+            ServiceHelper.startService(excludingEventNotifier);
+            strategy.removeEventNotifier(tracingEventNotifier);
+            strategy.addEventNotifier(excludingEventNotifier);
+        }
+    }
+
+    private static boolean isTracingEventNotifier(EventNotifier notifier) {
+        Class<?> owner = notifier.getClass().getEnclosingClass();
+        return owner != null && owner.isAssignableFrom(OpenTelemetryTracer.class);
+    }
+
+    EventNotifier getTracingEventNotifier() {
+        return tracingEventNotifier;
+    }
+
+    Set<String> getExcludedUris() {
+        return excluded.keySet();
+    }
+
+    private boolean isExcluded(CamelContext camelContext, String uri) {
+        Boolean answer = excluded.get(uri);
+        if (answer == null) {
+            answer = Boolean.FALSE;
+            for (String pattern : excludes) {
+                if (EndpointHelper.matchEndpoint(camelContext, uri, pattern)) {
+                    answer = Boolean.TRUE;
+                    break;
+                }
+            }
+            // the messages may be sent to dynamic endpoints, so only cache a bounded number of endpoints
+            if (excluded.size() < MAX_CACHED_URIS) {
+                excluded.put(uri, answer);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Skips the events of the messages sent to the excluded endpoints, and passes the other events to the event
+     * notifier of the tracer.
+     */
+    private final class ExcludingEventNotifier extends EventNotifierSupport {
+
+        private final EventNotifier delegate;
+
+        ExcludingEventNotifier(EventNotifier delegate) {
+            this.delegate = delegate;
+            setIgnoreCamelContextInitEvents(delegate.isIgnoreCamelContextInitEvents());
+            setIgnoreCamelContextEvents(delegate.isIgnoreCamelContextEvents());
+            setIgnoreRouteEvents(delegate.isIgnoreRouteEvents());
+            setIgnoreServiceEvents(delegate.isIgnoreServiceEvents());
+            setIgnoreExchangeEvents(delegate.isIgnoreExchangeEvents());
+            setIgnoreExchangeCreatedEvent(delegate.isIgnoreExchangeCreatedEvent());
+            setIgnoreExchangeCompletedEvent(delegate.isIgnoreExchangeCompletedEvent());
+            setIgnoreExchangeFailedEvents(delegate.isIgnoreExchangeFailedEvents());
+            setIgnoreExchangeRedeliveryEvents(delegate.isIgnoreExchangeRedeliveryEvents());
+            setIgnoreExchangeSendingEvents(delegate.isIgnoreExchangeSendingEvents());
+            setIgnoreExchangeSentEvents(delegate.isIgnoreExchangeSentEvents());
+            setIgnoreStepEvents(delegate.isIgnoreStepEvents());
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return delegate.isEnabled(event);
+        }
+
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            Endpoint endpoint = null;
+            if (event instanceof CamelEvent.ExchangeSendingEvent) {
+                endpoint = ((CamelEvent.ExchangeSendingEvent) event).getEndpoint();
+            } else if (event instanceof CamelEvent.ExchangeSentEvent) {
+                endpoint = ((CamelEvent.ExchangeSentEvent) event).getEndpoint();
+            }
+            if (endpoint != null && isExcluded(endpoint.getCamelContext(), endpoint.getEndpointUri())) {
+                return;
+            }
+            delegate.notify(event);
+        }
+    }
+
+}
@@ -16,10 +16,20 @@
  */
 package org.apache.camel.opentelemetry.starter;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import org.apache.camel.CamelContext;
 import org.apache.camel.opentelemetry.OpenTelemetryTracer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -39,10 +49,11 @@ public class OpenTelemetryAutoConfiguration {
     @ConditionalOnMissingBean(OpenTelemetryTracer.class)
     OpenTelemetryTracer openTelemetryEventNotifier(CamelContext camelContext,
                                                  OpenTelemetryConfigurationProperties config) {
-        OpenTelemetryTracer ottracer = new OpenTelemetryTracer();
+        FilteringOpenTelemetryTracer ottracer = new FilteringOpenTelemetryTracer();
         if (tracer != null) {
             ottracer.setTracer(tracer);
         }
+        ottracer.setRouteSpansOnly(config.isRouteSpansOnly());
         if (config.getExcludePatterns() != null) {
             ottracer.setExcludePatterns(config.getExcludePatterns());
         }
@@ -53,4 +64,35 @@ public class OpenTelemetryAutoConfiguration {
 
         return ottracer;
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SdkTracerProvider.class)
+    @ConditionalOnBean(SpanExporter.class)
+    @ConditionalOnMissingBean(Tracer.class)
+    static class SdkTracerConfiguration {
+
+        @Bean(destroyMethod = "shutdown")
+        SdkTracerProvider openTelemetryTracerProvider(List<SpanExporter> exporters,
+                                                      OpenTelemetryConfigurationProperties config) {
+            OpenTelemetryConfigurationProperties.ExporterConfiguration exporter = config.getExporter();
+            // the spans are exported in batches from a bounded queue, so tracing does not hold up the routes
+            BatchSpanProcessor processor = BatchSpanProcessor.builder(SpanExporter.composite(exporters))
+                    .setMaxQueueSize(exporter.getMaxQueueSize())
+                    .setMaxExportBatchSize(exporter.getMaxExportBatchSize())
+                    .setScheduleDelay(exporter.getScheduleDelay(), TimeUnit.MILLISECONDS)
+                    .setExporterTimeout(exporter.getExporterTimeout(), TimeUnit.MILLISECONDS)
+                    .build();
+            SdkTracerProviderBuilder builder = SdkTracerProvider.builder().addSpanProcessor(processor);
+            if (config.getSamplingRatio() < 1.0d) {
+                // the root spans are sampled by the ratio, and the other spans follow the decision of their parent
+                builder.setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(config.getSamplingRatio())));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        Tracer openTelemetryTracer(SdkTracerProvider tracerProvider) {
+            return tracerProvider.get("camel");
+        }
+    }
 }
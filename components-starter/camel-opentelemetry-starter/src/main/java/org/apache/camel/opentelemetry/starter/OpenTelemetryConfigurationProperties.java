@@ -33,6 +33,24 @@ public class OpenTelemetryConfigurationProperties {
      * messaging
      */
     private Boolean encoding;
+    /**
+     * Whether to only create the spans of the routes, and not the spans of the
+     * messages sent to endpoints, which reduces the overhead of tracing.
+     */
+    private boolean routeSpansOnly;
+    /**
+     * The ratio of the traces to sample, between 0 and 1. The sampling decision
+     * is taken when the root span of a trace is started, and the other spans
+     * follow the decision of their parent. It is used by the tracer provider
+     * which is created when a span exporter is available in the registry and no
+     * tracer is configured.
+     */
+    private double samplingRatio = 1.0d;
+    /**
+     * Configuration of the batch span processor, which is used when a span
+     * exporter is available in the registry and no tracer is configured.
+     */
+    private ExporterConfiguration exporter = new ExporterConfiguration();
 
     public Set<String> getExcludePatterns() {
         return excludePatterns;
@@ -49,4 +67,81 @@ public class OpenTelemetryConfigurationProperties {
     public void setEncoding(Boolean encoding) {
         this.encoding = encoding;
     }
+
+    public boolean isRouteSpansOnly() {
+        return routeSpansOnly;
+    }
+
+    public void setRouteSpansOnly(boolean routeSpansOnly) {
+        this.routeSpansOnly = routeSpansOnly;
+    }
+
+    public double getSamplingRatio() {
+        return samplingRatio;
+    }
+
+    public void setSamplingRatio(double samplingRatio) {
+        this.samplingRatio = samplingRatio;
+    }
+
+    public ExporterConfiguration getExporter() {
+        return exporter;
+    }
+
+    public void setExporter(ExporterConfiguration exporter) {
+        this.exporter = exporter;
+    }
+
+    public static class ExporterConfiguration {
+
+        /**
+         * The maximum number of spans which are queued to be exported. The
+         * spans which are ended when the queue is full are dropped.
+         */
+        private int maxQueueSize = 2048;
+        /**
+         * The maximum number of spans which are exported in a batch.
+         */
+        private int maxExportBatchSize = 512;
+        /**
+         * The delay in millis between the exports of the batches of spans.
+         */
+        private long scheduleDelay = 5000;
+        /**
+         * The timeout in millis of an export of a batch of spans.
+         */
+        private long exporterTimeout = 30000;
+
+        public int getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        public void setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+        }
+
+        public int getMaxExportBatchSize() {
+            return maxExportBatchSize;
+        }
+
+        public void setMaxExportBatchSize(int maxExportBatchSize) {
+            this.maxExportBatchSize = maxExportBatchSize;
+        }
+
+        public long getScheduleDelay() {
+            return scheduleDelay;
+        }
+
+        public void setScheduleDelay(long scheduleDelay) {
+            this.scheduleDelay = scheduleDelay;
+        }
+
+        public long getExporterTimeout() {
+            return exporterTimeout;
+        }
+
+        public void setExporterTimeout(long exporterTimeout) {
+            this.exporterTimeout = exporterTimeout;
+        }
+    }
 }
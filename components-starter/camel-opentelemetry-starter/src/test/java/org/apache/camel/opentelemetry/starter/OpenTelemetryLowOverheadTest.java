@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.opentelemetry.starter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends many messages with the low overhead options, and logs the time taken to send them, as a rough benchmark of
+ * the overhead of tracing.
+ */
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(
+        classes = OpenTelemetryTestSupport.TestConfiguration.class,
+        properties = {"camel.opentelemetry.enabled=true",
+                      "camel.opentelemetry.route-spans-only=true",
+                      "camel.opentelemetry.sampling-ratio=0.1",
+                      "camel.opentelemetry.exporter.max-queue-size=10000"})
+public class OpenTelemetryLowOverheadTest extends OpenTelemetryTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OpenTelemetryLowOverheadTest.class);
+    private static final int MESSAGES = 10000;
+
+    @Test
+    public void testOnlySampledRouteSpansAreCreated() {
+        // warm up
+        for (int i = 0; i < 1000; i++) {
+            template.sendBody("direct:start", "Hello");
+        }
+        flush();
+        exporter.reset();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            template.sendBody("direct:start", "Hello");
+        }
+        long elapsed = System.nanoTime() - start;
+        flush();
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        LOG.info("Sent {} messages in {} millis ({} spans exported)", MESSAGES,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), spans.size());
+
+        // about one trace out of ten is sampled, with one span for each of the two routes
+        assertThat(spans.size() % 2).isZero();
+        assertThat(spans.size() / 2).isBetween(MESSAGES / 20, MESSAGES / 5);
+        assertThat(spans).noneMatch(span -> refersTo(span, "mock"));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.opentelemetry.starter;
+
+import java.util.List;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.apache.camel.opentelemetry.OpenTelemetryTracer;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(
+        classes = OpenTelemetryTestSupport.TestConfiguration.class,
+        properties = {"camel.opentelemetry.enabled=true",
+                      "camel.opentelemetry.route-spans-only=true"})
+public class OpenTelemetryRouteSpansOnlyTest extends OpenTelemetryTestSupport {
+
+    @Autowired
+    private OpenTelemetryTracer openTelemetryTracer;
+
+    @Test
+    public void testEventNotifierIgnoresSendingEvents() {
+        EventNotifier notifier = ((FilteringOpenTelemetryTracer) openTelemetryTracer).getTracingEventNotifier();
+        assertThat(notifier).isNotNull();
+        assertThat(notifier.getClass().getEnclosingClass()).isAssignableFrom(OpenTelemetryTracer.class);
+        assertThat(notifier.isIgnoreExchangeSendingEvents()).isTrue();
+        assertThat(notifier.isIgnoreExchangeSentEvents()).isTrue();
+        assertThat(camelContext.getManagementStrategy().getEventNotifiers()).contains(notifier);
+    }
+
+    @Test
+    public void testOnlySpansOfRoutesAreCreated() {
+        List<SpanData> spans = sendAndExport();
+        // one span for each of the two routes, and none for the message sent to the mock endpoint
+        assertThat(spans).hasSize(2);
+        assertThat(spans).noneMatch(span -> refersTo(span, "mock"));
+    }
+}
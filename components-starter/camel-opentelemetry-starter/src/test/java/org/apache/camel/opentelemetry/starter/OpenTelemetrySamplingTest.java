@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.opentelemetry.starter;
+
+import io.opentelemetry.api.trace.Tracer;
+import org.apache.camel.opentelemetry.OpenTelemetryTracer;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootTest(
+        classes = OpenTelemetryTestSupport.TestConfiguration.class,
+        properties = {"camel.opentelemetry.enabled=true",
+                      "camel.opentelemetry.sampling-ratio=0"})
+public class OpenTelemetrySamplingTest extends OpenTelemetryTestSupport {
+
+    @Autowired
+    private OpenTelemetryTracer openTelemetryTracer;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Test
+    public void testTracerOfTheSdkIsUsed() {
+        assertThat(openTelemetryTracer.getTracer()).isSameAs(tracer);
+    }
+
+    @Test
+    public void testTracerProviderSamplesByRatio() {
+        assertThat(tracerProvider.getSampler().getDescription()).contains("TraceIdRatioBased");
+    }
+
+    @Test
+    public void testTracesWhichAreNotSampledAreDropped() {
+        assertThat(sendAndExport()).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.opentelemetry.starter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sends the messages through two routes, and collects the spans exported by the batch span processor of the starter
+ * to an in memory exporter.
+ */
+public abstract class OpenTelemetryTestSupport {
+
+    @Autowired
+    protected CamelContext camelContext;
+
+    @Autowired
+    protected ProducerTemplate template;
+
+    @Autowired
+    protected InMemorySpanExporter exporter;
+
+    @Autowired
+    protected SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    public void resetExporter() {
+        flush();
+        exporter.reset();
+    }
+
+    protected List<SpanData> sendAndExport() {
+        template.sendBody("direct:start", "Hello");
+        flush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    protected void flush() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Whether the name or an attribute of the span refers to the given text, such as the scheme of an endpoint.
+     */
+    protected static boolean refersTo(SpanData span, String text) {
+        return span.getName().contains(text)
+                || span.getAttributes().asMap().values().stream().anyMatch(value -> value.toString().contains(text));
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+
+        @Bean
+        public InMemorySpanExporter spanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("start")
+                            .to("direct:sub");
+
+                    from("direct:sub").routeId("sub")
+                            .to("mock:end");
+                }
+            };
+        }
+    }
+}
@@ -16,9 +16,14 @@
  */
 package org.apache.camel.spring.boot.xml;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.BackgroundRoutesBuilderLoader;
 import org.apache.camel.spring.boot.TypeConversionConfiguration;
 import org.apache.camel.spring.xml.XmlCamelContextConfigurer;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -26,6 +31,7 @@ import org.springframework.context.annotation.Role;
 
 @Configuration(proxyBeanMethods = false)
 @Import(TypeConversionConfiguration.class)
+@EnableConfigurationProperties(CamelXmlConfigurationProperties.class)
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 public class CamelXmlAutoConfiguration {
 
@@ -38,4 +44,17 @@ public class CamelXmlAutoConfiguration {
         return new SpringBootXmlCamelContextConfigurer();
     }
 
+    /**
+     * The XML routes loader, which Camel looks up by name when loading XML routes files
+     */
+    // must be named routes-builder-loader-xml
+    @Bean(name = "routes-builder-loader-xml")
+    @ConditionalOnMissingBean(name = "routes-builder-loader-xml")
+    RoutesBuilderLoader xmlRoutesBuilderLoader(CamelContext camelContext, CamelXmlConfigurationProperties config) {
+        BackgroundRoutesBuilderLoader loader
+                = new BackgroundRoutesBuilderLoader(new SpringBootXmlRoutesBuilderLoader(), config.getRoutesParseParallelism());
+        loader.setCamelContext(camelContext);
+        return loader;
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dsl.xml.jaxb.JaxbXmlRoutesBuilderLoader;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplatesDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.xml.jaxb.JaxbHelper;
+
+/**
+ * The JAXB based XML routes loader used with Spring Boot, which parses each XML routes file only once (the default
+ * loader parses each file once for the route templates, rests and routes it may contain).
+ *
+ * The file is parsed when the routes builder is loaded, rather than when Camel adds its routes, so the files can be
+ * parsed in the background by a {@link org.apache.camel.spring.boot.BackgroundRoutesBuilderLoader} delegating to
+ * this loader.
+ */
+public class SpringBootXmlRoutesBuilderLoader extends JaxbXmlRoutesBuilderLoader {
+
+    @Override
+    public RouteBuilder doLoadRouteBuilder(Resource resource) throws Exception {
+        ParsedXml parsed = parse(getCamelContext(), resource);
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                if (parsed.templates != null) {
+                    setRouteTemplateCollection(parsed.templates);
+                }
+                if (parsed.rests != null) {
+                    setRestCollection(parsed.rests);
+                }
+                if (parsed.routes != null) {
+                    CamelContextAware.trySetCamelContext(getRouteCollection(), getCamelContext());
+                    for (RouteDefinition route : parsed.routes.getRoutes()) {
+                        getRouteCollection().route(route);
+                    }
+                }
+            }
+        };
+    }
+
+    static ParsedXml parse(CamelContext camelContext, Resource resource) throws Exception {
+        byte[] data;
+        try (InputStream is = resource.getInputStream()) {
+            data = is.readAllBytes();
+        }
+
+        ParsedXml answer = new ParsedXml();
+        String root = rootElementName(data);
+        if ("routes".equals(root) || "route".equals(root)) {
+            answer.routes = JaxbHelper.loadRoutesDefinition(camelContext, new ByteArrayInputStream(data));
+        } else if ("routeTemplates".equals(root) || "routeTemplate".equals(root)) {
+            answer.templates = JaxbHelper.loadRouteTemplatesDefinition(camelContext, new ByteArrayInputStream(data));
+        } else if ("rests".equals(root) || "rest".equals(root)) {
+            answer.rests = JaxbHelper.loadRestsDefinition(camelContext, new ByteArrayInputStream(data));
+        } else {
+            // unknown root element, so try all of them as the default loader does
+            answer.templates = JaxbHelper.loadRouteTemplatesDefinition(camelContext, new ByteArrayInputStream(data));
+            answer.rests = JaxbHelper.loadRestsDefinition(camelContext, new ByteArrayInputStream(data));
+            answer.routes = JaxbHelper.loadRoutesDefinition(camelContext, new ByteArrayInputStream(data));
+        }
+        return answer;
+    }
+
+    /**
+     * The local name of the root element of the XML document, or <tt>null</tt> if the document cannot be read.
+     */
+    static String rootElementName(byte[] data) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(new ByteArrayInputStream(data));
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader.getLocalName();
+                }
+            }
+        } catch (XMLStreamException e) {
+            // let JAXB report the invalid document
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+        return null;
+    }
+
+    static final class ParsedXml {
+        RouteTemplatesDefinition templates;
+        RestsDefinition rests;
+        RoutesDefinition routes;
+    }
+
+}
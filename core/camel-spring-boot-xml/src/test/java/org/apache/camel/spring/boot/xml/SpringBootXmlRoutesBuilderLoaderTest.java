@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.xml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.Model;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.BackgroundRoutesBuilderLoader;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(properties = {
+    "camel.springboot.routes-include-pattern = classpath:xml-routes/*.xml",
+    "camel.springboot.xml.routes-parse-parallelism = 2"
+})
+public class SpringBootXmlRoutesBuilderLoaderTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+    }
+
+    @Autowired
+    private CamelContext camel;
+
+    @Autowired
+    @Qualifier("routes-builder-loader-xml")
+    private RoutesBuilderLoader loader;
+
+    @Test
+    public void shouldLoadXmlRoutesAndTemplates() throws Exception {
+        assertThat(loader).isInstanceOf(BackgroundRoutesBuilderLoader.class);
+        assertThat(((BackgroundRoutesBuilderLoader) loader).getParallelism()).isEqualTo(2);
+
+        assertThat(camel.getRoute("foo")).isNotNull();
+        assertThat(camel.getRoute("bar")).isNotNull();
+        assertThat(camel.adapt(ExtendedCamelContext.class).getExtension(Model.class).getRouteTemplateDefinition("greeter")).isNotNull();
+
+        camel.addRouteFromTemplate("greeter-world", "greeter", Collections.singletonMap("name", "world"));
+        MockEndpoint mock = camel.getEndpoint("mock:greeter", MockEndpoint.class);
+        mock.expectedBodiesReceived("Hello World");
+        ProducerTemplate template = camel.createProducerTemplate();
+        template.sendBody("direct:world", "World");
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void shouldDetectRootElement() {
+        assertThat(SpringBootXmlRoutesBuilderLoader.rootElementName(
+            "<?xml version=\"1.0\"?><!-- comment --><routes xmlns=\"http://camel.apache.org/schema/spring\"/>"
+                .getBytes(StandardCharsets.UTF_8))).isEqualTo("routes");
+        assertThat(SpringBootXmlRoutesBuilderLoader.rootElementName("not xml".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+}
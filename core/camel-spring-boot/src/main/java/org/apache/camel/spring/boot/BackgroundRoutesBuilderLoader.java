@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A {@link RoutesBuilderLoader} which loads the routes files of a DSL in the background, by delegating to the routes
+ * loader of the DSL on a thread pool.
+ *
+ * The routes files are loaded (such as parsed) concurrently as soon as they are discovered, while Camel adds the
+ * routes from the files which are already loaded. The routes loader of the DSL must be able to load several files
+ * concurrently. When the parallelism is 1 (or less), the files are loaded by the DSL one by one as usual.
+ *
+ * To use this loader, register it in the registry with the name Camel uses for looking up the routes loader of the
+ * DSL, such as <tt>routes-builder-loader-yaml</tt>.
+ */
+public class BackgroundRoutesBuilderLoader extends ServiceSupport implements RoutesBuilderLoader {
+
+    private final String extension;
+    private final int parallelism;
+    private CamelContext camelContext;
+    private RoutesBuilderLoader delegate;
+    private ExecutorService executorService;
+
+    /**
+     * Creates a loader which delegates to the routes loader of the DSL for the given file extension.
+     */
+    public BackgroundRoutesBuilderLoader(String extension, int parallelism) {
+        this.extension = extension;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a loader which delegates to the given routes loader.
+     */
+    public BackgroundRoutesBuilderLoader(RoutesBuilderLoader delegate, int parallelism) {
+        this.extension = delegate.getSupportedExtension();
+        this.delegate = delegate;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public String getSupportedExtension() {
+        return extension;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+        RoutesBuilderLoader loader = getDelegate();
+        if (parallelism <= 1) {
+            return loader.loadRoutesBuilder(resource);
+        }
+        Future<RoutesBuilder> future = getExecutorService().submit(() -> loader.loadRoutesBuilder(resource));
+        return new DeferredRoutesBuilder(resource.getLocation(), () -> {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        });
+    }
+
+    private synchronized RoutesBuilderLoader getDelegate() throws Exception {
+        if (delegate == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            // the routes loader of the DSL which Camel would otherwise use
+            delegate = camelContext.adapt(ExtendedCamelContext.class)
+                    .getBootstrapFactoryFinder(RoutesBuilderLoader.FACTORY_PATH)
+                    .newInstance(extension, RoutesBuilderLoader.class)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Cannot find RoutesBuilderLoader in classpath supporting file extension: " + extension));
+        }
+        if (delegate.getCamelContext() == null) {
+            delegate.setCamelContext(camelContext);
+        }
+        ServiceHelper.startService(delegate);
+        return delegate;
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            // the threads are only kept alive while there are files to load
+            String name = "RoutesLoader-" + extension;
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this, name,
+                    new ThreadPoolProfileBuilder(name)
+                            .poolSize(parallelism).maxPoolSize(parallelism)
+                            .keepAliveTime(1L).allowCoreThreadTimeOut(true).build());
+        }
+        return executorService;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        ServiceHelper.stopService(delegate);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * An {@link ApplicationContextBeanRepository} which caches the singleton beans found by type and looked up by name,
+ * so repeated lookups (such as bean binding, autowiring and #type: references) do not scan the
+ * {@link ApplicationContext} every time.
+ *
+ * The cache is in use after the {@link ApplicationContext} has been refreshed, and is invalidated when the
+ * {@link ApplicationContext} is refreshed or closed, or by {@link #clear()}. Beans registered or removed at runtime
+ * are not detected, which is why the cache is not enabled by default. Lookups which include non-singleton beans are
+ * never cached.
+ */
+public class CachingApplicationContextBeanRepository extends ApplicationContextBeanRepository
+        implements ApplicationListener<ApplicationContextEvent> {
+
+    private final ApplicationContext applicationContext;
+    private final Map<Class<?>, Map<String, ?>> typeCache = new ConcurrentHashMap<>();
+    private final Map<String, Object> nameCache = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    // incremented when the cache is cleared, so beans looked up before are not cached afterwards
+    private volatile long generation;
+
+    public CachingApplicationContextBeanRepository(ApplicationContext applicationContext) {
+        super(applicationContext);
+        this.applicationContext = applicationContext;
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener(this);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationContextEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        if (event instanceof ContextRefreshedEvent) {
+            clear();
+            enabled = true;
+        } else if (event instanceof ContextClosedEvent) {
+            enabled = false;
+            clear();
+        }
+    }
+
+    @Override
+    public Object lookupByName(String name) {
+        long gen = generation;
+        Object answer = enabled ? nameCache.get(name) : null;
+        if (answer == null) {
+            answer = super.lookupByName(name);
+            if (answer != null) {
+                cacheByName(gen, name, answer);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public <T> T lookupByNameAndType(String name, Class<T> type) {
+        long gen = generation;
+        Object answer = enabled ? nameCache.get(name) : null;
+        if (type.isInstance(answer)) {
+            return type.cast(answer);
+        }
+        T bean = super.lookupByNameAndType(name, type);
+        if (bean != null) {
+            cacheByName(gen, name, bean);
+        }
+        return bean;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> findByTypeWithName(Class<T> type) {
+        long gen = generation;
+        if (!enabled) {
+            return super.findByTypeWithName(type);
+        }
+
+        Map<String, ?> answer = typeCache.get(type);
+        if (answer == null) {
+            Map<String, T> beans = super.findByTypeWithName(type);
+            if (!isSingletons(beans.keySet())) {
+                return beans;
+            }
+            answer = Collections.unmodifiableMap(new LinkedHashMap<>(beans));
+            // do not cache beans found before the cache was cleared
+            if (enabled && gen == generation) {
+                typeCache.put(type, answer);
+                if (gen != generation) {
+                    typeCache.remove(type, answer);
+                }
+            }
+        }
+        return (Map<String, T>) answer;
+    }
+
+    /**
+     * Clears the cached beans.
+     */
+    public synchronized void clear() {
+        generation++;
+        typeCache.clear();
+        nameCache.clear();
+    }
+
+    /**
+     * Number of types with cached beans.
+     */
+    public int getTypeCacheSize() {
+        return typeCache.size();
+    }
+
+    /**
+     * Number of cached beans by name.
+     */
+    public int getNameCacheSize() {
+        return nameCache.size();
+    }
+
+    private void cacheByName(long gen, String name, Object bean) {
+        if (enabled && gen == generation && isSingleton(name)) {
+            nameCache.put(name, bean);
+            if (gen != generation) {
+                nameCache.remove(name, bean);
+            }
+        }
+    }
+
+    private boolean isSingletons(Collection<String> names) {
+        for (String name : names) {
+            if (!isSingleton(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSingleton(String name) {
+        try {
+            return applicationContext.isSingleton(name);
+        } catch (NoSuchBeanDefinitionException e) {
+            return false;
+        }
+    }
+
+}
@@ -32,10 +32,14 @@ import org.apache.camel.main.DefaultConfigurationConfigurer;
 import org.apache.camel.main.RoutesCollector;
 import org.apache.camel.model.Model;
 import org.apache.camel.spi.BeanRepository;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spring.boot.streamcaching.SpringBootStreamCachingStrategy;
 import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
 import org.apache.camel.spring.spi.CamelBeanPostProcessor;
 import org.apache.camel.support.DefaultRegistry;
+import org.apache.camel.support.RouteWatcherReloadStrategy;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.startup.LoggingStartupStepRecorder;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -102,17 +106,23 @@ public class CamelAutoConfiguration {
             camelContext.setPropertiesComponent(pc);
         }
 
+        final BeanRepository springRepository = config.isBeanRepositoryCacheEnabled()
+                ? new CachingApplicationContextBeanRepository(applicationContext)
+                : new ApplicationContextBeanRepository(applicationContext);
         final Map<String, BeanRepository> repositories = applicationContext.getBeansOfType(BeanRepository.class);
         if (!repositories.isEmpty()) {
             List<BeanRepository> reps = new ArrayList<>();
             // include default bean repository as well
-            reps.add(new ApplicationContextBeanRepository(applicationContext));
+            reps.add(springRepository);
             // and then any custom
             reps.addAll(repositories.values());
             // sort by ordered
             OrderComparator.sort(reps);
             // and plugin as new registry
             camelContext.adapt(ExtendedCamelContext.class).setRegistry(new DefaultRegistry(reps));
+        } else if (config.isBeanRepositoryCacheEnabled()) {
+            // use the caching bean repository instead of the default from SpringCamelContext
+            camelContext.adapt(ExtendedCamelContext.class).setRegistry(new DefaultRegistry(springRepository));
         }
 
         if (ObjectHelper.isNotEmpty(config.getFileConfigurations())) {
@@ -133,8 +143,16 @@ public class CamelAutoConfiguration {
             camelContext.getExtension(Model.class).setRouteFilterPattern(config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
         }
 
+        // use the configured stream caching spool strategy (before the stream caching options are configured)
+        configureStreamCachingStrategy(camelContext, config);
+        // start and stop the routes concurrently (before the shutdown options are configured)
+        configureRouteParallelism(camelContext, config);
         // configure the common/default options
         DefaultConfigurationConfigurer.configure(camelContext, config);
+        // keep track of the processor exchange factories so their pool statistics can be exposed
+        configureExchangeFactoryTracking(camelContext, config);
+        // only reload the changed routes
+        configureRoutesReloadIncremental(camelContext, config);
         // lookup and configure SPI beans
         DefaultConfigurationConfigurer.afterConfigure(camelContext);
         // and call after all properties are set
@@ -143,6 +161,54 @@ public class CamelAutoConfiguration {
         return camelContext;
     }
 
+    static void configureStreamCachingStrategy(CamelContext camelContext, CamelConfigurationProperties config) {
+        String strategy = config.getStreamCachingSpoolStrategy();
+        // also in use with the default strategy to gather the additional statistics
+        if ((strategy != null && !SpringBootStreamCachingStrategy.DEFAULT.equals(strategy))
+                || config.isStreamCachingStatisticsEnabled()) {
+            camelContext.setStreamCachingStrategy(new SpringBootStreamCachingStrategy(
+                    strategy != null ? strategy : SpringBootStreamCachingStrategy.DEFAULT,
+                    config.getStreamCachingOffHeapCapacity(), config.getStreamCachingSpoolChunkSize()));
+        }
+        // statistics is not configured by camel-main
+        if (config.isStreamCachingStatisticsEnabled()) {
+            camelContext.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        }
+    }
+
+    static void configureRouteParallelism(CamelContext camelContext, CamelConfigurationProperties config) throws Exception {
+        if (config.getRouteStartupParallelism() > 1) {
+            camelContext.addStartupListener(new ParallelRouteStartupListener(config.getRouteStartupParallelism()));
+        }
+        if (config.getRouteShutdownParallelism() > 1) {
+            camelContext.setShutdownStrategy(new ParallelShutdownStrategy(camelContext, config.getRouteShutdownParallelism()));
+        }
+    }
+
+    static void configureRoutesReloadIncremental(CamelContext camelContext, CamelConfigurationProperties config) throws Exception {
+        if (config.isRoutesReloadEnabled() && config.isRoutesReloadIncremental()) {
+            // replace the routes reload strategy configured by camel-main
+            RouteWatcherReloadStrategy reload = camelContext.hasService(RouteWatcherReloadStrategy.class);
+            if (reload != null && !(reload instanceof IncrementalRouteWatcherReloadStrategy)) {
+                camelContext.removeService(reload);
+                IncrementalRouteWatcherReloadStrategy incremental
+                        = new IncrementalRouteWatcherReloadStrategy(reload.getFolder(), reload.isRecursive());
+                incremental.setPattern(reload.getPattern());
+                camelContext.addService(incremental);
+            }
+        }
+    }
+
+    static void configureExchangeFactoryTracking(CamelContext camelContext, CamelConfigurationProperties config) {
+        if ("pooled".equals(config.getExchangeFactory()) || config.isExchangeFactoryStatisticsEnabled()) {
+            ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+            ProcessorExchangeFactory factory = ecc.getProcessorExchangeFactory();
+            if (factory != null && !(factory instanceof TrackingProcessorExchangeFactory)) {
+                ecc.setProcessorExchangeFactory(new TrackingProcessorExchangeFactory(factory));
+            }
+        }
+    }
+
     static void configureStartupRecorder(CamelContext camelContext, CamelConfigurationProperties config) {
         if ("false".equals(config.getStartupRecorder())) {
             camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder().setEnabled(false);
@@ -217,7 +283,10 @@ public class CamelAutoConfiguration {
     @Lazy
     ProducerTemplate producerTemplate(CamelContext camelContext,
                                       CamelConfigurationProperties config) throws Exception {
-        final ProducerTemplate producerTemplate = camelContext.createProducerTemplate(config.getProducerTemplateCacheSize());
+        final SpringBootProducerTemplate producerTemplate = new SpringBootProducerTemplate(camelContext,
+                new TemplateEndpointCache(config.getTemplateEndpointCache(), config.getProducerTemplateCacheSize()));
+        producerTemplate.setMaximumCacheSize(config.getProducerTemplateCacheSize());
+        ServiceHelper.startService(producerTemplate);
         // we add this producerTemplate as a Service to CamelContext so that it performs proper lifecycle (start and stop)
         camelContext.addService(producerTemplate);
         return producerTemplate;
@@ -237,7 +306,10 @@ public class CamelAutoConfiguration {
     @Lazy
     ConsumerTemplate consumerTemplate(CamelContext camelContext,
                                       CamelConfigurationProperties config) throws Exception {
-        final ConsumerTemplate consumerTemplate = camelContext.createConsumerTemplate(config.getConsumerTemplateCacheSize());
+        final SpringBootConsumerTemplate consumerTemplate = new SpringBootConsumerTemplate(camelContext,
+                new TemplateEndpointCache(config.getTemplateEndpointCache(), config.getConsumerTemplateCacheSize()));
+        consumerTemplate.setMaximumCacheSize(config.getConsumerTemplateCacheSize());
+        ServiceHelper.startService(consumerTemplate);
         // we add this consumerTemplate as a Service to CamelContext so that it performs proper lifecycle (start and stop)
         camelContext.addService(consumerTemplate);
         return consumerTemplate;
@@ -50,6 +50,82 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether to cache the singleton beans which Camel finds by type or looks up by name in the Spring
+     * ApplicationContext, such as for bean binding, autowiring and #type: references.
+     *
+     * The cache is in use after the ApplicationContext has been refreshed, and is invalidated when the
+     * ApplicationContext is refreshed or closed. Beans which are registered or removed at runtime, after the
+     * ApplicationContext has been refreshed, are therefore not seen by Camel while cached, so only enable the cache
+     * when the beans do not change at runtime. Non-singleton beans are never cached.
+     */
+    private boolean beanRepositoryCacheEnabled;
+
+    /**
+     * The strategy to use when stream caching spools large message bodies out of the heap.
+     *
+     * The default strategy spools to temporary files using regular streams. Use off-heap to spool to an arena
+     * of direct (off-heap) buffers with a hard capacity, or memory-mapped to spool to temporary files that are
+     * memory-mapped when being read. The spooled data is released when the exchange is done.
+     *
+     * The off-heap and memory-mapped strategies are not in use if a stream caching spool cipher has been configured.
+     */
+    private String streamCachingSpoolStrategy = "default";
+
+    /**
+     * The hard capacity in bytes of the direct buffer arena in use by the off-heap stream caching spool strategy.
+     * If the arena is exhausted, then the message body is spooled to a temporary file instead.
+     *
+     * The default capacity is 256mb.
+     */
+    private long streamCachingOffHeapCapacity = 268435456;
+
+    /**
+     * The size in bytes of the buffers used by the off-heap and memory-mapped stream caching spool strategies.
+     *
+     * The default size is 1mb.
+     */
+    private int streamCachingSpoolChunkSize = 1048576;
+
+    /**
+     * Whether routes reloading should only reload the routes that are changed.
+     *
+     * When a routes resource is changed, then its routes are compared (by route id and checksum) with the running
+     * routes, and only the routes that are changed are stopped, updated and started again. All the other routes keep
+     * running. Routes without ids cannot be compared, and then all the routes from the resource are reloaded.
+     * The routesReloadRemoveAllRoutes option is not in use when this is enabled.
+     */
+    private boolean routesReloadIncremental;
+
+    /**
+     * The number of routes which are started concurrently when Camel is starting up.
+     *
+     * Routes with an explicit startupOrder are started one at a time (in their order) before the other routes,
+     * which are started concurrently. This can speed up startup when having many routes whose consumers are slow to
+     * start, such as when connecting to message brokers. The default is 1, to start the routes one by one.
+     */
+    private int routeStartupParallelism = 1;
+
+    /**
+     * The number of routes whose consumers are stopped concurrently when Camel is shutting down.
+     *
+     * Routes with an explicit startupOrder are stopped one at a time (in the order as configured by
+     * shutdownRoutesInReverseOrder) and the other routes are stopped concurrently. Graceful shutdown of the inflight
+     * exchanges (shutdownTimeout) is in use as usual. The default is 1, to stop the routes one by one.
+     */
+    private int routeShutdownParallelism = 1;
+
+    /**
+     * How the auto-configured producer and consumer templates cache the endpoints they resolve by uri.
+     *
+     * With none, the endpoints are resolved by Camel on every send and receive. Use shared to cache the endpoints
+     * in a concurrent LRU cache shared by all threads, or thread-local to cache the endpoints in a LRU cache per
+     * thread. Only the endpoint lookup is cached per thread, the producers are cached by the producer cache of the
+     * template. The caches are bounded by producerTemplateCacheSize and consumerTemplateCacheSize. The cache
+     * statistics are exposed by the cameltemplates actuator endpoint and as Micrometer metrics.
+     */
+    private String templateEndpointCache = "none";
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -855,4 +931,67 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public String getStreamCachingSpoolStrategy() {
+        return streamCachingSpoolStrategy;
+    }
+
+    public void setStreamCachingSpoolStrategy(String streamCachingSpoolStrategy) {
+        this.streamCachingSpoolStrategy = streamCachingSpoolStrategy;
+    }
+
+    public long getStreamCachingOffHeapCapacity() {
+        return streamCachingOffHeapCapacity;
+    }
+
+    public void setStreamCachingOffHeapCapacity(long streamCachingOffHeapCapacity) {
+        this.streamCachingOffHeapCapacity = streamCachingOffHeapCapacity;
+    }
+
+    public int getStreamCachingSpoolChunkSize() {
+        return streamCachingSpoolChunkSize;
+    }
+
+    public void setStreamCachingSpoolChunkSize(int streamCachingSpoolChunkSize) {
+        this.streamCachingSpoolChunkSize = streamCachingSpoolChunkSize;
+    }
+
+    public boolean isRoutesReloadIncremental() {
+        return routesReloadIncremental;
+    }
+
+    public void setRoutesReloadIncremental(boolean routesReloadIncremental) {
+        this.routesReloadIncremental = routesReloadIncremental;
+    }
+
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
+    public int getRouteShutdownParallelism() {
+        return routeShutdownParallelism;
+    }
+
+    public void setRouteShutdownParallelism(int routeShutdownParallelism) {
+        this.routeShutdownParallelism = routeShutdownParallelism;
+    }
+
+    public boolean isBeanRepositoryCacheEnabled() {
+        return beanRepositoryCacheEnabled;
+    }
+
+    public void setBeanRepositoryCacheEnabled(boolean beanRepositoryCacheEnabled) {
+        this.beanRepositoryCacheEnabled = beanRepositoryCacheEnabled;
+    }
+
+    public String getTemplateEndpointCache() {
+        return templateEndpointCache;
+    }
+
+    public void setTemplateEndpointCache(String templateEndpointCache) {
+        this.templateEndpointCache = templateEndpointCache;
+    }
 }
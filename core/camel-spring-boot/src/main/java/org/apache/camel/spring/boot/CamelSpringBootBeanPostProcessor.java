@@ -16,15 +16,86 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.spring.spi.CamelBeanPostProcessor;
+import org.apache.camel.support.DefaultEndpoint;
+import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 
 public final class CamelSpringBootBeanPostProcessor extends CamelBeanPostProcessor {
 
+    // whether the bean classes have any Camel annotations, so the beans without can be skipped
+    private final Map<Class<?>, Boolean> annotatedClasses = new ConcurrentHashMap<>();
+
     public CamelSpringBootBeanPostProcessor(ApplicationContext applicationContext) {
         setApplicationContext(applicationContext);
         // do not support @BindToRegistry as spring boot has its own set of annotations for this
         setBindToRegistrySupported(false);
     }
 
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof CamelContextAware || isAnnotated(bean.getClass())) {
+            return super.postProcessBeforeInitialization(bean, beanName);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        // only endpoints are post processed after initialization
+        if (bean instanceof DefaultEndpoint) {
+            return super.postProcessAfterInitialization(bean, beanName);
+        }
+        return bean;
+    }
+
+    private boolean isAnnotated(Class<?> type) {
+        return annotatedClasses.computeIfAbsent(type, CamelSpringBootBeanPostProcessor::hasCamelAnnotations);
+    }
+
+    /**
+     * Whether the class (or its super classes) has any Camel annotations on the class, its fields or methods, such as
+     * {@link org.apache.camel.EndpointInject}, {@link org.apache.camel.Produce}, {@link org.apache.camel.Consume} and
+     * {@link org.apache.camel.PropertyInject}.
+     */
+    static boolean hasCamelAnnotations(Class<?> type) {
+        try {
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                if (hasCamelAnnotation(clazz.getDeclaredAnnotations())) {
+                    return true;
+                }
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (hasCamelAnnotation(field.getDeclaredAnnotations())) {
+                        return true;
+                    }
+                }
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (hasCamelAnnotation(method.getDeclaredAnnotations())) {
+                        return true;
+                    }
+                }
+            }
+        } catch (LinkageError e) {
+            // the class cannot be introspected, so let Camel post process the bean as usual
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean hasCamelAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith("org.apache.camel.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
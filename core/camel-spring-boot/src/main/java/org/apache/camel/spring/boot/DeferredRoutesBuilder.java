@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RouteConfigurationsBuilder;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.spi.CamelBeanPostProcessor;
+
+/**
+ * A {@link RoutesBuilder} whose actual routes builder is only created when Camel adds the routes, such as the routes
+ * of a routes file which is loaded in the background, or compiled together with other routes files.
+ *
+ * The created routes builder is post processed by the Camel bean post processor, as Camel does with the routes
+ * builders it discovers.
+ */
+public class DeferredRoutesBuilder implements RoutesBuilder, RouteConfigurationsBuilder {
+
+    private final String name;
+    private final Callable<RoutesBuilder> factory;
+    private RoutesBuilder builder;
+
+    /**
+     * @param name    the name of the routes (such as the location of the routes file)
+     * @param factory to create the routes builder
+     */
+    public DeferredRoutesBuilder(String name, Callable<RoutesBuilder> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    @Override
+    public void addRouteConfigurationsToCamelContext(CamelContext context) throws Exception {
+        RoutesBuilder answer = getRoutesBuilder(context);
+        if (answer instanceof RouteConfigurationsBuilder) {
+            ((RouteConfigurationsBuilder) answer).addRouteConfigurationsToCamelContext(context);
+        }
+    }
+
+    @Override
+    public void addRoutesToCamelContext(CamelContext context) throws Exception {
+        getRoutesBuilder(context).addRoutesToCamelContext(context);
+    }
+
+    @Override
+    public Set<String> updateRoutesToCamelContext(CamelContext context) throws Exception {
+        return getRoutesBuilder(context).updateRoutesToCamelContext(context);
+    }
+
+    /**
+     * Gets the routes builder, creating it on first use.
+     */
+    public synchronized RoutesBuilder getRoutesBuilder(CamelContext context) throws Exception {
+        if (builder == null) {
+            RoutesBuilder answer = factory.call();
+            // the routes builder was not post processed by Camel, as it was not created yet
+            CamelBeanPostProcessor processor = context.adapt(ExtendedCamelContext.class).getBeanPostProcessor();
+            if (processor != null) {
+                String beanName = answer.getClass().getName();
+                processor.postProcessBeforeInitialization(answer, beanName);
+                processor.postProcessAfterInitialization(answer, beanName);
+            }
+            builder = answer;
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredRoutesBuilder[" + name + "]";
+    }
+
+}
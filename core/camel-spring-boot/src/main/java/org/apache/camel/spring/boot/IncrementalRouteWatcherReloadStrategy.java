@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ChoiceDefinition;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.OptionalIdentifiedDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.EventHelper;
+import org.apache.camel.support.RouteWatcherReloadStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RouteWatcherReloadStrategy} which only reloads the routes that are changed.
+ *
+ * When a routes resource is changed, then its route definitions are compared (by route id and checksum) with the
+ * running routes from the same resource. Only the routes that are changed are stopped (graceful, so their inflight
+ * exchanges are completed), updated and started again, and all the other routes keep running. New routes are added,
+ * and routes no longer in the resource are removed.
+ *
+ * Resources which cannot be compared, such as routes without ids, or with rests, route templates, or global error
+ * handling and interceptors, are reloaded the same way as by {@link RouteWatcherReloadStrategy}.
+ */
+public class IncrementalRouteWatcherReloadStrategy extends RouteWatcherReloadStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalRouteWatcherReloadStrategy.class);
+
+    public IncrementalRouteWatcherReloadStrategy(String directory, boolean recursive) {
+        super(directory, recursive);
+        setRemoveAllRoutes(false);
+    }
+
+    @Override
+    protected synchronized void onRouteReload(Resource resource) {
+        List<RouteDefinition> definitions;
+        try {
+            definitions = resource.exists() ? parseRoutes(resource) : new ArrayList<>();
+        } catch (Exception e) {
+            incFailedCounter();
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+        if (definitions == null) {
+            LOG.debug("Cannot compare routes from resource: {}. Reloading all its routes.", resource.getLocation());
+            super.onRouteReload(resource);
+            return;
+        }
+
+        try {
+            doReloadRoutes(resource, definitions);
+            incSucceededCounter();
+        } catch (Exception e) {
+            incFailedCounter();
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+    }
+
+    protected void doReloadRoutes(Resource resource, List<RouteDefinition> definitions) throws Exception {
+        CamelContext camelContext = getCamelContext();
+        Model model = camelContext.getExtension(Model.class);
+
+        Set<String> existing = new LinkedHashSet<>();
+        for (Route route : camelContext.getRoutes()) {
+            if (route.getSourceResource() != null && equalLocation(route.getSourceResource(), resource)) {
+                existing.add(route.getRouteId());
+            }
+        }
+
+        Map<String, RouteDefinition> changed = new LinkedHashMap<>();
+        int unchanged = 0;
+        for (RouteDefinition definition : definitions) {
+            RouteDefinition current = model.getRouteDefinition(definition.getRouteId());
+            if (current != null && checksum(current) == checksum(definition)) {
+                unchanged++;
+            } else {
+                changed.put(definition.getRouteId(), definition);
+            }
+        }
+        Set<String> removed = new LinkedHashSet<>(existing);
+        definitions.forEach(d -> removed.remove(d.getRouteId()));
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            LOG.info("Routes from resource: {} are unchanged", resource.getLocation());
+            return;
+        }
+
+        // only stop the routes which are changed, and let the graceful shutdown complete their inflight exchanges
+        Set<String> stop = new LinkedHashSet<>(removed);
+        changed.keySet().stream().filter(id -> camelContext.getRoute(id) != null).forEach(stop::add);
+        for (String id : stop) {
+            camelContext.getRouteController().stopRoute(id);
+            // remove the route definition together with the route, so the model is in sync with the routes
+            RouteDefinition definition = model.getRouteDefinition(id);
+            if (definition != null) {
+                model.removeRouteDefinition(definition);
+            } else {
+                camelContext.removeRoute(id);
+            }
+        }
+        // add the changed routes, which are started if CamelContext is started
+        model.addRouteDefinitions(changed.values());
+
+        LOG.info("Routes reloaded from resource: {} (total:{} unchanged:{} updated:{} removed:{})",
+                resource.getLocation(), definitions.size(), unchanged, changed.size(), removed.size());
+
+        int index = 1;
+        for (String id : changed.keySet()) {
+            Route route = camelContext.getRoute(id);
+            if (route != null) {
+                EventHelper.notifyRouteReloaded(camelContext, route, index++, changed.size());
+            }
+        }
+    }
+
+    /**
+     * Parses the route definitions from the resource, without adding them to CamelContext.
+     *
+     * @return the route definitions, or <tt>null</tt> if the resource cannot be compared with the running routes
+     */
+    protected List<RouteDefinition> parseRoutes(Resource resource) throws Exception {
+        ExtendedCamelContext ecc = getCamelContext().adapt(ExtendedCamelContext.class);
+        Collection<RoutesBuilder> builders = ecc.getRoutesLoader().findRoutesBuilders(resource);
+
+        List<RouteDefinition> answer = new ArrayList<>();
+        for (RoutesBuilder builder : builders) {
+            if (!(builder instanceof RouteBuilder)) {
+                return null;
+            }
+            RouteBuilder rb = (RouteBuilder) builder;
+            rb.setCamelContext(getCamelContext());
+            rb.configure();
+
+            RoutesDefinition routes = rb.getRouteCollection();
+            if (!rb.getRestCollection().getRests().isEmpty()
+                    || !rb.getRouteTemplateCollection().getRouteTemplates().isEmpty()
+                    || !routes.getOnExceptions().isEmpty() || !routes.getOnCompletions().isEmpty()
+                    || !routes.getIntercepts().isEmpty() || !routes.getInterceptFroms().isEmpty()
+                    || !routes.getInterceptSendTos().isEmpty()) {
+                return null;
+            }
+            for (RouteDefinition definition : routes.getRoutes()) {
+                if (!definition.hasCustomIdAssigned()) {
+                    // generated route ids cannot be compared
+                    return null;
+                }
+                definition.setResource(rb.getResource() != null ? rb.getResource() : resource);
+                answer.add(definition);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Computes the checksum of the route definition, from its XML representation without the generated ids.
+     *
+     * The ids generated when the route was added are cleared while the route definition is dumped, and then restored,
+     * so the route definitions in use are compared with the parsed route definitions, which have no generated ids.
+     */
+    protected long checksum(RouteDefinition definition) throws Exception {
+        Map<OptionalIdentifiedDefinition<?>, String> generated = new IdentityHashMap<>();
+        collectGeneratedIds(definition.getInput(), generated);
+        collectGeneratedIds(definition, generated);
+
+        String xml;
+        ExtendedCamelContext ecc = getCamelContext().adapt(ExtendedCamelContext.class);
+        generated.keySet().forEach(node -> node.setGeneratedId(null));
+        try {
+            xml = ecc.getModelToXMLDumper().dumpModelAsXml(getCamelContext(), definition);
+        } finally {
+            generated.forEach(OptionalIdentifiedDefinition::setGeneratedId);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(xml.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static void collectGeneratedIds(
+            OptionalIdentifiedDefinition<?> node, Map<OptionalIdentifiedDefinition<?>, String> generated) {
+        if (node == null || generated.containsKey(node)) {
+            return;
+        }
+        if (node.getId() != null && !node.hasCustomIdAssigned()) {
+            generated.put(node, node.getId());
+        }
+        if (node instanceof ChoiceDefinition) {
+            // the when and otherwise clauses are not outputs of the choice
+            ChoiceDefinition choice = (ChoiceDefinition) node;
+            choice.getWhenClauses().forEach(when -> collectGeneratedIds(when, generated));
+            collectGeneratedIds(choice.getOtherwise(), generated);
+        }
+        if (node instanceof ProcessorDefinition) {
+            for (ProcessorDefinition<?> output : ((ProcessorDefinition<?>) node).getOutputs()) {
+                collectGeneratedIds(output, generated);
+            }
+        }
+    }
+
+    private static boolean equalLocation(Resource source, Resource target) {
+        // the routes may have been loaded from the classpath, and the changed resource is from the file system
+        String loc1 = stripScheme(source.getLocation());
+        String loc2 = stripScheme(target.getLocation());
+        return loc1.equals(loc2) || loc1.endsWith("/" + loc2) || loc2.endsWith("/" + loc1);
+    }
+
+    private static String stripScheme(String location) {
+        String answer = location.replace('\\', '/');
+        int pos = answer.indexOf(':');
+        // keep windows drive letters
+        if (pos > 1) {
+            answer = answer.substring(pos + 1);
+        }
+        while (answer.startsWith("/")) {
+            answer = answer.substring(1);
+        }
+        return answer;
+    }
+
+}
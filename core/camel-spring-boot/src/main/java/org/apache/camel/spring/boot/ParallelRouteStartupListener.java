@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.Route;
+import org.apache.camel.StartupListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link StartupListener} which starts the routes concurrently when Camel is starting up.
+ *
+ * Camel is started without starting the routes (as if auto startup was disabled), and the routes are then started
+ * through the {@link org.apache.camel.spi.RouteController} from a thread pool, once Camel has been started. Routes
+ * with an explicit startup order are started one at a time (in their order) before the other routes, which are
+ * started concurrently. The routes which are not auto started are not started.
+ */
+public class ParallelRouteStartupListener implements StartupListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelRouteStartupListener.class);
+
+    private final int parallelism;
+    private volatile boolean deferred;
+
+    public ParallelRouteStartupListener(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void onCamelContextStarting(CamelContext context, boolean alreadyStarted) throws Exception {
+        // only when starting up, as routes started later are started one at a time
+        if (alreadyStarted || parallelism <= 1 || !context.isAutoStartup()) {
+            return;
+        }
+
+        // the routes are started once Camel has been started
+        context.setAutoStartup(false);
+        deferred = true;
+    }
+
+    @Override
+    public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        // noop
+    }
+
+    @Override
+    public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        if (!deferred) {
+            return;
+        }
+        deferred = false;
+        context.setAutoStartup(true);
+
+        List<Route> routes = new ArrayList<>();
+        for (Route route : context.getRoutes()) {
+            if (!Boolean.FALSE.equals(route.isAutoStartup())
+                    && context.getRouteController().getRouteStatus(route.getId()).isStartable()) {
+                routes.add(route);
+            }
+        }
+
+        LOG.debug("Starting {} routes (parallelism: {})", routes.size(), parallelism);
+        ExecutorService executor = context.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", parallelism);
+        try {
+            for (List<Route> group : groupByStartupOrder(routes, false)) {
+                startRoutes(context, executor, group);
+            }
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    private static void startRoutes(CamelContext context, ExecutorService executor, List<Route> routes) throws Exception {
+        Map<Route, Future<?>> futures = new LinkedHashMap<>();
+        for (Route route : routes) {
+            futures.put(route, executor.submit(() -> {
+                context.getRouteController().startRoute(route.getId());
+                return null;
+            }));
+        }
+
+        FailedToStartRouteException failure = null;
+        for (Map.Entry<Route, Future<?>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get();
+            } catch (ExecutionException e) {
+                // wait for the other routes, and fail with the first failure
+                if (failure == null) {
+                    failure = new FailedToStartRouteException(
+                            entry.getKey().getId(), e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Groups the routes by their startup order. Each route with an explicit startup order is a group of its own (in
+     * the startup order), followed by a group with all the other routes.
+     *
+     * @param routes  the routes
+     * @param reverse whether to return the groups in reverse order, such as when shutting down
+     */
+    static List<List<Route>> groupByStartupOrder(Collection<Route> routes, boolean reverse) {
+        Map<Integer, List<Route>> ordered = new TreeMap<>();
+        List<Route> others = new ArrayList<>();
+        for (Route route : routes) {
+            if (route.getStartupOrder() != null) {
+                ordered.computeIfAbsent(route.getStartupOrder(), k -> new ArrayList<>()).add(route);
+            } else {
+                others.add(route);
+            }
+        }
+
+        List<List<Route>> answer = new ArrayList<>(ordered.values());
+        if (!others.isEmpty()) {
+            answer.add(others);
+        }
+        if (reverse) {
+            Collections.reverse(answer);
+        }
+        return answer;
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Route;
+import org.apache.camel.ShutdownRoute;
+import org.apache.camel.impl.engine.DefaultShutdownStrategy;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.ShutdownAware;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DefaultShutdownStrategy} which stops the consumers of the routes concurrently.
+ *
+ * Routes with an explicit startup order are stopped one at a time (in the order as configured by
+ * shutdownRoutesInReverseOrder) and the other routes are stopped concurrently. The consumers which defer their
+ * shutdown are left to the graceful shutdown, which then completes the inflight exchanges as usual.
+ */
+public class ParallelShutdownStrategy extends DefaultShutdownStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelShutdownStrategy.class);
+
+    private final int parallelism;
+
+    public ParallelShutdownStrategy(CamelContext camelContext, int parallelism) {
+        super(camelContext);
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    protected boolean doShutdown(
+            CamelContext context, List<RouteStartupOrder> routes, long timeout, TimeUnit timeUnit,
+            boolean suspendOnly, boolean abortAfterTimeout, boolean forceShutdown)
+            throws Exception {
+        if (parallelism <= 1 || suspendOnly || routes.size() <= 1) {
+            return super.doShutdown(context, routes, timeout, timeUnit, suspendOnly, abortAfterTimeout, forceShutdown);
+        }
+
+        long start = System.currentTimeMillis();
+        long millis = timeUnit.toMillis(timeout);
+        shutdownConsumers(context, routes, millis);
+
+        // the graceful shutdown only has the remaining time
+        if (millis > 0) {
+            long remaining = Math.max(1, millis - (System.currentTimeMillis() - start));
+            return super.doShutdown(context, routes, remaining, TimeUnit.MILLISECONDS, false, abortAfterTimeout,
+                    forceShutdown);
+        }
+        return super.doShutdown(context, routes, timeout, timeUnit, false, abortAfterTimeout, forceShutdown);
+    }
+
+    private void shutdownConsumers(CamelContext context, List<RouteStartupOrder> routes, long timeout) throws Exception {
+        Map<Route, Consumer> consumers = new HashMap<>();
+        for (RouteStartupOrder order : routes) {
+            Route route = order.getRoute();
+            Consumer consumer = order.getInput();
+            if (consumer != null && !ServiceHelper.isStopped(consumer) && !isDeferShutdown(route, consumer)) {
+                consumers.put(route, consumer);
+            }
+        }
+        if (consumers.size() <= 1) {
+            return;
+        }
+
+        LOG.debug("Stopping consumers of {} routes (parallelism: {})", consumers.size(), parallelism);
+        long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        ExecutorService executor = context.getExecutorServiceManager().newFixedThreadPool(this, "RouteShutdown", parallelism);
+        try {
+            for (List<Route> group : ParallelRouteStartupListener.groupByStartupOrder(consumers.keySet(),
+                    isShutdownRoutesInReverseOrder())) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (Route route : group) {
+                    futures.add(executor.submit(() -> shutdownNow(route.getId(), consumers.get(route))));
+                }
+                for (Future<?> future : futures) {
+                    if (!await(future, deadline)) {
+                        // the graceful shutdown takes over, which handles the timeout
+                        LOG.warn("Timeout occurred while stopping consumers of routes concurrently");
+                        return;
+                    }
+                }
+            }
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    private static boolean await(Future<?> future, long deadline) throws InterruptedException {
+        try {
+            if (deadline > 0) {
+                future.get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } else {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            // shutdownNow logs and notifies the failure
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isDeferShutdown(Route route, Consumer consumer) {
+        // the same consumers as deferred by the graceful shutdown
+        return route.getShutdownRoute() == ShutdownRoute.Defer
+                || consumer instanceof ShutdownAware
+                        && ((ShutdownAware) consumer).deferShutdown(route.getShutdownRunningTask());
+    }
+
+}
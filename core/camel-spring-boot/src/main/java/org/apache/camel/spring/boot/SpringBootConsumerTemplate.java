@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.impl.engine.DefaultConsumerTemplate;
+
+/**
+ * The consumer template auto-configured by Spring Boot, which resolves the endpoints by uri using a
+ * {@link TemplateEndpointCache}.
+ */
+public class SpringBootConsumerTemplate extends DefaultConsumerTemplate implements CachingTemplate {
+
+    private final TemplateEndpointCache endpointCache;
+
+    public SpringBootConsumerTemplate(CamelContext camelContext, TemplateEndpointCache endpointCache) {
+        super(camelContext);
+        this.endpointCache = endpointCache;
+    }
+
+    @Override
+    public TemplateEndpointCache getEndpointCache() {
+        return endpointCache;
+    }
+
+    @Override
+    protected Endpoint resolveMandatoryEndpoint(String endpointUri) {
+        return endpointCache.resolve(endpointUri, super::resolveMandatoryEndpoint);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        endpointCache.clear();
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * Cache of the endpoints which a producer or consumer template resolves by uri, so sending to (or receiving from)
+ * the same endpoints does not normalize the uri and look up the endpoint in the CamelContext every time.
+ *
+ * The endpoints are either cached in a LRU cache shared by all threads ({@link #SHARED}), or in a LRU cache per
+ * thread ({@link #THREAD_LOCAL}) so many threads using the same endpoints do not contend on the same cache. Endpoints
+ * which are not started (such as removed endpoints) are resolved again. The cache keeps statistics of its hits,
+ * misses and evictions (when caching is not {@link #NONE}).
+ *
+ * The caches are concurrent maps, so looking up a cached endpoint does not lock. When a cache is full the least
+ * recently used endpoint is evicted, which requires to scan the cache, but only happens when an endpoint was not
+ * cached. (The LRU caches of Camel's LRUCacheFactory are only concurrent when camel-caffeine-lrucache is on the
+ * classpath, otherwise they must be locked on every lookup.)
+ */
+public class TemplateEndpointCache {
+
+    public static final String NONE = "none";
+    public static final String SHARED = "shared";
+    public static final String THREAD_LOCAL = "thread-local";
+
+    private final String mode;
+    private final int capacity;
+    private final Map<String, CachedEndpoint> shared;
+    private final ThreadLocal<Map<String, CachedEndpoint>> threadLocal;
+    // the caches of the threads, so all of them can be cleared and measured (the caches of terminated threads are
+    // removed when the threads are garbage collected)
+    private final Map<Thread, Map<String, CachedEndpoint>> threadCaches;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TemplateEndpointCache(String mode, int capacity) {
+        this.mode = mode != null ? mode : NONE;
+        this.capacity = capacity;
+        if (SHARED.equals(this.mode)) {
+            this.shared = createCache();
+            this.threadLocal = null;
+            this.threadCaches = null;
+        } else if (THREAD_LOCAL.equals(this.mode)) {
+            this.shared = null;
+            this.threadCaches = Collections.synchronizedMap(new WeakHashMap<>());
+            this.threadLocal = ThreadLocal.withInitial(() -> {
+                Map<String, CachedEndpoint> cache = createCache();
+                threadCaches.put(Thread.currentThread(), cache);
+                return cache;
+            });
+        } else if (NONE.equals(this.mode)) {
+            this.shared = null;
+            this.threadLocal = null;
+            this.threadCaches = null;
+        } else {
+            throw new IllegalArgumentException(
+                    "Unknown template endpoint cache: " + mode + ". Supported values: none, shared, thread-local");
+        }
+    }
+
+    private Map<String, CachedEndpoint> createCache() {
+        return new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves the endpoint from the cache, or by the given resolver if not cached.
+     *
+     * @param uri      the endpoint uri
+     * @param resolver to resolve the endpoint when not cached
+     */
+    public Endpoint resolve(String uri, Function<String, Endpoint> resolver) {
+        Map<String, CachedEndpoint> cache = shared != null ? shared : threadLocal != null ? threadLocal.get() : null;
+        if (cache == null) {
+            return resolver.apply(uri);
+        }
+
+        CachedEndpoint cached = cache.get(uri);
+        if (cached != null && !ServiceHelper.isStopped(cached.endpoint)) {
+            cached.lastAccess = System.nanoTime();
+            hits.increment();
+            return cached.endpoint;
+        }
+
+        misses.increment();
+        Endpoint answer = resolver.apply(uri);
+        if (answer != null) {
+            cache.put(uri, new CachedEndpoint(answer));
+            if (capacity > 0) {
+                evict(cache);
+            }
+        }
+        return answer;
+    }
+
+    private void evict(Map<String, CachedEndpoint> cache) {
+        while (cache.size() > capacity) {
+            Map.Entry<String, CachedEndpoint> eldest = null;
+            for (Map.Entry<String, CachedEndpoint> entry : cache.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            // another thread may have evicted or replaced the endpoint already
+            if (cache.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Clears the cached endpoints (of all threads when caching per thread).
+     */
+    public void clear() {
+        for (Map<String, CachedEndpoint> cache : caches()) {
+            cache.clear();
+        }
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of cached endpoints (of all threads when caching per thread).
+     */
+    public int getSize() {
+        int answer = 0;
+        for (Map<String, CachedEndpoint> cache : caches()) {
+            answer += cache.size();
+        }
+        return answer;
+    }
+
+    private List<Map<String, CachedEndpoint>> caches() {
+        if (shared != null) {
+            return Collections.singletonList(shared);
+        } else if (threadCaches != null) {
+            synchronized (threadCaches) {
+                return new ArrayList<>(threadCaches.values());
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Number of endpoints resolved from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of endpoints which were not cached and therefore resolved by Camel.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of endpoints evicted from the cache because the cache was full.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static final class CachedEndpoint {
+
+        private final Endpoint endpoint;
+        private volatile long lastAccess = System.nanoTime();
+
+        private CachedEndpoint(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+}
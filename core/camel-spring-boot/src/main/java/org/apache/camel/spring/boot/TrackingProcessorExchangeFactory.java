@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.ProcessorExchangeFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A {@link ProcessorExchangeFactory} which delegates to the configured factory, and keeps track of the
+ * per processor factories it creates, so their pool statistics can be exposed by the actuator endpoints
+ * and metrics.
+ *
+ * The factories are tracked by weak references, so factories from removed routes do not leak.
+ */
+public class TrackingProcessorExchangeFactory extends ServiceSupport implements ProcessorExchangeFactory {
+
+    private final ProcessorExchangeFactory delegate;
+    private final Set<ProcessorExchangeFactory> factories = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public TrackingProcessorExchangeFactory(ProcessorExchangeFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    public ProcessorExchangeFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * The per processor factories created by this factory
+     */
+    public Collection<ProcessorExchangeFactory> getProcessorExchangeFactories() {
+        synchronized (factories) {
+            return new ArrayList<>(factories);
+        }
+    }
+
+    @Override
+    public ProcessorExchangeFactory newProcessorExchangeFactory(Processor processor) {
+        ProcessorExchangeFactory answer = delegate.newProcessorExchangeFactory(processor);
+        synchronized (factories) {
+            factories.add(answer);
+        }
+        return answer;
+    }
+
+    @Override
+    public Processor getProcessor() {
+        return delegate.getProcessor();
+    }
+
+    @Override
+    public Exchange createCopy(Exchange exchange) {
+        return delegate.createCopy(exchange);
+    }
+
+    @Override
+    public Exchange createCorrelatedCopy(Exchange exchange, boolean handover) {
+        return delegate.createCorrelatedCopy(exchange, handover);
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
+        return delegate.create(fromEndpoint, exchangePattern);
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        return delegate.release(exchange);
+    }
+
+    @Override
+    public Exchange acquire() {
+        return delegate.acquire();
+    }
+
+    @Override
+    public int getSize() {
+        return delegate.getSize();
+    }
+
+    @Override
+    public int getCapacity() {
+        return delegate.getCapacity();
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        delegate.setCapacity(capacity);
+    }
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return delegate.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        delegate.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Override
+    public void resetStatistics() {
+        delegate.resetStatistics();
+        getProcessorExchangeFactories().forEach(ProcessorExchangeFactory::resetStatistics);
+    }
+
+    @Override
+    public void purge() {
+        delegate.purge();
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    @Override
+    public boolean isPooled() {
+        return delegate.isPooled();
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return delegate.getCamelContext();
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        delegate.setCamelContext(camelContext);
+    }
+
+    @Override
+    public String getRouteId() {
+        return delegate.getRouteId();
+    }
+
+    @Override
+    public void setRouteId(String routeId) {
+        delegate.setRouteId(routeId);
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public void setId(String id) {
+        delegate.setId(id);
+    }
+
+    @Override
+    protected void doBuild() throws Exception {
+        ServiceHelper.buildService(delegate);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        ServiceHelper.initService(delegate);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(delegate);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        ServiceHelper.stopAndShutdownService(delegate);
+        synchronized (factories) {
+            factories.clear();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.Collection;
+
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker;
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker.NamespaceLeadership;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/*
+ * Spring Boot Management Endpoint to expose the leadership of the namespaces of the
+ * clustered routes.
+ */
+@Endpoint(id = "camelclusterleadership")
+public class CamelClusterLeadershipEndpoint {
+
+    private ClusteredRouteLeadershipTracker tracker;
+
+    public CamelClusterLeadershipEndpoint(ClusteredRouteLeadershipTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public Collection<NamespaceLeadership> readNamespaces() {
+        return tracker.getNamespaces();
+    }
+
+    @ReadOperation
+    public NamespaceLeadership readNamespace(@Selector String namespace) {
+        return tracker.getNamespace(namespace);
+    }
+}
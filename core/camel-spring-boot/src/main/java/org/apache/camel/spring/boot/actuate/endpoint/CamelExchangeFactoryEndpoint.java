@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.ProcessorExchangeFactory;
+import org.apache.camel.spring.boot.util.ExchangeFactoryHelper;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the statistics of the Camel exchange factories
+ * in use by the route consumers and processors.
+ */
+@Endpoint(id = "camelexchangefactory")
+public class CamelExchangeFactoryEndpoint {
+
+    private CamelContext camelContext;
+
+    public CamelExchangeFactoryEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public ExchangeFactoryManagerEndpointInfo readExchangeFactories() {
+        ExchangeFactoryManager manager = ExchangeFactoryHelper.getExchangeFactoryManager(camelContext);
+        List<ExchangeFactoryEndpointInfo> consumers = ExchangeFactoryHelper.getConsumerExchangeFactories(camelContext).stream()
+                .map(ExchangeFactoryEndpointInfo::new)
+                .collect(Collectors.toList());
+        List<ExchangeFactoryEndpointInfo> processors = ExchangeFactoryHelper.getProcessorExchangeFactories(camelContext).stream()
+                .map(ExchangeFactoryEndpointInfo::new)
+                .collect(Collectors.toList());
+        return new ExchangeFactoryManagerEndpointInfo(manager, consumers, processors);
+    }
+
+    @ReadOperation
+    public List<ExchangeFactoryEndpointInfo> readRouteExchangeFactories(@Selector String routeId) {
+        Stream<ExchangeFactoryEndpointInfo> consumers = ExchangeFactoryHelper.getConsumerExchangeFactories(camelContext, routeId).stream()
+                .map(ExchangeFactoryEndpointInfo::new);
+        Stream<ExchangeFactoryEndpointInfo> processors = ExchangeFactoryHelper.getProcessorExchangeFactories(camelContext, routeId).stream()
+                .map(ExchangeFactoryEndpointInfo::new);
+        return Stream.concat(consumers, processors).collect(Collectors.toList());
+    }
+
+    /*
+     * Container for exposing the {@link ExchangeFactoryManager} information as JSON.
+     */
+    @JsonPropertyOrder({"pooled", "statisticsEnabled", "capacity", "consumerCounter", "pooledCounter"})
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class ExchangeFactoryManagerEndpointInfo {
+
+        private final boolean pooled;
+        private final boolean statisticsEnabled;
+        private final int capacity;
+        private final int consumerCounter;
+        private final int pooledCounter;
+        private final long createdCounter;
+        private final long acquiredCounter;
+        private final long releasedCounter;
+        private final long discardedCounter;
+        private final List<ExchangeFactoryEndpointInfo> consumers;
+        private final List<ExchangeFactoryEndpointInfo> processors;
+
+        public ExchangeFactoryManagerEndpointInfo(ExchangeFactoryManager manager,
+                                                  List<ExchangeFactoryEndpointInfo> consumers,
+                                                  List<ExchangeFactoryEndpointInfo> processors) {
+            this.consumers = consumers;
+            this.processors = processors;
+            if (manager != null) {
+                this.statisticsEnabled = manager.isStatisticsEnabled();
+                this.capacity = manager.getCapacity();
+                this.consumerCounter = manager.getConsumerCounter();
+                this.pooledCounter = manager.getPooledCounter();
+            } else {
+                this.statisticsEnabled = false;
+                this.capacity = 0;
+                this.consumerCounter = 0;
+                this.pooledCounter = 0;
+            }
+
+            // totals are summed from both the consumer and processor exchange factories
+            List<ExchangeFactoryEndpointInfo> all = Stream.concat(consumers.stream(), processors.stream()).collect(Collectors.toList());
+            this.pooled = all.stream().anyMatch(ExchangeFactoryEndpointInfo::isPooled);
+            this.createdCounter = all.stream().mapToLong(ExchangeFactoryEndpointInfo::getCreatedCounter).sum();
+            this.acquiredCounter = all.stream().mapToLong(ExchangeFactoryEndpointInfo::getAcquiredCounter).sum();
+            this.releasedCounter = all.stream().mapToLong(ExchangeFactoryEndpointInfo::getReleasedCounter).sum();
+            this.discardedCounter = all.stream().mapToLong(ExchangeFactoryEndpointInfo::getDiscardedCounter).sum();
+        }
+
+        public boolean isPooled() {
+            return pooled;
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int getConsumerCounter() {
+            return consumerCounter;
+        }
+
+        public int getPooledCounter() {
+            return pooledCounter;
+        }
+
+        public long getCreatedCounter() {
+            return createdCounter;
+        }
+
+        public long getAcquiredCounter() {
+            return acquiredCounter;
+        }
+
+        public long getReleasedCounter() {
+            return releasedCounter;
+        }
+
+        public long getDiscardedCounter() {
+            return discardedCounter;
+        }
+
+        public List<ExchangeFactoryEndpointInfo> getConsumers() {
+            return consumers;
+        }
+
+        public List<ExchangeFactoryEndpointInfo> getProcessors() {
+            return processors;
+        }
+    }
+
+    /*
+     * Container for exposing a single {@link ExchangeFactory} or {@link ProcessorExchangeFactory}
+     * information as JSON.
+     */
+    @JsonPropertyOrder({"routeId", "processorId", "type", "pooled", "statisticsEnabled", "size", "capacity", "utilization"})
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class ExchangeFactoryEndpointInfo {
+
+        private final String routeId;
+        private final String processorId;
+        private final String type;
+        private final boolean pooled;
+        private final boolean statisticsEnabled;
+        private final int size;
+        private final int capacity;
+        private final double utilization;
+        private final long createdCounter;
+        private final long acquiredCounter;
+        private final long releasedCounter;
+        private final long discardedCounter;
+
+        public ExchangeFactoryEndpointInfo(ExchangeFactory factory) {
+            this(factory, factory.getRouteId(), null, "consumer");
+        }
+
+        public ExchangeFactoryEndpointInfo(ProcessorExchangeFactory factory) {
+            this(factory, factory.getRouteId(), factory.getId(), "processor");
+        }
+
+        private ExchangeFactoryEndpointInfo(PooledObjectFactory<?> factory, String routeId, String processorId, String type) {
+            this.routeId = routeId;
+            this.processorId = processorId;
+            this.type = type;
+            this.pooled = factory.isPooled();
+            this.statisticsEnabled = factory.isStatisticsEnabled();
+            this.size = factory.getSize();
+            this.capacity = factory.getCapacity();
+            this.utilization = ExchangeFactoryHelper.getUtilization(factory);
+            // statistics is only available when enabled
+            PooledObjectFactory.Statistics statistics = factory.isStatisticsEnabled() ? factory.getStatistics() : null;
+            if (statistics != null) {
+                this.createdCounter = statistics.getCreatedCounter();
+                this.acquiredCounter = statistics.getAcquiredCounter();
+                this.releasedCounter = statistics.getReleasedCounter();
+                this.discardedCounter = statistics.getDiscardedCounter();
+            } else {
+                this.createdCounter = 0;
+                this.acquiredCounter = 0;
+                this.releasedCounter = 0;
+                this.discardedCounter = 0;
+            }
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public String getProcessorId() {
+            return processorId;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public boolean isPooled() {
+            return pooled;
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public double getUtilization() {
+            return utilization;
+        }
+
+        public long getCreatedCounter() {
+            return createdCounter;
+        }
+
+        public long getAcquiredCounter() {
+            return acquiredCounter;
+        }
+
+        public long getReleasedCounter() {
+            return releasedCounter;
+        }
+
+        public long getDiscardedCounter() {
+            return discardedCounter;
+        }
+    }
+
+}
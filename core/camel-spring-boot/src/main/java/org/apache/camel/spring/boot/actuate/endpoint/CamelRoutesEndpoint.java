@@ -31,6 +31,9 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StatefulService;
 import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.spring.boot.statistics.RouteStatistics;
+import org.apache.camel.spring.boot.statistics.RouteStatisticsCollector;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -50,11 +53,18 @@ public class CamelRoutesEndpoint {
     private CamelContext camelContext;
     private ManagedCamelContext managedCamelContext;
     private CamelRoutesEndpointProperties properties;
+    private RouteStatisticsCollector statisticsCollector;
 
     public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
+        this(camelContext, properties, null);
+    }
+
+    public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties,
+                               RouteStatisticsCollector statisticsCollector) {
         this.camelContext = camelContext;
         this.managedCamelContext = camelContext.getExtension(ManagedCamelContext.class);
         this.properties = properties;
+        this.statisticsCollector = statisticsCollector;
     }
 
     @ReadOperation
@@ -125,7 +135,7 @@ public class CamelRoutesEndpoint {
     private RouteDetailsEndpointInfo getRouteDetailsInfo(String id) {
         Route route = camelContext.getRoute(id);
         if (route != null) {
-            return new RouteDetailsEndpointInfo(camelContext, route);
+            return new RouteDetailsEndpointInfo(camelContext, route, statisticsCollector);
         }
 
         return null;
@@ -141,9 +151,12 @@ public class CamelRoutesEndpoint {
 
     private void resetRoute(String id) {
         try {
-            ManagedRouteMBean managedRouteMBean = managedCamelContext.getManagedRoute(id, ManagedRouteMBean.class);
+            ManagedRouteMBean managedRouteMBean = managedCamelContext != null
+                    ? managedCamelContext.getManagedRoute(id, ManagedRouteMBean.class) : null;
             if (managedRouteMBean != null) {
                 managedRouteMBean.reset(true);
+            } else if (statisticsCollector != null) {
+                statisticsCollector.reset(id);
             }
         } catch (Exception e) {
             throw new RuntimeCamelException(e);
@@ -248,7 +261,8 @@ public class CamelRoutesEndpoint {
 
     /*
      * Container for exposing {@link org.apache.camel.Route} information
-     * with route details as JSON. Route details are retrieved from JMX.
+     * with route details as JSON. Route details are retrieved from JMX,
+     * or from the in-process route statistics when JMX is disabled.
      */
     public static class RouteDetailsEndpointInfo extends RouteEndpointInfo {
 
@@ -256,15 +270,35 @@ public class CamelRoutesEndpoint {
         private RouteDetails routeDetails;
 
         public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route) {
+            this(camelContext, route, null);
+        }
+
+        public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route,
+                                        final RouteStatisticsCollector statisticsCollector) {
             super(route);
             if (camelContext.getManagementStrategy().getManagementAgent() != null) {
                 ManagedCamelContext mcc = camelContext.getExtension(ManagedCamelContext.class);
                 this.routeDetails = new RouteDetails(mcc.getManagedRoute(route.getId(), ManagedRouteMBean.class));
+            } else if (statisticsCollector != null) {
+                RouteStatistics statistics = statisticsCollector.getStatistics(route.getId());
+                if (statistics != null) {
+                    // the inflight exchanges are only known when browsing them is enabled
+                    InflightRepository inflight = camelContext.getInflightRepository();
+                    this.routeDetails = new RouteDetails(route, statistics,
+                            inflight.isInflightBrowseEnabled() ? inflight.oldest(route.getId()) : null);
+                }
             }
         }
 
+        /**
+         * The details of the route, or <tt>null</tt> if neither JMX nor the in-process route statistics are enabled.
+         */
+        public RouteDetails getRouteDetails() {
+            return routeDetails;
+        }
+
         @JsonInclude(JsonInclude.Include.NON_EMPTY)
-        static class RouteDetails {
+        public static class RouteDetails {
 
             private long deltaProcessingTime;
             private long exchangesInflight;
@@ -290,6 +324,9 @@ public class CamelRoutesEndpoint {
             private String oldestInflightExchangeId;
             private long redeliveries;
             private long totalProcessingTime;
+            private Long p50ProcessingTime;
+            private Long p90ProcessingTime;
+            private Long p99ProcessingTime;
             private boolean hasRouteController;
 
             RouteDetails(ManagedRouteMBean managedRoute) {
@@ -324,6 +361,40 @@ public class CamelRoutesEndpoint {
                 }
             }
 
+            RouteDetails(Route route, RouteStatistics statistics, InflightRepository.InflightExchange oldest) {
+                this.deltaProcessingTime = statistics.getDeltaProcessingTime();
+                this.exchangesInflight = statistics.getExchangesInflight();
+                this.exchangesTotal = statistics.getExchangesTotal();
+                this.externalRedeliveries = statistics.getExternalRedeliveries();
+                this.failuresHandled = statistics.getFailuresHandled();
+                this.firstExchangeCompletedExchangeId = statistics.getFirstExchangeCompletedExchangeId();
+                this.firstExchangeCompletedTimestamp = toDate(statistics.getFirstExchangeCompletedTimestamp());
+                this.firstExchangeFailureExchangeId = statistics.getFirstExchangeFailureExchangeId();
+                this.firstExchangeFailureTimestamp = toDate(statistics.getFirstExchangeFailureTimestamp());
+                this.lastExchangeCompletedExchangeId = statistics.getLastExchangeCompletedExchangeId();
+                this.lastExchangeCompletedTimestamp = toDate(statistics.getLastExchangeCompletedTimestamp());
+                this.lastExchangeFailureExchangeId = statistics.getLastExchangeFailureExchangeId();
+                this.lastExchangeFailureTimestamp = toDate(statistics.getLastExchangeFailureTimestamp());
+                this.lastProcessingTime = statistics.getLastProcessingTime();
+                this.maxProcessingTime = statistics.getMaxProcessingTime();
+                this.meanProcessingTime = statistics.getMeanProcessingTime();
+                this.minProcessingTime = statistics.getMinProcessingTime();
+                if (oldest != null) {
+                    this.oldestInflightDuration = oldest.getDuration();
+                    this.oldestInflightExchangeId = oldest.getExchange().getExchangeId();
+                }
+                this.redeliveries = statistics.getRedeliveries();
+                this.totalProcessingTime = statistics.getTotalProcessingTime();
+                this.p50ProcessingTime = statistics.getProcessingTimePercentile(0.5);
+                this.p90ProcessingTime = statistics.getProcessingTimePercentile(0.9);
+                this.p99ProcessingTime = statistics.getProcessingTimePercentile(0.99);
+                this.hasRouteController = route.getRouteController() != null;
+            }
+
+            private static Date toDate(long timestamp) {
+                return timestamp > 0 ? new Date(timestamp) : null;
+            }
+
             public long getDeltaProcessingTime() {
                 return deltaProcessingTime;
             }
@@ -404,6 +475,10 @@ public class CamelRoutesEndpoint {
                 return minProcessingTime;
             }
 
+            /**
+             * The duration of the oldest inflight exchange of the route, which is only known when browsing the
+             * inflight exchanges is enabled (camel.springboot.inflight-repository-browse-enabled=true).
+             */
             public Long getOldestInflightDuration() {
                 return oldestInflightDuration;
             }
@@ -420,6 +495,18 @@ public class CamelRoutesEndpoint {
                 return totalProcessingTime;
             }
 
+            public Long getP50ProcessingTime() {
+                return p50ProcessingTime;
+            }
+
+            public Long getP90ProcessingTime() {
+                return p90ProcessingTime;
+            }
+
+            public Long getP99ProcessingTime() {
+                return p99ProcessingTime;
+            }
+
             public boolean getHasRouteController() {
                 return hasRouteController;
             }
@@ -18,11 +18,14 @@ package org.apache.camel.spring.boot.actuate.endpoint;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.statistics.RouteStatisticsCollector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,8 +43,18 @@ public class CamelRoutesEndpointAutoConfiguration {
     @Bean
     @ConditionalOnClass(CamelContext.class)
     @ConditionalOnMissingBean
-    public CamelRoutesEndpoint camelEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
-        return new CamelRoutesEndpoint(camelContext, properties);
+    public CamelRoutesEndpoint camelEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties,
+                                             ObjectProvider<RouteStatisticsCollector> statisticsCollector) {
+        return new CamelRoutesEndpoint(camelContext, properties, statisticsCollector.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "management.endpoint.camelroutes", name = "statistics-enabled", matchIfMissing = true)
+    public RouteStatisticsCollector routeStatisticsCollector() {
+        // added to the routes as a route policy factory when the CamelContext is configured, which gathers the
+        // statistics only when Camel has no management agent (JMX is disabled or camel-management is missing)
+        return new RouteStatisticsCollector();
     }
 
 }
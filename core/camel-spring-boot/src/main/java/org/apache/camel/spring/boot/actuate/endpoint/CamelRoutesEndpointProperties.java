@@ -27,6 +27,14 @@ public class CamelRoutesEndpointProperties {
      */
     private boolean readOnly = true;
 
+    /**
+     * Whether to gather the statistics of the routes in-process when JMX is not in use (camel.springboot.jmx-enabled
+     * is false, or camel-management is not on the classpath), so the route details have statistics without
+     * registering the routes and processors as MBeans. The oldest inflight exchange of the routes is only given when
+     * camel.springboot.inflight-repository-browse-enabled is true.
+     */
+    private boolean statisticsEnabled = true;
+
     public boolean isReadOnly() {
         return readOnly;
     }
@@ -34,5 +42,13 @@ public class CamelRoutesEndpointProperties {
     public void setReadOnly(boolean readOnly) {
         this.readOnly = readOnly;
     }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
     
 }
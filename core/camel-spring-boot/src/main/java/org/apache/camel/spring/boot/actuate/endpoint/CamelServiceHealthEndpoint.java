@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+
+import org.apache.camel.spring.boot.cloud.PassiveHealthServiceFilter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/*
+ * Spring Boot Management Endpoint to expose the health of the servers called by the Camel
+ * service calls, as tracked by the passive health service filter.
+ */
+@Endpoint(id = "camelservicehealth")
+public class CamelServiceHealthEndpoint {
+
+    private PassiveHealthServiceFilter serviceFilter;
+
+    public CamelServiceHealthEndpoint(PassiveHealthServiceFilter serviceFilter) {
+        this.serviceFilter = serviceFilter;
+    }
+
+    @ReadOperation
+    public List<PassiveHealthServiceFilter.ServerHealth> readServers() {
+        return serviceFilter.getServers();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.io.File;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spring.boot.streamcaching.SpringBootStreamCachingStrategy;
+import org.apache.camel.spring.boot.util.StreamCachingHelper;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the Camel stream caching statistics
+ * and the disk usage of the spool directory.
+ */
+@Endpoint(id = "camelstreamcaching")
+public class CamelStreamCachingEndpoint {
+
+    private CamelContext camelContext;
+
+    public CamelStreamCachingEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public StreamCachingEndpointInfo readStreamCaching() {
+        return new StreamCachingEndpointInfo(camelContext);
+    }
+
+    /*
+     * Container for exposing the {@link StreamCachingStrategy} information as JSON.
+     */
+    @JsonPropertyOrder({"enabled", "statisticsEnabled", "spoolStrategy", "spoolDirectory", "spoolThreshold", "bufferSize"})
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class StreamCachingEndpointInfo {
+
+        private final boolean enabled;
+        private final boolean statisticsEnabled;
+        private final String spoolStrategy;
+        private final String spoolDirectory;
+        private final long spoolThreshold;
+        private final int bufferSize;
+        private final long cacheMemoryCounter;
+        private final long cacheMemorySize;
+        private final long cacheMemoryAverageSize;
+        private final long cacheSpoolCounter;
+        private final long cacheSpoolSize;
+        private final long cacheSpoolAverageSize;
+        private final long cacheSpoolLargestSize;
+        private final long spoolDirectoryUsedSpace;
+        private final long spoolDirectoryFreeSpace;
+        private final long spoolDirectoryTotalSpace;
+
+        public StreamCachingEndpointInfo(CamelContext camelContext) {
+            StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+            this.enabled = strategy.isEnabled();
+            this.spoolStrategy = strategy instanceof SpringBootStreamCachingStrategy
+                    ? ((SpringBootStreamCachingStrategy) strategy).getSpoolStrategy() : SpringBootStreamCachingStrategy.DEFAULT;
+            this.spoolThreshold = strategy.getSpoolThreshold();
+            this.bufferSize = strategy.getBufferSize();
+
+            StreamCachingStrategy.Statistics statistics = StreamCachingHelper.getStatistics(camelContext);
+            this.statisticsEnabled = statistics != null;
+            if (statistics != null) {
+                this.cacheMemoryCounter = statistics.getCacheMemoryCounter();
+                this.cacheMemorySize = statistics.getCacheMemorySize();
+                this.cacheMemoryAverageSize = statistics.getCacheMemoryAverageSize();
+                this.cacheSpoolCounter = statistics.getCacheSpoolCounter();
+                this.cacheSpoolSize = statistics.getCacheSpoolSize();
+                this.cacheSpoolAverageSize = statistics.getCacheSpoolAverageSize();
+                this.cacheSpoolLargestSize = StreamCachingHelper.getCacheSpoolLargestSize(camelContext);
+            } else {
+                this.cacheMemoryCounter = 0;
+                this.cacheMemorySize = 0;
+                this.cacheMemoryAverageSize = 0;
+                this.cacheSpoolCounter = 0;
+                this.cacheSpoolSize = 0;
+                this.cacheSpoolAverageSize = 0;
+                this.cacheSpoolLargestSize = 0;
+            }
+
+            File dir = StreamCachingHelper.getSpoolDirectory(camelContext);
+            this.spoolDirectory = dir != null ? dir.getPath() : null;
+            this.spoolDirectoryUsedSpace = StreamCachingHelper.getSpoolDirectoryUsedSpace(dir);
+            this.spoolDirectoryFreeSpace = StreamCachingHelper.getSpoolDirectoryFreeSpace(dir);
+            this.spoolDirectoryTotalSpace = StreamCachingHelper.getSpoolDirectoryTotalSpace(dir);
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public String getSpoolStrategy() {
+            return spoolStrategy;
+        }
+
+        public String getSpoolDirectory() {
+            return spoolDirectory;
+        }
+
+        public long getSpoolThreshold() {
+            return spoolThreshold;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public long getCacheMemoryCounter() {
+            return cacheMemoryCounter;
+        }
+
+        public long getCacheMemorySize() {
+            return cacheMemorySize;
+        }
+
+        public long getCacheMemoryAverageSize() {
+            return cacheMemoryAverageSize;
+        }
+
+        public long getCacheSpoolCounter() {
+            return cacheSpoolCounter;
+        }
+
+        public long getCacheSpoolSize() {
+            return cacheSpoolSize;
+        }
+
+        public long getCacheSpoolAverageSize() {
+            return cacheSpoolAverageSize;
+        }
+
+        public long getCacheSpoolLargestSize() {
+            return cacheSpoolLargestSize;
+        }
+
+        public long getSpoolDirectoryUsedSpace() {
+            return spoolDirectoryUsedSpace;
+        }
+
+        public long getSpoolDirectoryFreeSpace() {
+            return spoolDirectoryFreeSpace;
+        }
+
+        public long getSpoolDirectoryTotalSpace() {
+            return spoolDirectoryTotalSpace;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.spring.boot.CachingTemplate;
+import org.apache.camel.spring.boot.TemplateEndpointCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the cache statistics of the
+ * producer and consumer templates auto-configured by Spring Boot.
+ */
+@Endpoint(id = "cameltemplates")
+public class CamelTemplatesEndpoint {
+
+    private CamelContext camelContext;
+
+    public CamelTemplatesEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public List<TemplateInfo> readTemplates() {
+        // the templates are lazily created, so only the templates in use are listed
+        return camelContext.hasServices(CachingTemplate.class).stream()
+                .map(TemplateInfo::new)
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Container for exposing the {@link CachingTemplate} information as JSON.
+     */
+    @JsonPropertyOrder({"type", "cacheSize", "maximumCacheSize", "endpointCache", "endpointCacheHits", "endpointCacheMisses",
+            "endpointCacheEvictions"})
+    public static class TemplateInfo {
+
+        private final String type;
+        private final int cacheSize;
+        private final int maximumCacheSize;
+        private final String endpointCache;
+        private final long endpointCacheHits;
+        private final long endpointCacheMisses;
+        private final long endpointCacheEvictions;
+
+        public TemplateInfo(CachingTemplate template) {
+            this.type = template instanceof ProducerTemplate ? "producer" : "consumer";
+            this.cacheSize = template.getCurrentCacheSize();
+            this.maximumCacheSize = template.getMaximumCacheSize();
+            TemplateEndpointCache cache = template.getEndpointCache();
+            this.endpointCache = cache.getMode();
+            this.endpointCacheHits = cache.getHits();
+            this.endpointCacheMisses = cache.getMisses();
+            this.endpointCacheEvictions = cache.getEvictions();
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
+        public int getMaximumCacheSize() {
+            return maximumCacheSize;
+        }
+
+        public String getEndpointCache() {
+            return endpointCache;
+        }
+
+        public long getEndpointCacheHits() {
+            return endpointCacheHits;
+        }
+
+        public long getEndpointCacheMisses() {
+            return endpointCacheMisses;
+        }
+
+        public long getEndpointCacheEvictions() {
+            return endpointCacheEvictions;
+        }
+    }
+
+}
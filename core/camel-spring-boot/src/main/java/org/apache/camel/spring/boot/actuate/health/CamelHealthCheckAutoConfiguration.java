@@ -141,4 +141,26 @@ public class CamelHealthCheckAutoConfiguration {
         }
     }
 
+    @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+    @ConditionalOnClass({CamelContext.class})
+    @ConditionalOnMissingBean(CamelStreamCachingHealthIndicator.class)
+    protected class CamelStreamCachingHealthIndicatorInitializer {
+
+        @Bean(name = "camelStreamCachingHealth")
+        public HealthIndicator camelStreamCachingHealthIndicator(CamelContext camelContext, CamelHealthCheckConfigurationProperties config) {
+            if (config != null && config.getEnabled() != null && !config.getEnabled()) {
+                // health check is disabled
+                return null;
+            }
+            if (config != null && config.getStreamCachingEnabled() != null && !config.getStreamCachingEnabled()) {
+                // stream caching health check is disabled
+                return null;
+            }
+            if (config == null) {
+                config = new CamelHealthCheckConfigurationProperties();
+            }
+            return new CamelStreamCachingHealthIndicator(camelContext, config.getStreamCachingFreeSpaceThreshold());
+        }
+    }
+
 }
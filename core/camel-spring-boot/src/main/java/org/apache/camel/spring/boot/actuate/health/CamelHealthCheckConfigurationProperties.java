@@ -60,6 +60,21 @@ public class CamelHealthCheckConfigurationProperties {
      */
     private Boolean registryEnabled;
 
+    /**
+     * Whether stream caching health check is enabled, which reports DOWN when the free space available
+     * for the stream caching spool directory is below the stream caching free space threshold.
+     *
+     * Is default enabled
+     */
+    private Boolean streamCachingEnabled;
+
+    /**
+     * Minimum free space (in bytes) that should be available for the stream caching spool directory.
+     *
+     * Is default 10mb
+     */
+    private long streamCachingFreeSpaceThreshold = 10485760;
+
     /**
      * Additional health check properties for fine-grained configuration of health checks.
      */
@@ -105,6 +120,22 @@ public class CamelHealthCheckConfigurationProperties {
         this.registryEnabled = registryEnabled;
     }
 
+    public Boolean getStreamCachingEnabled() {
+        return streamCachingEnabled;
+    }
+
+    public void setStreamCachingEnabled(Boolean streamCachingEnabled) {
+        this.streamCachingEnabled = streamCachingEnabled;
+    }
+
+    public long getStreamCachingFreeSpaceThreshold() {
+        return streamCachingFreeSpaceThreshold;
+    }
+
+    public void setStreamCachingFreeSpaceThreshold(long streamCachingFreeSpaceThreshold) {
+        this.streamCachingFreeSpaceThreshold = streamCachingFreeSpaceThreshold;
+    }
+
     public Map<String, HealthCheckConfigurationProperties> getConfig() {
         return config;
     }
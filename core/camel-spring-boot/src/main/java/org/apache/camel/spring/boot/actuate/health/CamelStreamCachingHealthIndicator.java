@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.io.File;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spring.boot.util.StreamCachingHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Camel stream caching {@link HealthIndicator}, which reports DOWN when the free space available for
+ * the spool directory is below the threshold.
+ */
+public class CamelStreamCachingHealthIndicator extends AbstractHealthIndicator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelStreamCachingHealthIndicator.class);
+
+    private final CamelContext camelContext;
+    private final long freeSpaceThreshold;
+
+    public CamelStreamCachingHealthIndicator(CamelContext camelContext, long freeSpaceThreshold) {
+        super("Stream caching health check failed");
+        this.camelContext = camelContext;
+        this.freeSpaceThreshold = freeSpaceThreshold;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        builder.withDetail("name", "camel-stream-caching");
+        builder.up();
+
+        StreamCachingStrategy.Statistics statistics = StreamCachingHelper.getStatistics(camelContext);
+        if (statistics != null) {
+            builder.withDetail("cacheMemoryCounter", statistics.getCacheMemoryCounter());
+            builder.withDetail("cacheSpoolCounter", statistics.getCacheSpoolCounter());
+        }
+
+        File dir = StreamCachingHelper.getSpoolDirectory(camelContext);
+        if (dir == null) {
+            // spooling is not in use
+            return;
+        }
+        long free = StreamCachingHelper.getSpoolDirectoryFreeSpace(dir);
+        builder.withDetail("spoolDirectory", dir.getPath());
+        builder.withDetail("spoolDirectoryUsedSpace", StreamCachingHelper.getSpoolDirectoryUsedSpace(dir));
+        builder.withDetail("free", free);
+        builder.withDetail("threshold", freeSpaceThreshold);
+
+        if (free >= 0 && free < freeSpaceThreshold) {
+            LOG.warn("Free space available for stream caching spool directory: {} is below threshold. Available: {} bytes (threshold: {} bytes)",
+                    dir, free, freeSpaceThreshold);
+            builder.down();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker;
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker.NamespaceLeadership;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} for the leadership of the namespaces of the clustered routes.
+ *
+ * The namespaces are known once the CamelContext is started, so the meters of a namespace are bound when the
+ * namespace is tracked by the {@link ClusteredRouteLeadershipTracker}.
+ */
+public class CamelClusterLeadershipMetrics implements MeterBinder {
+
+    private static final String PREFIX = "camel.cluster.";
+
+    private final CamelContext camelContext;
+    private final ClusteredRouteLeadershipTracker tracker;
+
+    public CamelClusterLeadershipMetrics(CamelContext camelContext, ClusteredRouteLeadershipTracker tracker) {
+        this.camelContext = camelContext;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        tracker.addNamespaceListener(leadership -> bindNamespace(registry, leadership));
+    }
+
+    private void bindNamespace(MeterRegistry registry, NamespaceLeadership leadership) {
+        Tags tags = Tags.of("camelContext", camelContext.getName(), "namespace", leadership.getNamespace());
+
+        Gauge.builder(PREFIX + "leader", leadership, l -> l.isLeader() ? 1 : 0)
+                .tags(tags)
+                .description("Whether this member is the leader of the namespace (1) or not (0)")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "elections", leadership, NamespaceLeadership::getElections)
+                .tags(tags)
+                .description("Number of times the leadership of the namespace changed")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "takeovers", leadership, NamespaceLeadership::getTakeovers)
+                .tags(tags)
+                .description("Number of times this member took over the routes of the namespace")
+                .register(registry);
+        TimeGauge.builder(PREFIX + "takeover.time", leadership, TimeUnit.MILLISECONDS,
+                l -> Math.max(0, l.getLastTakeoverTime()))
+                .tags(tags)
+                .description("Time to take over the routes of the namespace the last time this member became the leader")
+                .register(registry);
+        TimeGauge.builder(PREFIX + "takeover.time.max", leadership, TimeUnit.MILLISECONDS,
+                l -> Math.max(0, l.getMaxTakeoverTime()))
+                .tags(tags)
+                .description("Longest time to take over the routes of the namespace")
+                .register(registry);
+    }
+}
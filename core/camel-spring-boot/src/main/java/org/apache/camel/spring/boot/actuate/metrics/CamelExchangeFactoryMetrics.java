@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spring.boot.util.ExchangeFactoryHelper;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} for the statistics of the exchange factories in use by the route consumers
+ * and processors.
+ *
+ * The meters of a route are bound when the route is started (as its exchange factories are created
+ * when the route is initialized), and removed again when the route is removed.
+ */
+public class CamelExchangeFactoryMetrics implements MeterBinder {
+
+    private static final String PREFIX = "camel.exchange.factory.";
+
+    private final CamelContext camelContext;
+    private final Map<String, Set<Meter>> routeMeters = new ConcurrentHashMap<>();
+    private MeterRegistry registry;
+
+    public CamelExchangeFactoryMetrics(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+
+        Tags tags = Tags.of("camelContext", camelContext.getName());
+        Gauge.builder(PREFIX + "consumers", camelContext, c -> managerValue(c, ExchangeFactoryManager::getConsumerCounter))
+                .tags(tags)
+                .description("Number of consumers using an exchange factory")
+                .register(registry);
+        Gauge.builder(PREFIX + "pooled", camelContext, c -> managerValue(c, ExchangeFactoryManager::getPooledCounter))
+                .tags(tags)
+                .description("Total number of currently pooled exchanges in the consumer exchange factories")
+                .register(registry);
+
+        // routes may already be started
+        for (Route route : camelContext.getRoutes()) {
+            bindRoute(route.getRouteId());
+        }
+
+        RouteEventNotifier notifier = new RouteEventNotifier();
+        camelContext.getManagementStrategy().addEventNotifier(notifier);
+        ServiceHelper.startService(notifier);
+    }
+
+    protected void bindRoute(String routeId) {
+        if (registry == null) {
+            return;
+        }
+        Set<Meter> meters = routeMeters.computeIfAbsent(routeId, k -> ConcurrentHashMap.newKeySet());
+        ExchangeFactoryHelper.getConsumerExchangeFactories(camelContext, routeId)
+                .forEach(f -> bindFactory(meters, f, Tags.of("routeId", routeId, "type", "consumer", "processorId", "")));
+        ExchangeFactoryHelper.getProcessorExchangeFactories(camelContext, routeId)
+                .forEach(f -> bindFactory(meters, f, Tags.of("routeId", routeId, "type", "processor",
+                        "processorId", f.getId() != null ? f.getId() : "")));
+    }
+
+    protected void unbindRoute(String routeId) {
+        Set<Meter> meters = routeMeters.remove(routeId);
+        if (meters != null && registry != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    private void bindFactory(Set<Meter> meters, PooledObjectFactory<?> factory, Tags tags) {
+        if (!factory.isPooled() && !factory.isStatisticsEnabled()) {
+            // nothing to measure with the default prototype based factories
+            return;
+        }
+        tags = tags.and("camelContext", camelContext.getName());
+
+        meters.add(Gauge.builder(PREFIX + "size", factory, PooledObjectFactory::getSize)
+                .tags(tags)
+                .description("Number of currently pooled exchanges")
+                .register(registry));
+        meters.add(Gauge.builder(PREFIX + "capacity", factory, PooledObjectFactory::getCapacity)
+                .tags(tags)
+                .description("Maximum number of pooled exchanges")
+                .register(registry));
+        meters.add(Gauge.builder(PREFIX + "utilization", factory, ExchangeFactoryHelper::getUtilization)
+                .tags(tags)
+                .description("Ratio of pooled exchanges to the capacity of the pool")
+                .register(registry));
+        meters.add(counter("created", factory, tags, PooledObjectFactory.Statistics::getCreatedCounter,
+                "Number of new exchanges created"));
+        meters.add(counter("acquired", factory, tags, PooledObjectFactory.Statistics::getAcquiredCounter,
+                "Number of exchanges acquired (reused) from the pool"));
+        meters.add(counter("released", factory, tags, PooledObjectFactory.Statistics::getReleasedCounter,
+                "Number of exchanges released back to the pool"));
+        meters.add(counter("discarded", factory, tags, PooledObjectFactory.Statistics::getDiscardedCounter,
+                "Number of exchanges discarded (not pooled) because the pool was full"));
+    }
+
+    private Meter counter(String name, PooledObjectFactory<?> factory, Tags tags,
+                          ToLongFunction<PooledObjectFactory.Statistics> function, String description) {
+        return FunctionCounter.builder(PREFIX + name, factory, f -> statisticsValue(f, function))
+                .tags(tags)
+                .description(description)
+                .register(registry);
+    }
+
+    private static double statisticsValue(PooledObjectFactory<?> factory, ToLongFunction<PooledObjectFactory.Statistics> function) {
+        // statistics is only available when enabled
+        PooledObjectFactory.Statistics statistics = factory.isStatisticsEnabled() ? factory.getStatistics() : null;
+        return statistics != null ? function.applyAsLong(statistics) : 0;
+    }
+
+    private static double managerValue(CamelContext camelContext, ToLongFunction<ExchangeFactoryManager> function) {
+        ExchangeFactoryManager manager = ExchangeFactoryHelper.getExchangeFactoryManager(camelContext);
+        return manager != null ? function.applyAsLong(manager) : 0;
+    }
+
+    private final class RouteEventNotifier extends EventNotifierSupport {
+
+        RouteEventNotifier() {
+            // only route events are needed
+            setIgnoreCamelContextEvents(true);
+            setIgnoreServiceEvents(true);
+            setIgnoreExchangeEvents(true);
+            setIgnoreStepEvents(true);
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof CamelEvent.RouteStartedEvent || event instanceof CamelEvent.RouteRemovedEvent;
+        }
+
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            String routeId = ((CamelEvent.RouteEvent) event).getRoute().getRouteId();
+            if (event instanceof CamelEvent.RouteStartedEvent) {
+                bindRoute(routeId);
+            } else {
+                unbindRoute(routeId);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+ * Auto configuration of the Micrometer metrics for Camel. The meter binders are bound
+ * to the Spring Boot meter registries by the actuator metrics auto configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({MeterBinder.class, CamelContext.class})
+@ConditionalOnBean(CamelAutoConfiguration.class)
+@AutoConfigureAfter(CamelAutoConfiguration.class)
+public class CamelMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ClusteredRouteLeadershipTracker.class)
+    public CamelClusterLeadershipMetrics camelClusterLeadershipMetrics(
+            CamelContext camelContext, ClusteredRouteLeadershipTracker tracker) {
+        return new CamelClusterLeadershipMetrics(camelContext, tracker);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CamelExchangeFactoryMetrics camelExchangeFactoryMetrics(CamelContext camelContext) {
+        return new CamelExchangeFactoryMetrics(camelContext);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CamelStreamCachingMetrics camelStreamCachingMetrics(CamelContext camelContext) {
+        return new CamelStreamCachingMetrics(camelContext);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CamelStreamCachingSpoolMetrics camelStreamCachingSpoolMetrics(CamelContext camelContext) {
+        return new CamelStreamCachingSpoolMetrics(camelContext);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CamelTemplateMetrics camelTemplateMetrics(CamelContext camelContext) {
+        return new CamelTemplateMetrics(camelContext);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.function.ToLongFunction;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spring.boot.util.StreamCachingHelper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} for the stream caching statistics and the disk usage of the spool directory.
+ *
+ * The statistics are only bound when stream caching statistics is enabled.
+ */
+public class CamelStreamCachingMetrics implements MeterBinder {
+
+    private static final String PREFIX = "camel.stream.caching.";
+
+    private final CamelContext camelContext;
+
+    public CamelStreamCachingMetrics(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("camelContext", camelContext.getName());
+
+        StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+        if (strategy != null && strategy.getStatistics() != null && strategy.getStatistics().isStatisticsEnabled()) {
+            FunctionCounter.builder(PREFIX + "memory.count", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheMemoryCounter))
+                    .tags(tags)
+                    .description("Number of stream caches kept in memory")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "memory.size", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheMemorySize))
+                    .tags(tags).baseUnit("bytes")
+                    .description("Total size of the stream caches kept in memory")
+                    .register(registry);
+            Gauge.builder(PREFIX + "memory.average.size", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheMemoryAverageSize))
+                    .tags(tags).baseUnit("bytes")
+                    .description("Average size of the stream caches kept in memory")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "spool.count", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheSpoolCounter))
+                    .tags(tags)
+                    .description("Number of stream caches spooled")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "spool.size", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheSpoolSize))
+                    .tags(tags).baseUnit("bytes")
+                    .description("Total size of the spooled stream caches")
+                    .register(registry);
+            Gauge.builder(PREFIX + "spool.average.size", camelContext, c -> statistic(c, StreamCachingStrategy.Statistics::getCacheSpoolAverageSize))
+                    .tags(tags).baseUnit("bytes")
+                    .description("Average size of the spooled stream caches")
+                    .register(registry);
+            Gauge.builder(PREFIX + "spool.largest.size", camelContext, StreamCachingHelper::getCacheSpoolLargestSize)
+                    .tags(tags).baseUnit("bytes")
+                    .description("Size of the largest spooled stream cache")
+                    .register(registry);
+        }
+
+        // the spool directory is resolved when stream caching is started
+        Gauge.builder(PREFIX + "spool.directory.used", camelContext,
+                c -> StreamCachingHelper.getSpoolDirectoryUsedSpace(StreamCachingHelper.getSpoolDirectory(c)))
+                .tags(tags).baseUnit("bytes")
+                .description("Size of the files in the stream caching spool directory")
+                .register(registry);
+        Gauge.builder(PREFIX + "spool.directory.free", camelContext,
+                c -> StreamCachingHelper.getSpoolDirectoryFreeSpace(StreamCachingHelper.getSpoolDirectory(c)))
+                .tags(tags).baseUnit("bytes")
+                .description("Free space available for the stream caching spool directory")
+                .register(registry);
+        Gauge.builder(PREFIX + "spool.directory.total", camelContext,
+                c -> StreamCachingHelper.getSpoolDirectoryTotalSpace(StreamCachingHelper.getSpoolDirectory(c)))
+                .tags(tags).baseUnit("bytes")
+                .description("Total space of the partition of the stream caching spool directory")
+                .register(registry);
+    }
+
+    private static double statistic(CamelContext camelContext, ToLongFunction<StreamCachingStrategy.Statistics> function) {
+        StreamCachingStrategy.Statistics statistics = StreamCachingHelper.getStatistics(camelContext);
+        return statistics != null ? function.applyAsLong(statistics) : 0;
+    }
+
+}
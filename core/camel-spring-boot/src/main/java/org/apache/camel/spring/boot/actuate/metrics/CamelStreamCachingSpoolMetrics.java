@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spring.boot.streamcaching.MemoryMappedSpool;
+import org.apache.camel.spring.boot.streamcaching.OffHeapBufferArena;
+import org.apache.camel.spring.boot.streamcaching.SpringBootStreamCachingStrategy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} for the usage of the off-heap and memory-mapped stream caching spool strategies.
+ *
+ * Nothing is bound when the default spool strategy is in use.
+ */
+public class CamelStreamCachingSpoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "camel.stream.caching.";
+
+    private final CamelContext camelContext;
+
+    public CamelStreamCachingSpoolMetrics(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+        if (!(strategy instanceof SpringBootStreamCachingStrategy)) {
+            return;
+        }
+        Tags tags = Tags.of("camelContext", camelContext.getName());
+
+        OffHeapBufferArena arena = ((SpringBootStreamCachingStrategy) strategy).getOffHeapBufferArena();
+        if (arena != null) {
+            Gauge.builder(PREFIX + "offheap.capacity", arena, OffHeapBufferArena::getCapacity)
+                    .tags(tags).baseUnit("bytes")
+                    .description("Hard capacity of the off-heap stream caching spool")
+                    .register(registry);
+            Gauge.builder(PREFIX + "offheap.allocated", arena, OffHeapBufferArena::getAllocated)
+                    .tags(tags).baseUnit("bytes")
+                    .description("Direct memory allocated by the off-heap stream caching spool")
+                    .register(registry);
+            Gauge.builder(PREFIX + "offheap.used", arena, OffHeapBufferArena::getUsed)
+                    .tags(tags).baseUnit("bytes")
+                    .description("Direct memory in use by stream caches spooled off-heap")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "offheap.exhausted", arena, OffHeapBufferArena::getExhaustedCounter)
+                    .tags(tags)
+                    .description("Number of times the off-heap stream caching spool was exhausted and spooled to file instead")
+                    .register(registry);
+        }
+
+        MemoryMappedSpool spool = ((SpringBootStreamCachingStrategy) strategy).getMemoryMappedSpool();
+        if (spool != null) {
+            Gauge.builder(PREFIX + "mmap.files", spool, MemoryMappedSpool::getFiles)
+                    .tags(tags)
+                    .description("Number of memory-mapped stream caching spool files in use")
+                    .register(registry);
+            Gauge.builder(PREFIX + "mmap.used", spool, MemoryMappedSpool::getBytes)
+                    .tags(tags).baseUnit("bytes")
+                    .description("Size of the memory-mapped stream caching spool files in use")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "mmap.created", spool, MemoryMappedSpool::getCreatedCounter)
+                    .tags(tags)
+                    .description("Total number of memory-mapped stream caching spool files created")
+                    .register(registry);
+        }
+    }
+
+}
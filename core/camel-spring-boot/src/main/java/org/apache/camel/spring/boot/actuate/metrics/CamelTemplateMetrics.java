@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.function.ToLongFunction;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CachingTemplate;
+import org.apache.camel.spring.boot.SpringBootConsumerTemplate;
+import org.apache.camel.spring.boot.SpringBootProducerTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} for the caches of the producer and consumer templates auto-configured by Spring
+ * Boot.
+ *
+ * The templates are created lazily when in use, so the meters report the templates which are registered as services
+ * on the CamelContext when measured (and zero before the templates are in use).
+ */
+public class CamelTemplateMetrics implements MeterBinder {
+
+    private static final String PREFIX = "camel.template.";
+
+    private final CamelContext camelContext;
+
+    public CamelTemplateMetrics(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTemplates(registry, "producer", SpringBootProducerTemplate.class);
+        bindTemplates(registry, "consumer", SpringBootConsumerTemplate.class);
+    }
+
+    private void bindTemplates(MeterRegistry registry, String type, Class<? extends CachingTemplate> templateType) {
+        Tags tags = Tags.of("camelContext", camelContext.getName(), "type", type);
+
+        Gauge.builder(PREFIX + "cache.size", camelContext, c -> sum(c, templateType, CachingTemplate::getCurrentCacheSize))
+                .tags(tags)
+                .description("Number of producers or consumers cached by the template")
+                .register(registry);
+        Gauge.builder(PREFIX + "cache.capacity", camelContext, c -> sum(c, templateType, CachingTemplate::getMaximumCacheSize))
+                .tags(tags)
+                .description("Maximum number of producers or consumers cached by the template")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "endpoint.cache.hits", camelContext,
+                c -> sum(c, templateType, t -> t.getEndpointCache().getHits()))
+                .tags(tags)
+                .description("Number of endpoints resolved from the template endpoint cache")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "endpoint.cache.misses", camelContext,
+                c -> sum(c, templateType, t -> t.getEndpointCache().getMisses()))
+                .tags(tags)
+                .description("Number of endpoints not found in the template endpoint cache")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "endpoint.cache.evictions", camelContext,
+                c -> sum(c, templateType, t -> t.getEndpointCache().getEvictions()))
+                .tags(tags)
+                .description("Number of endpoints evicted from the template endpoint cache because it was full")
+                .register(registry);
+    }
+
+    private static double sum(CamelContext camelContext, Class<? extends CachingTemplate> templateType,
+                              ToLongFunction<CachingTemplate> function) {
+        long answer = 0;
+        for (CachingTemplate template : camelContext.hasServices(templateType)) {
+            answer += function.applyAsLong(template);
+        }
+        return answer;
+    }
+
+}
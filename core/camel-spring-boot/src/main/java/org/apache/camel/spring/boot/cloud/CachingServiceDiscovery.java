@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceDiscovery} which caches the services discovered by another service discovery, so the services are
+ * not looked up on every service call.
+ *
+ * The services are looked up when a service is called for the first time, and then kept for the time to live. After
+ * the time to live, the cached services are still used (for the stale while revalidate time) while the services are
+ * looked up again in the background. If looking up the services fails, the last known services are used.
+ */
+public class CachingServiceDiscovery extends ServiceSupport implements ServiceDiscovery, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingServiceDiscovery.class);
+
+    private final ServiceDiscovery delegate;
+    private final long ttl;
+    private final long staleWhileRevalidate;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+
+    /**
+     * @param delegate             the service discovery to look up the services
+     * @param ttl                  the time to live of the cached services in millis
+     * @param staleWhileRevalidate the time in millis the expired services are used while being looked up again
+     * @param maxEntries           the maximum number of services to cache
+     */
+    public CachingServiceDiscovery(ServiceDiscovery delegate, long ttl, long staleWhileRevalidate, int maxEntries) {
+        this.delegate = ObjectHelper.notNull(delegate, "delegate");
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.staleWhileRevalidate = TimeUnit.MILLISECONDS.toNanos(staleWhileRevalidate);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public ServiceDiscovery getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Number of services which are cached.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public List<ServiceDefinition> getServices(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(name, Entry::new);
+            evict();
+        }
+        return entry.getServices();
+    }
+
+    /**
+     * Removes the cached services of the given service, so they are looked up again on the next service call.
+     */
+    public void invalidate(String name) {
+        entries.remove(name);
+    }
+
+    /**
+     * Removes all the cached services.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void evict() {
+        while (entries.size() > maxEntries) {
+            // remove the least recently used service
+            Map.Entry<String, Entry> eldest = null;
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (eldest == null || e.getValue().accessed < eldest.getValue().accessed) {
+                    eldest = e;
+                }
+            }
+            if (eldest == null || !entries.remove(eldest.getKey(), eldest.getValue())) {
+                return;
+            }
+        }
+    }
+
+    private void refreshAsync(Entry entry) {
+        ExecutorService executor = getExecutorService();
+        if (executor == null) {
+            entry.refresh();
+            return;
+        }
+        try {
+            executor.execute(entry::refresh);
+        } catch (RuntimeException e) {
+            // such as when the pool is shutting down, the cached services are looked up on the next call
+            entry.refreshing.set(false);
+            LOG.debug("Cannot refresh services: {} due to: {}", entry.name, e.getMessage());
+        }
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null && camelContext != null && isRunAllowed()) {
+            // the threads are only kept alive while there are services to look up
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this, "ServiceDiscoveryRefresh",
+                    new ThreadPoolProfileBuilder("ServiceDiscoveryRefresh")
+                            .poolSize(4).maxPoolSize(4)
+                            .keepAliveTime(60L).allowCoreThreadTimeOut(true).build());
+        }
+        return executorService;
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        entries.clear();
+    }
+
+    private final class Entry {
+
+        private final String name;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile List<ServiceDefinition> services;
+        private volatile long loaded;
+        private volatile long accessed;
+
+        Entry(String name) {
+            this.name = name;
+            // so the new entry is not the least recently used when evicting right after it is added
+            this.accessed = System.nanoTime();
+        }
+
+        List<ServiceDefinition> getServices() {
+            long now = System.nanoTime();
+            accessed = now;
+            List<ServiceDefinition> answer = services;
+            if (answer == null) {
+                return load();
+            }
+            long age = now - loaded;
+            if (age < ttl) {
+                return answer;
+            }
+            if (age < ttl + staleWhileRevalidate) {
+                if (refreshing.compareAndSet(false, true)) {
+                    refreshAsync(this);
+                }
+                return answer;
+            }
+            // too old to be used, unless the services cannot be looked up
+            try {
+                return lookup();
+            } catch (RuntimeException e) {
+                LOG.warn("Cannot look up services: {} due to: {}. Using the last known services.", name,
+                        e.getMessage());
+                return answer;
+            }
+        }
+
+        private synchronized List<ServiceDefinition> load() {
+            // only the first call looks up the services, the concurrent calls wait for the services
+            List<ServiceDefinition> answer = services;
+            return answer != null ? answer : lookup();
+        }
+
+        private List<ServiceDefinition> lookup() {
+            List<ServiceDefinition> answer = delegate.getServices(name);
+            answer = answer != null ? Collections.unmodifiableList(answer) : Collections.emptyList();
+            loaded = System.nanoTime();
+            services = answer;
+            return answer;
+        }
+
+        void refresh() {
+            try {
+                lookup();
+            } catch (RuntimeException e) {
+                LOG.warn("Cannot refresh services: {} due to: {}. Using the last known services.", name,
+                        e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        }
+    }
+
+}
@@ -245,6 +245,10 @@ public class CamelCloudConfigurationProperties {
          * Configure the service discovery rules.
          */
         private Map<String, ServiceDiscoveryConfiguration> configurations = new HashMap<>();
+        /**
+         * Configure the caching of the discovered services.
+         */
+        private ServiceDiscoveryCache cache = new ServiceDiscoveryCache();
 
         public boolean isEnabled() {
             return enabled;
@@ -257,6 +261,63 @@ public class CamelCloudConfigurationProperties {
         public Map<String, ServiceDiscoveryConfiguration> getConfigurations() {
             return configurations;
         }
+
+        public ServiceDiscoveryCache getCache() {
+            return cache;
+        }
+    }
+
+    public static class ServiceDiscoveryCache {
+        /**
+         * Whether to cache the discovered services, so the services are not looked up on every service call, default
+         * is false.
+         */
+        private boolean enabled;
+        /**
+         * The time in millis the discovered services are cached before they are looked up again.
+         */
+        private long ttl = 30000;
+        /**
+         * The time in millis the cached services are still used after the time to live, while they are looked up
+         * again in the background.
+         */
+        private long staleWhileRevalidate = 60000;
+        /**
+         * The maximum number of services to cache.
+         */
+        private int maxEntries = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(long ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getStaleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        public void setStaleWhileRevalidate(long staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
     }
 
     public static class ServiceDefinitionConfiguration {
@@ -337,6 +398,10 @@ public class CamelCloudConfigurationProperties {
          * Configure the service filtering rules.
          */
         private Map<String, ServiceFilterConfiguration> configurations = new HashMap<>();
+        /**
+         * Configure the filtering of the services which are failing, as learned from the service calls.
+         */
+        private PassiveHealthServiceFilterConfiguration passiveHealth = new PassiveHealthServiceFilterConfiguration();
 
         public boolean isEnabled() {
             return enabled;
@@ -349,6 +414,86 @@ public class CamelCloudConfigurationProperties {
         public Map<String, ServiceFilterConfiguration> getConfigurations() {
             return configurations;
         }
+
+        public PassiveHealthServiceFilterConfiguration getPassiveHealth() {
+            return passiveHealth;
+        }
+    }
+
+    public static class PassiveHealthServiceFilterConfiguration {
+        /**
+         * Whether to filter out the services which fail a number of consecutive service calls, default is false. The
+         * service is used again when a probe call succeeds after a back off time.
+         */
+        private boolean enabled;
+        /**
+         * The number of consecutive failed calls after which a service is ejected.
+         */
+        private int failureThreshold = 5;
+        /**
+         * The time in millis after which a call is counted as failed. Zero to not time out calls.
+         */
+        private long timeout;
+        /**
+         * The time in millis a service is ejected for, before a probe call is sent to the service.
+         */
+        private long backOff = 5000;
+        /**
+         * The maximum time in millis a service is ejected for, when the probe calls keep failing.
+         */
+        private long maxBackOff = 60000;
+        /**
+         * The time in millis after which a service which is not called is no longer tracked.
+         */
+        private long idleTime = 600000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+
+        public long getBackOff() {
+            return backOff;
+        }
+
+        public void setBackOff(long backOff) {
+            this.backOff = backOff;
+        }
+
+        public long getMaxBackOff() {
+            return maxBackOff;
+        }
+
+        public void setMaxBackOff(long maxBackOff) {
+            this.maxBackOff = maxBackOff;
+        }
+
+        public long getIdleTime() {
+            return idleTime;
+        }
+
+        public void setIdleTime(long idleTime) {
+            this.idleTime = idleTime;
+        }
     }
 
     // *****************************************
@@ -360,6 +505,10 @@ public class CamelCloudConfigurationProperties {
          * Global option to enable/disable Camel cloud service chooser, default is true.
          */
         private boolean enabled = true;
+        /**
+         * Configure the latency aware service chooser.
+         */
+        private LatencyAwareServiceChooserConfiguration latencyAware = new LatencyAwareServiceChooserConfiguration();
 
         public boolean isEnabled() {
             return enabled;
@@ -368,6 +517,87 @@ public class CamelCloudConfigurationProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public LatencyAwareServiceChooserConfiguration getLatencyAware() {
+            return latencyAware;
+        }
+    }
+
+    public static class LatencyAwareServiceChooserConfiguration {
+        /**
+         * Whether to choose the services by their response times, default is false. Two random services are compared,
+         * and the one with the lowest moving average of the response time (weighted by the number of in-flight calls)
+         * is chosen.
+         */
+        private boolean enabled;
+        /**
+         * The weight (between 0 and 1) of the latest response time in the moving average of the response times.
+         */
+        private double smoothingFactor = 0.3;
+        /**
+         * The number of consecutive failed calls after which a service is ejected.
+         */
+        private int failureThreshold = 5;
+        /**
+         * The time in millis a service is ejected for.
+         */
+        private long ejectionTime = 30000;
+        /**
+         * The maximum percentage of the services which can be ejected.
+         */
+        private int maxEjectionPercent = 50;
+        /**
+         * The time in millis after which a service which is not chosen nor called is no longer tracked.
+         */
+        private long idleTime = 600000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSmoothingFactor() {
+            return smoothingFactor;
+        }
+
+        public void setSmoothingFactor(double smoothingFactor) {
+            this.smoothingFactor = smoothingFactor;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getEjectionTime() {
+            return ejectionTime;
+        }
+
+        public void setEjectionTime(long ejectionTime) {
+            this.ejectionTime = ejectionTime;
+        }
+
+        public int getMaxEjectionPercent() {
+            return maxEjectionPercent;
+        }
+
+        public void setMaxEjectionPercent(int maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+        }
+
+        public long getIdleTime() {
+            return idleTime;
+        }
+
+        public void setIdleTime(long idleTime) {
+            this.idleTime = idleTime;
+        }
     }
 
     // *****************************************
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.util.GroupCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,6 +31,25 @@ import org.springframework.context.annotation.Configuration;
 @Conditional(CamelCloudServiceChooserAutoConfiguration.ServiceChooserCondition.class)
 public class CamelCloudServiceChooserAutoConfiguration {
 
+    @Bean(name = "service-chooser")
+    @ConditionalOnProperty(prefix = "camel.cloud.service-chooser.latency-aware", name = "enabled")
+    public LatencyAwareServiceChooser latencyAwareServiceChooser(CamelContext camelContext, CamelCloudConfigurationProperties configurationProperties) {
+        CamelCloudConfigurationProperties.LatencyAwareServiceChooserConfiguration configuration
+            = configurationProperties.getServiceChooser().getLatencyAware();
+
+        LatencyAwareServiceChooser serviceChooser = new LatencyAwareServiceChooser();
+        serviceChooser.setSmoothingFactor(configuration.getSmoothingFactor());
+        serviceChooser.setFailureThreshold(configuration.getFailureThreshold());
+        serviceChooser.setEjectionTime(configuration.getEjectionTime());
+        serviceChooser.setMaxEjectionPercent(configuration.getMaxEjectionPercent());
+        serviceChooser.setIdleTime(configuration.getIdleTime());
+
+        // the service chooser tracks the response times of the services as event notifier
+        camelContext.getManagementStrategy().addEventNotifier(serviceChooser);
+
+        return serviceChooser;
+    }
+
     // *******************************
     // Condition
     // *******************************
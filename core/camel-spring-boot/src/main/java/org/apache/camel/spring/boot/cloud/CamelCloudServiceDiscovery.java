@@ -17,7 +17,6 @@
 package org.apache.camel.spring.boot.cloud;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceDiscovery;
@@ -29,7 +28,15 @@ public class CamelCloudServiceDiscovery implements ServiceDiscovery {
     public CamelCloudServiceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) {
         // Created a chained service discovery that collects services from multiple
         // ServiceDiscovery
-        this.delegate = new CombinedServiceDiscovery(serviceDiscoveryList);
+        this(new CombinedServiceDiscovery(serviceDiscoveryList));
+    }
+
+    public CamelCloudServiceDiscovery(ServiceDiscovery delegate) {
+        this.delegate = delegate;
+    }
+
+    public ServiceDiscovery getDelegate() {
+        return delegate;
     }
 
     @Override
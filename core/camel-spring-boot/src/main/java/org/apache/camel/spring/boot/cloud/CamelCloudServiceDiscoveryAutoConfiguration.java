@@ -22,8 +22,8 @@ import java.util.Map;
 import javax.annotation.PostConstruct;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.CombinedServiceDiscovery;
 import org.apache.camel.impl.cloud.DefaultServiceDefinition;
 import org.apache.camel.impl.cloud.StaticServiceDiscovery;
 import org.apache.camel.spring.boot.util.GroupCondition;
@@ -68,8 +68,23 @@ public class CamelCloudServiceDiscoveryAutoConfiguration implements BeanFactoryA
 
     @Lazy
     @Bean(name = "service-discovery")
-    public CamelCloudServiceDiscovery serviceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) throws NoTypeConversionAvailableException {
-        return new CamelCloudServiceDiscovery(serviceDiscoveryList);
+    public CamelCloudServiceDiscovery serviceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) throws Exception {
+        CamelCloudConfigurationProperties.ServiceDiscoveryCache cache = configurationProperties.getServiceDiscovery().getCache();
+        if (!cache.isEnabled()) {
+            return new CamelCloudServiceDiscovery(serviceDiscoveryList);
+        }
+
+        CachingServiceDiscovery cachingServiceDiscovery = new CachingServiceDiscovery(
+            new CombinedServiceDiscovery(serviceDiscoveryList),
+            cache.getTtl(),
+            cache.getStaleWhileRevalidate(),
+            cache.getMaxEntries()
+        );
+        // the services are refreshed on the thread pools of camel, which are shutdown with camel
+        cachingServiceDiscovery.setCamelContext(camelContext);
+        camelContext.addService(cachingServiceDiscovery);
+
+        return new CamelCloudServiceDiscovery(cachingServiceDiscovery);
     }
 
     @PostConstruct
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import java.util.Map;
 import javax.annotation.PostConstruct;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.cloud.ServiceFilter;
 import org.apache.camel.impl.cloud.BlacklistServiceFilter;
 import org.apache.camel.impl.cloud.DefaultServiceDefinition;
 import org.apache.camel.impl.cloud.HealthyServiceFilter;
@@ -34,9 +36,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -45,6 +50,7 @@ import org.springframework.context.annotation.Lazy;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelCloudAutoConfiguration.class)
+@AutoConfigureAfter(CamelCloudAutoConfiguration.class)
 @EnableConfigurationProperties(CamelCloudConfigurationProperties.class)
 @Conditional(CamelCloudServiceFilterAutoConfiguration.Condition.class)
 public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAware {
@@ -56,6 +62,8 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
     private CamelContext camelContext;
     @Autowired
     private CamelCloudConfigurationProperties configurationProperties;
+    @Autowired
+    private ObjectProvider<PassiveHealthServiceFilter> passiveHealthServiceFilter;
 
     @Override
     public void setBeanFactory(BeanFactory factory) throws BeansException {
@@ -65,7 +73,28 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
     @Lazy
     @Bean(name = "service-filter")
     public CamelCloudServiceFilter serviceFilter() {
-        return createServiceFilter(configurationProperties.getServiceFilter());
+        return new CamelCloudServiceFilter(createServiceFilters(configurationProperties.getServiceFilter()));
+    }
+
+    @Bean(name = "passive-health-service-filter")
+    @ConditionalOnProperty(prefix = "camel.cloud.service-filter.passive-health", name = "enabled")
+    public static PassiveHealthServiceFilter passiveHealthServiceFilter(
+            CamelContext camelContext, CamelCloudConfigurationProperties configurationProperties) {
+        // static, as the filter is also used by the service filters registered when this configuration is initialized
+        CamelCloudConfigurationProperties.PassiveHealthServiceFilterConfiguration configuration
+            = configurationProperties.getServiceFilter().getPassiveHealth();
+
+        PassiveHealthServiceFilter serviceFilter = new PassiveHealthServiceFilter();
+        serviceFilter.setFailureThreshold(configuration.getFailureThreshold());
+        serviceFilter.setTimeout(configuration.getTimeout());
+        serviceFilter.setBackOff(configuration.getBackOff());
+        serviceFilter.setMaxBackOff(configuration.getMaxBackOff());
+        serviceFilter.setIdleTime(configuration.getIdleTime());
+
+        // the service filter tracks the outcomes of the service calls as event notifier
+        camelContext.getManagementStrategy().addEventNotifier(serviceFilter);
+
+        return serviceFilter;
     }
 
     @PostConstruct
@@ -101,11 +130,11 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
     private void registerBean(ConfigurableBeanFactory factory, String name, CamelCloudConfigurationProperties.ServiceFilterConfiguration configuration) {
         factory.registerSingleton(
             name,
-            createServiceFilter(configuration)
+            new CamelCloudServiceFilter(createServiceFilters(configuration))
         );
     }
 
-    private CamelCloudServiceFilter createServiceFilter(CamelCloudConfigurationProperties.ServiceFilterConfiguration configuration) {
+    private List<ServiceFilter> createServiceFilters(CamelCloudConfigurationProperties.ServiceFilterConfiguration configuration) {
         BlacklistServiceFilter blacklist = new BlacklistServiceFilter();
 
         Map<String, List<String>> services = configuration.getBlacklist();
@@ -126,6 +155,10 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
             }
         }
 
-        return new CamelCloudServiceFilter(Arrays.asList(new HealthyServiceFilter(), blacklist));
+        List<ServiceFilter> answer = new ArrayList<>(Arrays.asList(new HealthyServiceFilter(), blacklist));
+        // the health of the servers learned from the service calls is shared by all the services
+        passiveHealthServiceFilter.ifAvailable(answer::add);
+
+        return answer;
     }
 }
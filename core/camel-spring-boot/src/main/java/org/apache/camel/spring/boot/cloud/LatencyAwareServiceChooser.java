@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+
+/**
+ * A {@link ServiceChooser} which chooses the server with the lowest load, by the power of two choices: two random
+ * servers are compared, and the one with the lowest exponentially weighted moving average (EWMA) of the response
+ * time multiplied by the number of in-flight calls is chosen.
+ *
+ * The response times are tracked from the service calls, as this chooser is also an event notifier of the exchanges
+ * sent to the services. A server which fails a number of consecutive calls is ejected (not chosen) for a period of
+ * time, unless too many of the servers are ejected.
+ *
+ * The servers which are not chosen nor called for the idle time are removed, so the tracked servers do not grow
+ * without bound when the servers come and go (such as pods with dynamic addresses).
+ */
+public class LatencyAwareServiceChooser extends ServiceCallEventNotifierSupport<LatencyAwareServiceChooser.ServerStats>
+        implements ServiceChooser {
+
+    private double smoothingFactor = 0.3;
+    private int failureThreshold = 5;
+    private long ejectionTime = TimeUnit.SECONDS.toNanos(30);
+    private int maxEjectionPercent = 50;
+
+    public LatencyAwareServiceChooser() {
+        super("CamelServiceChooserServer");
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight (between 0 and 1) of the latest response time in the moving average of the response times.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * The number of consecutive failed calls after which a server is ejected.
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getEjectionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(ejectionTime);
+    }
+
+    /**
+     * The time in millis a server is ejected for.
+     */
+    public void setEjectionTime(long ejectionTime) {
+        this.ejectionTime = TimeUnit.MILLISECONDS.toNanos(ejectionTime);
+    }
+
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    /**
+     * The maximum percentage of the servers which can be ejected. When more servers are ejected, the ejected servers
+     * are chosen as well.
+     */
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    /**
+     * The moving average of the response time in millis of the given server, or -1 if the server was not called yet.
+     */
+    public double getResponseTime(String host, int port) {
+        ServerStats stats = getServer(host, port);
+        return stats != null && stats.sampled ? stats.ewma : -1;
+    }
+
+    /**
+     * Whether the given server is currently ejected.
+     */
+    public boolean isEjected(String host, int port) {
+        ServerStats stats = getServer(host, port);
+        return stats != null && stats.isEjected(System.nanoTime());
+    }
+
+    @Override
+    public ServiceDefinition choose(List<ServiceDefinition> definitions) {
+        long now = System.nanoTime();
+        prune(now);
+
+        int size = definitions.size();
+        if (size <= 1) {
+            return size == 0 ? null : definitions.get(0);
+        }
+
+        List<ServiceDefinition> candidates = definitions;
+        int ejected = 0;
+        for (ServiceDefinition definition : definitions) {
+            if (stats(definition).isEjected(now)) {
+                ejected++;
+            }
+        }
+        if (ejected > 0 && ejected < size && ejected * 100 <= size * maxEjectionPercent) {
+            candidates = new ArrayList<>(size - ejected);
+            for (ServiceDefinition definition : definitions) {
+                if (!stats(definition).isEjected(now)) {
+                    candidates.add(definition);
+                }
+            }
+            size = candidates.size();
+            if (size == 1) {
+                return candidates.get(0);
+            }
+        }
+
+        // power of two choices
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceDefinition a = candidates.get(first);
+        ServiceDefinition b = candidates.get(second);
+        return stats(b).load() < stats(a).load() ? b : a;
+    }
+
+    @Override
+    protected ServerStats createServer(String host, Integer port) {
+        return new ServerStats();
+    }
+
+    @Override
+    protected void onServiceCallDone(ServerStats server, Exchange exchange, long timeTaken) {
+        server.record(timeTaken, exchange.isFailed());
+    }
+
+    private ServerStats stats(ServiceDefinition definition) {
+        return getOrCreateServer(definition.getHost(), definition.getPort());
+    }
+
+    final class ServerStats extends TrackedServer {
+
+        private volatile double ewma;
+        private volatile boolean sampled;
+        private volatile long ejectedUntil;
+        private int failures;
+
+        double load() {
+            // the servers which were not called yet have no load, so they are tried first
+            return (ewma + 1) * (getInflight() + 1);
+        }
+
+        boolean isEjected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        synchronized void record(long timeTaken, boolean failed) {
+            ewma = sampled ? ewma + smoothingFactor * (timeTaken - ewma) : timeTaken;
+            sampled = true;
+            if (!failed) {
+                failures = 0;
+            } else if (++failures >= failureThreshold) {
+                failures = 0;
+                ejectedUntil = System.nanoTime() + ejectionTime;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceFilter;
+
+/**
+ * A {@link ServiceFilter} which filters out the servers which are failing, as learned from the service calls.
+ *
+ * Each server has a circuit, which is opened when the server fails (or times out) a number of consecutive calls, so
+ * the server is ejected. After a back off time, a single service call is sent to the server as a probe: if the probe
+ * succeeds, the circuit is closed and the server is used again, otherwise the server is ejected again for twice the
+ * back off time (up to the max back off time). When all the servers are ejected, none is filtered out.
+ *
+ * The outcomes of the service calls are tracked as this filter is also an event notifier of the exchanges sent to the
+ * services. The servers which are not called for the idle time are no longer tracked (so their circuit is closed).
+ */
+public class PassiveHealthServiceFilter extends ServiceCallEventNotifierSupport<PassiveHealthServiceFilter.Server>
+        implements ServiceFilter {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final Circuit CLOSED = new Circuit(State.CLOSED, 0, 0);
+
+    private int failureThreshold = 5;
+    private long timeout;
+    private long backOff = TimeUnit.SECONDS.toNanos(5);
+    private long maxBackOff = TimeUnit.SECONDS.toNanos(60);
+
+    public PassiveHealthServiceFilter() {
+        super("CamelServiceFilterServer");
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * The number of consecutive failed calls after which a server is ejected.
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getTimeout() {
+        return TimeUnit.NANOSECONDS.toMillis(timeout);
+    }
+
+    /**
+     * The time in millis after which a call is counted as failed, even if it succeeded. Zero to not time out calls.
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    public long getBackOff() {
+        return TimeUnit.NANOSECONDS.toMillis(backOff);
+    }
+
+    /**
+     * The time in millis a server is ejected for, before a probe call is sent to the server.
+     */
+    public void setBackOff(long backOff) {
+        this.backOff = TimeUnit.MILLISECONDS.toNanos(backOff);
+    }
+
+    public long getMaxBackOff() {
+        return TimeUnit.NANOSECONDS.toMillis(maxBackOff);
+    }
+
+    /**
+     * The maximum time in millis a server is ejected for, when the probe calls keep failing.
+     */
+    public void setMaxBackOff(long maxBackOff) {
+        this.maxBackOff = TimeUnit.MILLISECONDS.toNanos(maxBackOff);
+    }
+
+    /**
+     * The health of the servers which were called.
+     */
+    public List<ServerHealth> getServers() {
+        long now = System.nanoTime();
+        List<ServerHealth> answer = new ArrayList<>(getServerCount());
+        for (Server server : getTrackedServers().values()) {
+            answer.add(new ServerHealth(server, now));
+        }
+        return answer;
+    }
+
+    /**
+     * The state of the circuit of the given server.
+     */
+    public State getState(String host, int port) {
+        Server server = getServer(host, port);
+        return server != null ? server.circuit.get().state : State.CLOSED;
+    }
+
+    @Override
+    public List<ServiceDefinition> apply(Exchange exchange, List<ServiceDefinition> services) {
+        long now = System.nanoTime();
+        prune(now);
+        if (getServerCount() == 0) {
+            return services;
+        }
+
+        List<ServiceDefinition> answer = new ArrayList<>(services.size());
+        for (ServiceDefinition service : services) {
+            Server server = getServer(service.getHost(), service.getPort());
+            Circuit circuit = server != null ? server.circuit.get() : CLOSED;
+            if (circuit.state == State.CLOSED) {
+                answer.add(service);
+            } else if (now - circuit.retryAt >= 0) {
+                // the back off time elapsed (or the previous probe was never sent), so this call is the probe
+                Circuit probe = new Circuit(State.HALF_OPEN, circuit.backOff, now + circuit.backOff);
+                if (server.circuit.compareAndSet(circuit, probe)) {
+                    return Collections.singletonList(service);
+                }
+            }
+        }
+        return answer.isEmpty() ? services : answer;
+    }
+
+    @Override
+    protected Server createServer(String host, Integer port) {
+        return new Server(host, port);
+    }
+
+    @Override
+    protected void onServiceCallDone(Server server, Exchange exchange, long timeTaken) {
+        if (exchange.isFailed() || timeout > 0 && TimeUnit.MILLISECONDS.toNanos(timeTaken) > timeout) {
+            server.onFailure();
+        } else {
+            server.onSuccess();
+        }
+    }
+
+    private static final class Circuit {
+
+        private final State state;
+        private final long backOff;
+        private final long retryAt;
+
+        Circuit(State state, long backOff, long retryAt) {
+            this.state = state;
+            this.backOff = backOff;
+            this.retryAt = retryAt;
+        }
+    }
+
+    final class Server extends TrackedServer {
+
+        private final String host;
+        private final Integer port;
+        private final AtomicReference<Circuit> circuit = new AtomicReference<>(CLOSED);
+        private final AtomicInteger failures = new AtomicInteger();
+        private final LongAdder ejections = new LongAdder();
+
+        Server(String host, Integer port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        void onSuccess() {
+            failures.set(0);
+            Circuit current = circuit.get();
+            if (current.state == State.HALF_OPEN) {
+                // the probe succeeded
+                circuit.compareAndSet(current, CLOSED);
+            }
+        }
+
+        void onFailure() {
+            Circuit current = circuit.get();
+            if (current.state == State.HALF_OPEN) {
+                // the probe failed, so back off for longer
+                long next = Math.min(current.backOff * 2, Math.max(backOff, maxBackOff));
+                if (circuit.compareAndSet(current, new Circuit(State.OPEN, next, System.nanoTime() + next))) {
+                    ejections.increment();
+                }
+            } else if (current.state == State.CLOSED && failures.incrementAndGet() >= failureThreshold) {
+                if (circuit.compareAndSet(current, new Circuit(State.OPEN, backOff, System.nanoTime() + backOff))) {
+                    failures.set(0);
+                    ejections.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * The health of a server.
+     */
+    public static final class ServerHealth {
+
+        private final String host;
+        private final Integer port;
+        private final State state;
+        private final int consecutiveFailures;
+        private final long ejections;
+        private final long retryIn;
+
+        private ServerHealth(Server server, long now) {
+            Circuit circuit = server.circuit.get();
+            this.host = server.host;
+            this.port = server.port;
+            this.state = circuit.state;
+            this.consecutiveFailures = server.failures.get();
+            this.ejections = server.ejections.sum();
+            this.retryIn = circuit.state == State.OPEN ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(circuit.retryAt - now)) : 0;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public Integer getPort() {
+            return port;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        /**
+         * Number of times the server was ejected.
+         */
+        public long getEjections() {
+            return ejections;
+        }
+
+        /**
+         * The time in millis until a probe call is sent to the server, when the server is ejected.
+         */
+        public long getRetryIn() {
+            return retryIn;
+        }
+    }
+
+}
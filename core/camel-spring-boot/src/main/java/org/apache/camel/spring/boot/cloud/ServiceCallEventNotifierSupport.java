@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.cloud.ServiceCallConstants;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSendingEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSentEvent;
+import org.apache.camel.support.EventNotifierSupport;
+
+/**
+ * Base class for the service filters and choosers which learn about the servers from the service calls, as event
+ * notifier of the exchanges sent to the services.
+ *
+ * The servers which are not used (called, or chosen by a chooser) for the idle time are removed, so the tracked
+ * servers do not grow without bound when the servers come and go (such as pods with dynamic addresses). A server is
+ * not removed while it has calls in flight.
+ *
+ * @param <S> the type of the tracked servers
+ */
+public abstract class ServiceCallEventNotifierSupport<S extends ServiceCallEventNotifierSupport.TrackedServer>
+        extends EventNotifierSupport {
+
+    private final Map<String, S> servers = new ConcurrentHashMap<>();
+    private final String serverProperty;
+    private long idleTime = TimeUnit.MINUTES.toNanos(10);
+    private final AtomicLong nextPrune = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param serverProperty the exchange property which holds the server called by the exchange
+     */
+    protected ServiceCallEventNotifierSupport(String serverProperty) {
+        this.serverProperty = serverProperty;
+
+        // only the exchanges sent to the services are needed
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreExchangeCreatedEvent(true);
+        setIgnoreExchangeCompletedEvent(true);
+        setIgnoreExchangeFailedEvents(true);
+        setIgnoreExchangeRedeliveryEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    public long getIdleTime() {
+        return TimeUnit.NANOSECONDS.toMillis(idleTime);
+    }
+
+    /**
+     * The time in millis after which a server which is not used is removed.
+     */
+    public void setIdleTime(long idleTime) {
+        this.idleTime = TimeUnit.MILLISECONDS.toNanos(idleTime);
+        nextPrune.set(System.nanoTime() + this.idleTime);
+    }
+
+    /**
+     * The number of servers which are tracked.
+     */
+    public int getServerCount() {
+        return servers.size();
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof ExchangeSendingEvent) {
+            Exchange exchange = ((ExchangeSendingEvent) event).getExchange();
+            String host = exchange.getIn().getHeader(ServiceCallConstants.SERVICE_HOST, String.class);
+            if (host == null || exchange.getProperty(serverProperty) != null
+                    || !((ExchangeSendingEvent) event).getEndpoint().getEndpointUri().contains(host)) {
+                // not sent to a service by the service call
+                return;
+            }
+            Integer port = exchange.getIn().getHeader(ServiceCallConstants.SERVICE_PORT, Integer.class);
+            S server = getOrCreateServer(host, port);
+            server.inflight.incrementAndGet();
+            exchange.setProperty(serverProperty, server);
+        } else if (event instanceof ExchangeSentEvent) {
+            Exchange exchange = ((ExchangeSentEvent) event).getExchange();
+            Object value = exchange.removeProperty(serverProperty);
+            if (value instanceof TrackedServer) {
+                @SuppressWarnings("unchecked")
+                S server = (S) value;
+                server.inflight.decrementAndGet();
+                server.lastUsed = System.nanoTime();
+                onServiceCallDone(server, exchange, ((ExchangeSentEvent) event).getTimeTaken());
+            }
+        }
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return event instanceof ExchangeSendingEvent || event instanceof ExchangeSentEvent;
+    }
+
+    /**
+     * Creates the tracked server for the given host and port.
+     */
+    protected abstract S createServer(String host, Integer port);
+
+    /**
+     * Called when a service call to the given server is done.
+     *
+     * @param server    the server which was called
+     * @param exchange  the exchange sent to the server
+     * @param timeTaken the time in millis the call took
+     */
+    protected abstract void onServiceCallDone(S server, Exchange exchange, long timeTaken);
+
+    /**
+     * The tracked server of the given host and port, or <tt>null</tt> if the server is not tracked.
+     */
+    protected S getServer(String host, Integer port) {
+        return servers.get(host + ":" + port);
+    }
+
+    /**
+     * The tracked server of the given host and port, which is created if not tracked, and marked as used.
+     */
+    protected S getOrCreateServer(String host, Integer port) {
+        S answer = servers.computeIfAbsent(host + ":" + port, k -> createServer(host, port));
+        answer.lastUsed = System.nanoTime();
+        return answer;
+    }
+
+    protected Map<String, S> getTrackedServers() {
+        return servers;
+    }
+
+    /**
+     * Removes the servers which are idle, at most once per idle time.
+     */
+    protected void prune(long now) {
+        long next = nextPrune.get();
+        if (now - next >= 0 && nextPrune.compareAndSet(next, now + idleTime)) {
+            servers.values().removeIf(server -> server.inflight.get() == 0 && now - server.lastUsed > idleTime);
+        }
+    }
+
+    /**
+     * A server tracked from the service calls.
+     */
+    public abstract static class TrackedServer {
+
+        final AtomicInteger inflight = new AtomicInteger();
+        volatile long lastUsed = System.nanoTime();
+
+        /**
+         * The number of calls in flight to the server.
+         */
+        protected int getInflight() {
+            return inflight.get();
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
 import org.apache.camel.impl.cluster.ClusteredRouteController;
@@ -97,4 +98,18 @@ public class ClusteredRouteControllerAutoConfiguration {
 
         return controller;
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(CamelClusterService.class)
+    public ClusteredRouteLeadershipTracker clusteredRouteLeadershipTracker(
+            CamelContext camelContext, ClusteredRouteControllerConfiguration configuration) {
+        ClusteredRouteLeadershipTracker tracker = new ClusteredRouteLeadershipTracker(configuration.isWarmStandby());
+        tracker.setCamelContext(camelContext);
+
+        // the tracker is notified of the lifecycle of the routes as event notifier
+        camelContext.getManagementStrategy().addEventNotifier(tracker);
+
+        return tracker;
+    }
 }
@@ -51,6 +51,13 @@ public class ClusteredRouteControllerConfiguration {
      */
     private CamelClusterService clusterService;
 
+    /**
+     * Whether to start the endpoints of the clustered routes (the endpoints they consume from and send to) ahead
+     * on the members which are not the leader, so they are ready when the leadership is taken over, to fail over
+     * faster. The routes are not started on these members. Default is false.
+     */
+    private boolean warmStandby;
+
     /**
      * Routes configuration.
      */
@@ -80,6 +87,14 @@ public class ClusteredRouteControllerConfiguration {
         this.namespace = namespace;
     }
 
+    public boolean isWarmStandby() {
+        return warmStandby;
+    }
+
+    public void setWarmStandby(boolean warmStandby) {
+        this.warmStandby = warmStandby;
+    }
+
     public Map<String, RouteConfiguration> getRoutes() {
         return routes;
     }
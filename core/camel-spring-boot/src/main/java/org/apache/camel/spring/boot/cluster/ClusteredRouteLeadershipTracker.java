@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointAware;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.cluster.CamelClusterEventListener;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.cluster.CamelClusterView;
+import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
+import org.apache.camel.impl.cluster.ClusteredRouteController;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.CamelContextStartedEvent;
+import org.apache.camel.spi.CamelEvent.RouteAddedEvent;
+import org.apache.camel.spi.CamelEvent.RouteEvent;
+import org.apache.camel.spi.CamelEvent.RouteStartedEvent;
+import org.apache.camel.spi.CamelEvent.RouteStartingEvent;
+import org.apache.camel.spi.CamelEvent.RouteStoppedEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the leadership of the namespaces of the routes controlled by the {@link ClusteredRouteController}: which
+ * member is the leader, how many times the leadership changed, and how long it took to take over the routes when this
+ * member became the leader (from the leadership change until all the routes of the namespace are started).
+ *
+ * When the warm standby is enabled, the endpoints of the clustered routes (the endpoints they consume from and send
+ * to) are started ahead on the members which are not the leader, so they are ready when the leadership is taken over.
+ * The routes themselves (and so their processors and consumers) are not started on these members, as some consumers
+ * must only run on a single member of the cluster.
+ */
+public class ClusteredRouteLeadershipTracker extends EventNotifierSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusteredRouteLeadershipTracker.class);
+
+    private final Map<String, NamespaceLeadership> namespaces = new ConcurrentHashMap<>();
+    private final List<Consumer<NamespaceLeadership>> listeners = new CopyOnWriteArrayList<>();
+    private final boolean warmStandby;
+    private CamelContext camelContext;
+
+    public ClusteredRouteLeadershipTracker(boolean warmStandby) {
+        this.warmStandby = warmStandby;
+
+        // only the lifecycle of the routes is needed
+        setIgnoreCamelContextEvents(false);
+        setIgnoreRouteEvents(false);
+        setIgnoreServiceEvents(true);
+        setIgnoreExchangeEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public boolean isWarmStandby() {
+        return warmStandby;
+    }
+
+    /**
+     * The leadership of the namespaces of the clustered routes.
+     */
+    public Collection<NamespaceLeadership> getNamespaces() {
+        return new ArrayList<>(namespaces.values());
+    }
+
+    public NamespaceLeadership getNamespace(String namespace) {
+        return namespaces.get(namespace);
+    }
+
+    /**
+     * Adds a listener which is called with the leadership of each namespace which is tracked, including the namespaces
+     * which are already tracked.
+     */
+    public void addNamespaceListener(Consumer<NamespaceLeadership> listener) {
+        listeners.add(listener);
+        namespaces.values().forEach(listener);
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return event instanceof CamelContextStartedEvent || event instanceof RouteEvent;
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof CamelContextStartedEvent) {
+            track();
+        } else if (event instanceof RouteAddedEvent) {
+            if (camelContext.isStarted()) {
+                track();
+            }
+        } else if (event instanceof RouteStartingEvent) {
+            NamespaceLeadership leadership = namespaceOf(((RouteStartingEvent) event).getRoute());
+            if (leadership != null && !leadership.leader) {
+                // the routes are started before the leadership change is notified to this tracker
+                leadership.takeoverStarting();
+            }
+        } else if (event instanceof RouteStartedEvent) {
+            NamespaceLeadership leadership = namespaceOf(((RouteStartedEvent) event).getRoute());
+            if (leadership != null) {
+                leadership.takeoverCompleted(((RouteStartedEvent) event).getRoute());
+            }
+        } else if (event instanceof RouteStoppedEvent) {
+            NamespaceLeadership leadership = namespaceOf(((RouteStoppedEvent) event).getRoute());
+            if (leadership != null && !leadership.leader) {
+                // the routes are stopped as the leadership was lost, so keep them warm for the next takeover
+                leadership.warmUp();
+            }
+        }
+    }
+
+    private void track() throws Exception {
+        ClusteredRouteController controller = getController();
+        if (controller == null) {
+            return;
+        }
+
+        synchronized (this) {
+            for (Route route : controller.getControlledRoutes()) {
+                String namespace = namespaceOf(controller, route.getId());
+                if (namespace != null && !namespaces.containsKey(namespace)) {
+                    NamespaceLeadership leadership = new NamespaceLeadership(namespace);
+                    leadership.start(controller.getClusterService());
+                    namespaces.put(namespace, leadership);
+                    listeners.forEach(l -> l.accept(leadership));
+                }
+            }
+        }
+        // warm up outside the lock, as starting the endpoints may take a while
+        for (NamespaceLeadership leadership : namespaces.values()) {
+            if (!leadership.leader) {
+                leadership.warmUp();
+            }
+        }
+    }
+
+    private ClusteredRouteController getController() {
+        if (camelContext == null || !(camelContext.getRouteController() instanceof ClusteredRouteController)) {
+            return null;
+        }
+        return (ClusteredRouteController) camelContext.getRouteController();
+    }
+
+    private NamespaceLeadership namespaceOf(Route route) {
+        ClusteredRouteController controller = getController();
+        if (controller == null || namespaces.isEmpty()) {
+            return null;
+        }
+        String namespace = namespaceOf(controller, route.getId());
+        NamespaceLeadership answer = namespace != null ? namespaces.get(namespace) : null;
+        return answer != null && answer.getRoutes().contains(route.getId()) ? answer : null;
+    }
+
+    private static String namespaceOf(ClusteredRouteController controller, String routeId) {
+        ClusteredRouteConfiguration configuration = controller.getRoutesConfiguration().get(routeId);
+        if (configuration != null && configuration.getNamespace() != null) {
+            return configuration.getNamespace();
+        }
+        return controller.getNamespace();
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        for (NamespaceLeadership leadership : namespaces.values()) {
+            leadership.stop();
+        }
+        namespaces.clear();
+    }
+
+    /**
+     * The leadership of a namespace.
+     */
+    public final class NamespaceLeadership implements CamelClusterEventListener.Leadership {
+
+        private final String namespace;
+        private final LongAdder elections = new LongAdder();
+        private final LongAdder takeovers = new LongAdder();
+        private volatile CamelClusterView view;
+        private volatile boolean leader;
+        private volatile String leaderId;
+        private volatile long leaderSince;
+        private volatile long takeoverStarted;
+        private volatile long lastTakeoverTime = -1;
+        private volatile long maxTakeoverTime = -1;
+
+        NamespaceLeadership(String namespace) {
+            this.namespace = namespace;
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * Whether this member is the leader of the namespace.
+         */
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * The id of the member which is the leader of the namespace, if any.
+         */
+        public String getLeaderId() {
+            return leaderId;
+        }
+
+        /**
+         * The time (in millis since epoch) since this member is the leader, or 0 if it is not the leader.
+         */
+        public long getLeaderSince() {
+            return leader ? leaderSince : 0;
+        }
+
+        /**
+         * The number of times the leadership of the namespace changed to another member (or to no member).
+         */
+        public long getElections() {
+            return elections.sum();
+        }
+
+        /**
+         * The number of times this member took over the routes of the namespace as it became the leader.
+         */
+        public long getTakeovers() {
+            return takeovers.sum();
+        }
+
+        /**
+         * The time (in millis) to take over the routes the last time this member became the leader, or -1.
+         */
+        public long getLastTakeoverTime() {
+            return lastTakeoverTime;
+        }
+
+        /**
+         * The longest time (in millis) to take over the routes since the application started, or -1.
+         */
+        public long getMaxTakeoverTime() {
+            return maxTakeoverTime;
+        }
+
+        /**
+         * The ids of the clustered routes of the namespace.
+         */
+        public List<String> getRoutes() {
+            List<String> answer = new ArrayList<>();
+            for (Route route : routes()) {
+                answer.add(route.getId());
+            }
+            return answer;
+        }
+
+        @Override
+        public void leadershipChanged(CamelClusterView view, Optional<CamelClusterMember> leader) {
+            boolean local = leader.map(CamelClusterMember::isLocal).orElse(false);
+            String id = leader.map(CamelClusterMember::getId).orElse(null);
+
+            boolean lost = false;
+            synchronized (this) {
+                // the cluster views may notify the same leader again
+                if (!Objects.equals(id, leaderId)) {
+                    elections.increment();
+                }
+                leaderId = id;
+                if (local && !this.leader) {
+                    this.leader = true;
+                    leaderSince = System.currentTimeMillis();
+                    // the routes may already be started by the time this tracker is notified,
+                    // in which case the takeover is measured from the start of the routes
+                    if (camelContext.isStarted() && !isStarted(null)) {
+                        takeoverStarting();
+                    }
+                } else if (!local && this.leader) {
+                    this.leader = false;
+                    takeoverStarted = 0;
+                    lost = true;
+                }
+            }
+            if (lost) {
+                warmUp();
+            }
+        }
+
+        synchronized void takeoverStarting() {
+            if (takeoverStarted == 0) {
+                takeoverStarted = System.nanoTime();
+            }
+        }
+
+        synchronized void takeoverCompleted(Route started) {
+            if (takeoverStarted == 0 || !isStarted(started)) {
+                return;
+            }
+            long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - takeoverStarted);
+            takeoverStarted = 0;
+            lastTakeoverTime = time;
+            maxTakeoverTime = Math.max(maxTakeoverTime, time);
+            takeovers.increment();
+            LOG.debug("Took over the routes of namespace: {} in {} millis", namespace, time);
+        }
+
+        private boolean isStarted(Route started) {
+            for (Route route : routes()) {
+                // the route which is notified as started may not have the started status yet
+                if (route != started && camelContext.getRouteController().getRouteStatus(route.getId()) != ServiceStatus.Started) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void warmUp() {
+            if (!warmStandby) {
+                return;
+            }
+            for (Route route : routes()) {
+                if (camelContext.getRouteController().getRouteStatus(route.getId()) == ServiceStatus.Stopped) {
+                    Set<Endpoint> endpoints = new LinkedHashSet<>();
+                    endpoints.add(route.getEndpoint());
+                    collectEndpoints(route.navigate(), endpoints);
+                    ServiceHelper.startService(endpoints);
+                    LOG.debug("Warmed up {} endpoints of standby route: {} of namespace: {}", endpoints.size(),
+                            route.getId(), namespace);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void collectEndpoints(Navigate<Processor> navigate, Set<Endpoint> endpoints) {
+            List<Processor> processors = navigate != null ? navigate.next() : null;
+            if (processors == null) {
+                return;
+            }
+            for (Processor processor : processors) {
+                if (processor instanceof EndpointAware) {
+                    endpoints.add(((EndpointAware) processor).getEndpoint());
+                }
+                if (processor instanceof Navigate) {
+                    collectEndpoints((Navigate<Processor>) processor, endpoints);
+                }
+            }
+        }
+
+        void start(CamelClusterService clusterService) throws Exception {
+            view = clusterService.getView(namespace);
+            view.addEventListener(this);
+
+            Optional<CamelClusterMember> current = view.getLeader();
+            leaderId = current.map(CamelClusterMember::getId).orElse(null);
+            leader = current.map(CamelClusterMember::isLocal).orElse(false);
+            if (leader) {
+                leaderSince = System.currentTimeMillis();
+            }
+        }
+
+        void stop() throws Exception {
+            CamelClusterView current = view;
+            if (current != null) {
+                view = null;
+                current.removeEventListener(this);
+                current.getClusterService().releaseView(current);
+            }
+        }
+
+        private List<Route> routes() {
+            List<Route> answer = new ArrayList<>();
+            ClusteredRouteController controller = getController();
+            if (controller != null) {
+                for (Route route : controller.getControlledRoutes()) {
+                    if (namespace.equals(namespaceOf(controller, route.getId()))) {
+                        answer.add(route);
+                    }
+                }
+            }
+            return answer;
+        }
+    }
+}
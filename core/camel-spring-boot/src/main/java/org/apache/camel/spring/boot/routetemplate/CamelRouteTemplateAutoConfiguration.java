@@ -16,17 +16,19 @@
  */
 package org.apache.camel.spring.boot.routetemplate;
 
-import java.util.Map;
-
-import org.apache.camel.CamelContext;
-import org.apache.camel.main.PropertiesRouteTemplateParametersSource;
-import org.apache.camel.spi.RouteTemplateParameterSource;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelAutoConfiguration.class)
@@ -35,31 +37,29 @@ import org.springframework.context.annotation.Configuration;
 public class CamelRouteTemplateAutoConfiguration {
 
     @Bean
-    public RouteTemplateParameterSource routeTemplate(CamelContext camelContext, CamelRouteTemplateConfigurationProperties rt) {
-        if (rt.getConfig() == null) {
-            return null;
-        }
+    @Conditional(CamelRouteTemplateAutoConfiguration.Condition.class)
+    public RouteTemplateInstantiator routeTemplate(CamelRouteTemplateConfigurationProperties rt) {
+        // the routes are created from the templates before camel is started
+        return new RouteTemplateInstantiator(rt.getConfig());
+    }
 
-        PropertiesRouteTemplateParametersSource source = new PropertiesRouteTemplateParametersSource();
-        int counter = 0;
-        for (Map<String, String> e : rt.getConfig()) {
-            String routeId = e.remove("routeId");
-            if (routeId == null) {
-                routeId = e.remove("route-id");
-            }
-            if (routeId == null) {
-                routeId = String.valueOf(counter);
-                // use counter as route id since none was specified
-                counter++;
+    /**
+     * Only configures the instantiator when routes are configured, as it is a {@link
+     * org.apache.camel.spring.boot.CamelContextConfiguration}.
+     */
+    public static class Condition extends SpringBootCondition {
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata annotatedTypeMetadata) {
+            Binder binder = Binder.get(context.getEnvironment());
+            boolean config = binder.bind("camel.routetemplate", CamelRouteTemplateConfigurationProperties.class)
+                    .map(rt -> rt.getConfig() != null && !rt.getConfig().isEmpty()).orElse(false);
+            ConditionMessage.Builder message = ConditionMessage.forCondition("camel.routetemplate.config");
+            if (config) {
+                return ConditionOutcome.match(message.because("configured"));
             }
-            for (Map.Entry<String, String> entry : e.entrySet()) {
-                source.addParameter(routeId, entry.getKey(), entry.getValue());
-            }
-        }
 
-        camelContext.getRegistry().bind("CamelSpringBootRouteTemplateParametersSource", RouteTemplateParameterSource.class, source);
-
-        return source;
+            return ConditionOutcome.noMatch(message.because("not configured"));
+        }
     }
 
 }
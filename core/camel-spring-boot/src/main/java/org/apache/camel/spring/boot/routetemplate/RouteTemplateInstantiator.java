@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.routetemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.RouteTemplateParameterDefinition;
+import org.apache.camel.spring.boot.CamelContextConfiguration;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the routes from the route templates configured by the camel.routetemplate properties, before Camel is
+ * started.
+ *
+ * Each route template is looked up and its required parameters are resolved once, and the parameters of all the
+ * routes are validated before any route is created, so all the invalid configurations are reported at once. The
+ * routes are then created from their templates, one by one, as the model of Camel does not support adding routes
+ * from templates concurrently.
+ */
+public class RouteTemplateInstantiator implements CamelContextConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteTemplateInstantiator.class);
+
+    private final List<Map<String, String>> config;
+    private int created;
+
+    public RouteTemplateInstantiator(List<Map<String, String>> config) {
+        this.config = config;
+    }
+
+    /**
+     * Number of routes created from the route templates.
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    @Override
+    public void beforeApplicationStart(CamelContext camelContext) {
+        List<TemplatedRoute> routes = resolveRoutes();
+        if (routes.isEmpty()) {
+            return;
+        }
+
+        Model model = camelContext.adapt(ExtendedCamelContext.class).getExtension(Model.class);
+        validate(model, routes);
+
+        StopWatch watch = new StopWatch();
+        for (TemplatedRoute route : routes) {
+            try {
+                route.addTo(model);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Error creating route " + route.routeId + " from route template " + route.templateId
+                                                   + " due to: " + e.getMessage(),
+                        e);
+            }
+        }
+        created = routes.size();
+        LOG.info("Created {} routes from route templates in {} millis", created, watch.taken());
+    }
+
+    @Override
+    public void afterApplicationStart(CamelContext camelContext) {
+        // noop
+    }
+
+    private List<TemplatedRoute> resolveRoutes() {
+        List<TemplatedRoute> answer = new ArrayList<>();
+        int counter = 0;
+        for (Map<String, String> e : config) {
+            Map<String, Object> parameters = new HashMap<>(e);
+            Object routeId = parameters.remove("routeId");
+            if (routeId == null) {
+                routeId = parameters.remove("route-id");
+            }
+            if (routeId == null) {
+                routeId = String.valueOf(counter);
+                // use counter as route id since none was specified
+                counter++;
+            }
+            Object templateId = parameters.remove("templateId");
+            if (templateId == null) {
+                templateId = parameters.remove("template-id");
+            }
+            if (templateId == null) {
+                throw new IllegalArgumentException("Route template " + routeId + " is missing templateId parameter");
+            }
+            answer.add(new TemplatedRoute(routeId.toString(), templateId.toString(), parameters));
+        }
+        return answer;
+    }
+
+    private static void validate(Model model, List<TemplatedRoute> routes) {
+        // the required parameters (without default values) of each template, resolved once per template
+        Map<String, List<String>> requiredParameters = new HashMap<>();
+        StringJoiner errors = new StringJoiner("; ");
+        for (TemplatedRoute route : routes) {
+            if (route.parameters.containsKey("location")) {
+                // the template is loaded from its location when the route is created
+                continue;
+            }
+            List<String> required = requiredParameters.computeIfAbsent(route.templateId, id -> {
+                RouteTemplateDefinition template = model.getRouteTemplateDefinition(id);
+                if (template == null) {
+                    return null;
+                }
+                List<String> names = new ArrayList<>();
+                for (RouteTemplateParameterDefinition parameter : template.getTemplateParameters()) {
+                    if (parameter.isRequired() && parameter.getDefaultValue() == null) {
+                        names.add(parameter.getName());
+                    }
+                }
+                return names;
+            });
+            if (required == null) {
+                errors.add("Cannot find RouteTemplate with id " + route.templateId + " for route " + route.routeId);
+                continue;
+            }
+            StringJoiner missing = new StringJoiner(",");
+            for (String name : required) {
+                if (!route.parameters.containsKey(name)) {
+                    missing.add(name);
+                }
+            }
+            if (missing.length() > 0) {
+                errors.add("Route template " + route.templateId + " for route " + route.routeId
+                           + " the following mandatory parameters must be provided: " + missing);
+            }
+        }
+        if (errors.length() > 0) {
+            throw new IllegalArgumentException(errors.toString());
+        }
+    }
+
+    private static final class TemplatedRoute {
+
+        private final String routeId;
+        private final String templateId;
+        private final Map<String, Object> parameters;
+
+        TemplatedRoute(String routeId, String templateId, Map<String, Object> parameters) {
+            this.routeId = routeId;
+            this.templateId = templateId;
+            this.parameters = Collections.unmodifiableMap(parameters);
+        }
+
+        void addTo(Model model) throws Exception {
+            model.addRouteFromTemplate(routeId, templateId, new HashMap<>(parameters));
+        }
+    }
+
+}
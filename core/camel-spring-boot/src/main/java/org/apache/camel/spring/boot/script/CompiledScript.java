@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A compiled script, which is the classes compiled from the script by their binary names.
+ */
+public final class CompiledScript {
+
+    private final String name;
+    private final Map<String, byte[]> classes;
+
+    /**
+     * @param name    the name of the main class of the script
+     * @param classes the classes compiled from the script, by their binary names
+     */
+    public CompiledScript(String name, Map<String, byte[]> classes) {
+        this.name = name;
+        this.classes = Collections.unmodifiableMap(new LinkedHashMap<>(classes));
+    }
+
+    /**
+     * The name of the main class of the script.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The classes compiled from the script, by their binary names.
+     */
+    public Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.util.concurrent.Future;
+
+/**
+ * A cache of compiled scripts, such as the routes of the script based DSLs, so the scripts which did not change are
+ * not compiled again.
+ *
+ * The compiled scripts are cached by the hash of their {@link ScriptKey}, so a script is compiled again when its
+ * source or the version of the engine compiling it changes.
+ */
+public interface CompiledScriptCache {
+
+    /**
+     * Looks up the compiled script.
+     *
+     * @param  key the key of the script
+     * @return     the compiled script, or <tt>null</tt> if not cached
+     */
+    CompiledScript lookup(ScriptKey key);
+
+    /**
+     * Adds the compiled script to the cache.
+     *
+     * @param key    the key of the script
+     * @param script the compiled script
+     */
+    void store(ScriptKey key, CompiledScript script);
+
+    /**
+     * Gets the compiled script from the cache, or compiles (and caches) the script if not cached.
+     *
+     * @param  key       the key of the script
+     * @param  compiler  to compile the script when not cached
+     * @return           the compiled script
+     * @throws Exception is thrown if the script cannot be compiled
+     */
+    CompiledScript compile(ScriptKey key, ScriptCompiler compiler) throws Exception;
+
+    /**
+     * Gets the compiled script from the cache, or compiles (and caches) the script in the background if not cached,
+     * so several scripts can be compiled concurrently.
+     *
+     * @param  key      the key of the script
+     * @param  compiler to compile the script when not cached
+     * @return          the compiled script, once compiled
+     */
+    Future<CompiledScript> compileAsync(ScriptKey key, ScriptCompiler compiler);
+
+    /**
+     * Number of compiled scripts found in the cache.
+     */
+    long getHits();
+
+    /**
+     * Number of scripts which were not found in the cache, and therefore compiled.
+     */
+    long getMisses();
+
+}
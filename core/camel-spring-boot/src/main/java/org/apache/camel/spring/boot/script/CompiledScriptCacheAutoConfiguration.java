@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.util.ObjectHelper;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(CamelAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "camel.springboot.script-cache", name = "enabled")
+@EnableConfigurationProperties(CompiledScriptCacheConfigurationProperties.class)
+@AutoConfigureAfter(CamelAutoConfiguration.class)
+public class CompiledScriptCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CompiledScriptCache compiledScriptCache(CamelContext camelContext, CompiledScriptCacheConfigurationProperties config)
+            throws Exception {
+        DefaultCompiledScriptCache cache = new DefaultCompiledScriptCache(
+                ObjectHelper.isNotEmpty(config.getDirectory()) ? config.getDirectory() : null,
+                config.getMemoryCacheSize(), config.getCompileParallelism());
+        cache.setCamelContext(camelContext);
+        camelContext.addService(cache);
+        return cache;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.springboot.script-cache")
+public class CompiledScriptCacheConfigurationProperties {
+
+    /**
+     * Whether to cache the scripts compiled by the script based DSLs (such as the Groovy routes), so the scripts
+     * which did not change are not compiled again when the application is restarted.
+     */
+    private boolean enabled;
+
+    /**
+     * The directory to store the compiled scripts. The default is .camel/compiled-scripts in the working directory of
+     * the application. Set it to an empty value to only cache the compiled scripts in memory.
+     *
+     * The directory is created readable and writable by its owner only, and the compiled scripts are not stored in
+     * the directory when it is owned by another user or writable by others.
+     */
+    private String directory = System.getProperty("user.dir") + "/.camel/compiled-scripts";
+
+    /**
+     * The maximum number of compiled scripts to keep in memory. The least recently used compiled scripts are removed
+     * from memory when the maximum is reached.
+     */
+    private int memoryCacheSize = 100;
+
+    /**
+     * The maximum number of scripts to compile concurrently, when the scripts are not in the cache.
+     */
+    private int compileParallelism = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getMemoryCacheSize() {
+        return memoryCacheSize;
+    }
+
+    public void setMemoryCacheSize(int memoryCacheSize) {
+        this.memoryCacheSize = memoryCacheSize;
+    }
+
+    public int getCompileParallelism() {
+        return compileParallelism;
+    }
+
+    public void setCompileParallelism(int compileParallelism) {
+        this.compileParallelism = compileParallelism;
+    }
+}
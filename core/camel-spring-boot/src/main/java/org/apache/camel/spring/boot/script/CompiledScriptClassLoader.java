@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class loader for the classes of compiled scripts.
+ *
+ * A class is defined only once by a class loader, so use a class loader for each compiled script (or for the scripts
+ * compiled together), as scripts may have the same class name, and a changed script must be loaded by a new class
+ * loader to use its changed classes.
+ */
+public class CompiledScriptClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+
+    public CompiledScriptClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    /**
+     * Adds the classes of the compiled script, so they can be loaded.
+     */
+    public void addScript(CompiledScript script) {
+        classes.putAll(script.getClasses());
+    }
+
+    /**
+     * Adds the classes of the compiled script, and loads the main class of the script.
+     */
+    public Class<?> loadScript(CompiledScript script) throws ClassNotFoundException {
+        addScript(script);
+        return loadClass(script.getName());
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] data = classes.get(name);
+        if (data == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, data, 0, data.length);
+    }
+
+}
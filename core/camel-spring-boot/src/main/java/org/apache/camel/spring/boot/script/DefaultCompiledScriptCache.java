@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default {@link CompiledScriptCache}, which keeps the most recently used compiled scripts in memory, and all
+ * the compiled scripts on disk (when a directory is configured), so they are not compiled again when the application
+ * is restarted.
+ *
+ * Each compiled script is stored in the directory of its engine, in a directory named by the hash of its key, which
+ * contains the compiled classes. The scripts which are not cached are compiled in the background on a bounded thread
+ * pool of the CamelContext.
+ *
+ * As the compiled scripts are loaded into the application, the directory is created readable and writable by its
+ * owner only, and the compiled scripts are not stored or read on disk when the directory is owned by another user or
+ * writable by others. The digest of the classes is stored with each compiled script, and verified when the compiled
+ * script is read.
+ */
+public class DefaultCompiledScriptCache extends ServiceSupport implements CompiledScriptCache, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCompiledScriptCache.class);
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String NAME_FILE = "script.name";
+    private static final String DIGEST_FILE = "script.digest";
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Path directory;
+    private final Map<String, CompiledScript> memory;
+    private final int parallelism;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private Boolean directoryUsable;
+
+    /**
+     * @param directory     the directory to store the compiled scripts, or <tt>null</tt> to only cache in memory
+     * @param maxMemorySize the maximum number of compiled scripts to keep in memory
+     * @param parallelism   the maximum number of scripts to compile concurrently
+     */
+    public DefaultCompiledScriptCache(String directory, int maxMemorySize, int parallelism) {
+        this.directory = directory != null ? Paths.get(directory) : null;
+        this.parallelism = Math.max(1, parallelism);
+        this.memory = new LinkedHashMap<String, CompiledScript>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+                return size() > maxMemorySize;
+            }
+        };
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public CompiledScript lookup(ScriptKey key) {
+        CompiledScript answer;
+        synchronized (memory) {
+            answer = memory.get(key.getHash());
+        }
+        if (answer == null && isDirectoryUsable()) {
+            answer = read(scriptDirectory(key));
+            if (answer != null) {
+                synchronized (memory) {
+                    memory.put(key.getHash(), answer);
+                }
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public void store(ScriptKey key, CompiledScript script) {
+        synchronized (memory) {
+            memory.put(key.getHash(), script);
+        }
+        if (isDirectoryUsable()) {
+            write(scriptDirectory(key), script);
+        }
+    }
+
+    @Override
+    public CompiledScript compile(ScriptKey key, ScriptCompiler compiler) throws Exception {
+        CompiledScript answer = lookup(key);
+        if (answer != null) {
+            hits.increment();
+            return answer;
+        }
+
+        misses.increment();
+        LOG.debug("Compiling script: {}", key);
+        answer = compiler.compile(key);
+        store(key, answer);
+        return answer;
+    }
+
+    @Override
+    public Future<CompiledScript> compileAsync(ScriptKey key, ScriptCompiler compiler) {
+        CompiledScript answer = lookup(key);
+        if (answer != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(answer);
+        }
+        if (camelContext == null) {
+            // no thread pool to compile in the background
+            CompletableFuture<CompiledScript> future = new CompletableFuture<>();
+            try {
+                future.complete(compile(key, compiler));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        return getExecutorService().submit(() -> compile(key, compiler));
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            // the threads are only kept alive while there are scripts to compile
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this, "ScriptCompiler",
+                    new ThreadPoolProfileBuilder("ScriptCompiler")
+                            .poolSize(parallelism).maxPoolSize(parallelism)
+                            .keepAliveTime(1L).allowCoreThreadTimeOut(true).build());
+        }
+        return executorService;
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    /**
+     * Whether the directory can be used, which is when it is owned by the current user and not writable by others.
+     * The directory is created readable and writable by its owner only when it does not exist.
+     */
+    private synchronized boolean isDirectoryUsable() {
+        if (directoryUsable == null) {
+            directoryUsable = directory != null && checkDirectory(directory);
+        }
+        return directoryUsable;
+    }
+
+    private static boolean checkDirectory(Path dir) {
+        try {
+            boolean posix = dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+            if (!Files.isDirectory(dir)) {
+                if (posix) {
+                    Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+                } else {
+                    Files.createDirectories(dir);
+                }
+            }
+            if (posix) {
+                String owner = Files.getOwner(dir).getName();
+                if (!owner.equals(System.getProperty("user.name"))) {
+                    LOG.warn("Cannot store compiled scripts in: {} as the directory is owned by another user: {}", dir,
+                            owner);
+                    return false;
+                }
+                Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(dir);
+                if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                        || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                    LOG.warn("Cannot store compiled scripts in: {} as the directory is writable by other users", dir);
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Cannot store compiled scripts in: {} due to: {}", dir, e.getMessage());
+            return false;
+        }
+    }
+
+    private Path scriptDirectory(ScriptKey key) {
+        return directory.resolve(key.getEngine()).resolve(key.getHash());
+    }
+
+    private static CompiledScript read(Path dir) {
+        Path nameFile = dir.resolve(NAME_FILE);
+        if (!Files.isRegularFile(nameFile)) {
+            return null;
+        }
+        try {
+            String name = new String(Files.readAllBytes(nameFile), StandardCharsets.UTF_8);
+            Map<String, byte[]> classes = new HashMap<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + CLASS_SUFFIX)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    classes.put(fileName.substring(0, fileName.length() - CLASS_SUFFIX.length()), Files.readAllBytes(file));
+                }
+            }
+            Properties digests = new Properties();
+            try (InputStream is = Files.newInputStream(dir.resolve(DIGEST_FILE))) {
+                digests.load(is);
+            }
+            if (!digests.equals(digest(classes))) {
+                LOG.warn("Compiled script in: {} does not match its digest and is compiled again", dir);
+                FileUtil.removeDir(dir.toFile());
+                return null;
+            }
+            return new CompiledScript(name, classes);
+        } catch (IOException e) {
+            LOG.debug("Cannot read compiled script from: {}", dir, e);
+            return null;
+        }
+    }
+
+    private static void write(Path dir, CompiledScript script) {
+        if (Files.isDirectory(dir)) {
+            return;
+        }
+        Path tmp = dir.resolveSibling(dir.getFileName() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(tmp);
+            for (Map.Entry<String, byte[]> entry : script.getClasses().entrySet()) {
+                Files.write(tmp.resolve(entry.getKey() + CLASS_SUFFIX), entry.getValue());
+            }
+            try (OutputStream os = Files.newOutputStream(tmp.resolve(DIGEST_FILE))) {
+                digest(script.getClasses()).store(os, null);
+            }
+            Files.write(tmp.resolve(NAME_FILE), script.getName().getBytes(StandardCharsets.UTF_8));
+            // move the complete directory so the script is either fully in the cache or not at all
+            Files.move(tmp, dir, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // cached by another application meanwhile
+            FileUtil.removeDir(tmp.toFile());
+        } catch (IOException e) {
+            LOG.warn("Cannot write compiled script to cache: {} due to: {}", dir, e.getMessage());
+            FileUtil.removeDir(tmp.toFile());
+        }
+    }
+
+    /**
+     * The SHA-256 digest (in hex) of each class, by the class name.
+     */
+    private static Properties digest(Map<String, byte[]> classes) {
+        Properties answer = new Properties();
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest(entry.getValue())) {
+                sb.append(String.format("%02x", b));
+            }
+            answer.setProperty(entry.getKey(), sb.toString());
+        }
+        return answer;
+    }
+
+}
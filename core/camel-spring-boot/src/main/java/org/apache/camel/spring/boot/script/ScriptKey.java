@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * The key of a compiled script in the {@link CompiledScriptCache}, which is the script source together with the
+ * engine (and its version) compiling the script.
+ *
+ * The hash of the key also includes the Camel version and a fingerprint of the classpath, as the compiled script may
+ * use classes of the classpath, so the compiled scripts are not used after the dependencies are upgraded.
+ *
+ * Keys are equal when their hashes are equal.
+ */
+public final class ScriptKey {
+
+    private static volatile String environment;
+
+    private final String engine;
+    private final String engineVersion;
+    private final String name;
+    private final String source;
+    private final String hash;
+
+    /**
+     * @param engine        the name of the engine compiling the script, such as groovy
+     * @param engineVersion the version of the engine, as the compiled script may be specific to the version
+     * @param name          the name of the script, such as the class name of the compiled script
+     * @param source        the source code of the script
+     */
+    public ScriptKey(String engine, String engineVersion, String name, String source) {
+        this.engine = engine;
+        this.engineVersion = engineVersion;
+        this.name = name;
+        this.source = source;
+        this.hash = hash(engine, engineVersion, environment(), name, source);
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public String getEngineVersion() {
+        return engineVersion;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * The SHA-256 hash (in hex) of the engine, engine version, Camel version, classpath, name and source of the script.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ScriptKey && hash.equals(((ScriptKey) o).hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return engine + ":" + name;
+    }
+
+    /**
+     * The hash of the Camel version and the classpath entries with their size and last modified time.
+     */
+    private static String environment() {
+        String answer = environment;
+        if (answer == null) {
+            List<String> values = new ArrayList<>();
+            values.add(CamelContext.class.getPackage().getImplementationVersion());
+            for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                File file = new File(entry);
+                values.add(entry);
+                values.add(Long.toString(file.length()));
+                values.add(Long.toString(file.lastModified()));
+            }
+            answer = hash(values.toArray(new String[0]));
+            environment = answer;
+        }
+        return answer;
+    }
+
+    private static String hash(String... values) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String value : values) {
+            if (value != null) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+            // separate the values so they cannot be confused with each other
+            digest.update((byte) 0);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+}
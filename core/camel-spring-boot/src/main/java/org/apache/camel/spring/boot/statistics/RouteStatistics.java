@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ExchangeHelper;
+
+/**
+ * The statistics of a route, which are gathered in-process by the {@link RouteStatisticsCollector}.
+ *
+ * The counters are {@link LongAdder}s and the processing times are kept in a lock-free summary, so the exchanges
+ * routed concurrently do not contend on the statistics. The processing times are in millis, as with the statistics of
+ * the managed routes in JMX.
+ */
+public final class RouteStatistics {
+
+    // bucket i holds the processing times from 2^(i-1) until 2^i millis
+    private static final int BUCKETS = 40;
+
+    private final LongAdder exchangesInflight = new LongAdder();
+    private final LongAdder exchangesCompleted = new LongAdder();
+    private final LongAdder exchangesFailed = new LongAdder();
+    private final LongAdder failuresHandled = new LongAdder();
+    private final LongAdder redeliveries = new LongAdder();
+    private final LongAdder externalRedeliveries = new LongAdder();
+    private final LongAdder totalProcessingTime = new LongAdder();
+    private final AtomicLong minProcessingTime = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxProcessingTime = new AtomicLong();
+    private final LongAdder[] processingTimes = new LongAdder[BUCKETS];
+    private final AtomicReference<ExchangeMark> firstCompleted = new AtomicReference<>();
+    private final AtomicReference<ExchangeMark> firstFailure = new AtomicReference<>();
+    private volatile ExchangeMark lastCompleted;
+    private volatile ExchangeMark lastFailure;
+    private volatile long lastProcessingTime = -1;
+    private volatile long deltaProcessingTime;
+
+    RouteStatistics() {
+        for (int i = 0; i < BUCKETS; i++) {
+            processingTimes[i] = new LongAdder();
+        }
+    }
+
+    void onExchangeBegin() {
+        exchangesInflight.increment();
+    }
+
+    void onExchangeDone(Exchange exchange, long processingTime) {
+        exchangesInflight.decrement();
+
+        long previous = lastProcessingTime;
+        lastProcessingTime = processingTime;
+        deltaProcessingTime = previous == -1 ? 0 : processingTime - previous;
+        totalProcessingTime.add(processingTime);
+        minProcessingTime.accumulateAndGet(processingTime, Math::min);
+        maxProcessingTime.accumulateAndGet(processingTime, Math::max);
+        processingTimes[bucket(processingTime)].increment();
+
+        if (ExchangeHelper.isRedelivered(exchange)) {
+            redeliveries.increment();
+        }
+        if (exchange.isExternalRedelivered()) {
+            externalRedeliveries.increment();
+        }
+
+        ExchangeMark mark = new ExchangeMark(exchange.getExchangeId(), System.currentTimeMillis());
+        if (exchange.isFailed()) {
+            exchangesFailed.increment();
+            firstFailure.compareAndSet(null, mark);
+            lastFailure = mark;
+        } else {
+            exchangesCompleted.increment();
+            if (ExchangeHelper.isFailureHandled(exchange)) {
+                failuresHandled.increment();
+            }
+            firstCompleted.compareAndSet(null, mark);
+            lastCompleted = mark;
+        }
+    }
+
+    /**
+     * Resets the statistics, except the exchanges which are inflight.
+     */
+    public void reset() {
+        exchangesCompleted.reset();
+        exchangesFailed.reset();
+        failuresHandled.reset();
+        redeliveries.reset();
+        externalRedeliveries.reset();
+        totalProcessingTime.reset();
+        minProcessingTime.set(Long.MAX_VALUE);
+        maxProcessingTime.set(0);
+        for (LongAdder bucket : processingTimes) {
+            bucket.reset();
+        }
+        firstCompleted.set(null);
+        firstFailure.set(null);
+        lastCompleted = null;
+        lastFailure = null;
+        lastProcessingTime = -1;
+        deltaProcessingTime = 0;
+    }
+
+    public long getExchangesInflight() {
+        return exchangesInflight.sum();
+    }
+
+    public long getExchangesTotal() {
+        return exchangesCompleted.sum() + exchangesFailed.sum();
+    }
+
+    public long getExchangesCompleted() {
+        return exchangesCompleted.sum();
+    }
+
+    public long getExchangesFailed() {
+        return exchangesFailed.sum();
+    }
+
+    public long getFailuresHandled() {
+        return failuresHandled.sum();
+    }
+
+    public long getRedeliveries() {
+        return redeliveries.sum();
+    }
+
+    public long getExternalRedeliveries() {
+        return externalRedeliveries.sum();
+    }
+
+    public long getTotalProcessingTime() {
+        return totalProcessingTime.sum();
+    }
+
+    public long getMinProcessingTime() {
+        long answer = minProcessingTime.get();
+        return answer == Long.MAX_VALUE ? 0 : answer;
+    }
+
+    public long getMaxProcessingTime() {
+        return maxProcessingTime.get();
+    }
+
+    public long getMeanProcessingTime() {
+        long total = getExchangesTotal();
+        return total == 0 ? 0 : getTotalProcessingTime() / total;
+    }
+
+    public long getLastProcessingTime() {
+        return lastProcessingTime;
+    }
+
+    public long getDeltaProcessingTime() {
+        return deltaProcessingTime;
+    }
+
+    /**
+     * The processing time in millis which the given percentage (from 0 to 1) of the exchanges did not exceed. As the
+     * processing times are kept in buckets by powers of two, this is the upper bound of the bucket of the percentile,
+     * which is at most twice the actual percentile.
+     */
+    public long getProcessingTimePercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = processingTimes[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts[i];
+            if (count >= rank) {
+                long upper = i == 0 ? 0 : (1L << i) - 1;
+                return Math.min(upper, getMaxProcessingTime());
+            }
+        }
+        return getMaxProcessingTime();
+    }
+
+    public String getFirstExchangeCompletedExchangeId() {
+        ExchangeMark mark = firstCompleted.get();
+        return mark != null ? mark.exchangeId : null;
+    }
+
+    public long getFirstExchangeCompletedTimestamp() {
+        ExchangeMark mark = firstCompleted.get();
+        return mark != null ? mark.timestamp : 0;
+    }
+
+    public String getFirstExchangeFailureExchangeId() {
+        ExchangeMark mark = firstFailure.get();
+        return mark != null ? mark.exchangeId : null;
+    }
+
+    public long getFirstExchangeFailureTimestamp() {
+        ExchangeMark mark = firstFailure.get();
+        return mark != null ? mark.timestamp : 0;
+    }
+
+    public String getLastExchangeCompletedExchangeId() {
+        ExchangeMark mark = lastCompleted;
+        return mark != null ? mark.exchangeId : null;
+    }
+
+    public long getLastExchangeCompletedTimestamp() {
+        ExchangeMark mark = lastCompleted;
+        return mark != null ? mark.timestamp : 0;
+    }
+
+    public String getLastExchangeFailureExchangeId() {
+        ExchangeMark mark = lastFailure;
+        return mark != null ? mark.exchangeId : null;
+    }
+
+    public long getLastExchangeFailureTimestamp() {
+        ExchangeMark mark = lastFailure;
+        return mark != null ? mark.timestamp : 0;
+    }
+
+    private static int bucket(long processingTime) {
+        int answer = 64 - Long.numberOfLeadingZeros(Math.max(0, processingTime));
+        return Math.min(answer, BUCKETS - 1);
+    }
+
+    private static final class ExchangeMark {
+
+        private final String exchangeId;
+        private final long timestamp;
+
+        ExchangeMark(String exchangeId, long timestamp) {
+            this.exchangeId = exchangeId;
+            this.timestamp = timestamp;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.statistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+
+/**
+ * A {@link RoutePolicyFactory} which gathers the {@link RouteStatistics} of the routes in-process.
+ *
+ * This gives the statistics of the routes (such as to the camelroutes actuator endpoint) when Camel has no management
+ * agent (JMX is disabled or camel-management is not on the classpath), so the routes and processors do not have to be
+ * registered as MBeans for that. When there is a management agent, the route policies do nothing, as the statistics
+ * are gathered by JMX.
+ */
+public class RouteStatisticsCollector implements RoutePolicyFactory {
+
+    private final Map<String, RouteStatistics> statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        RouteStatistics answer = new RouteStatistics();
+        statistics.put(routeId, answer);
+        return new StatisticsRoutePolicy(routeId, answer);
+    }
+
+    /**
+     * The statistics of the given route, or <tt>null</tt> if the route is not known.
+     */
+    public RouteStatistics getStatistics(String routeId) {
+        return statistics.get(routeId);
+    }
+
+    /**
+     * Resets the statistics of the given route.
+     */
+    public void reset(String routeId) {
+        RouteStatistics answer = statistics.get(routeId);
+        if (answer != null) {
+            answer.reset();
+        }
+    }
+
+    private final class StatisticsRoutePolicy extends RoutePolicySupport {
+
+        private final String routeId;
+        private final String startKey;
+        private final RouteStatistics routeStatistics;
+        private volatile boolean enabled = true;
+
+        StatisticsRoutePolicy(String routeId, RouteStatistics routeStatistics) {
+            this.routeId = routeId;
+            // the exchange may be routed through several routes
+            this.startKey = "CamelRouteStatisticsStart-" + routeId;
+            this.routeStatistics = routeStatistics;
+        }
+
+        @Override
+        public void onInit(Route route) {
+            // the management agent is known once the routes are initialized
+            if (route.getCamelContext().getManagementStrategy().getManagementAgent() != null) {
+                enabled = false;
+                statistics.remove(routeId, routeStatistics);
+            }
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            if (!enabled) {
+                return;
+            }
+            routeStatistics.onExchangeBegin();
+            // the exchanges created by the consumer of the route are timed from their creation, so only the exchanges
+            // routed from other routes (such as by direct) need to keep the time they entered this route
+            if (!routeId.equals(exchange.getFromRouteId())) {
+                exchange.setProperty(startKey, System.currentTimeMillis());
+            }
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            if (!enabled) {
+                return;
+            }
+            long start;
+            if (routeId.equals(exchange.getFromRouteId())) {
+                start = exchange.getCreated();
+            } else {
+                Object value = exchange.removeProperty(startKey);
+                if (!(value instanceof Long)) {
+                    return;
+                }
+                start = (Long) value;
+            }
+            routeStatistics.onExchangeDone(exchange, Math.max(0, System.currentTimeMillis() - start));
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            statistics.remove(routeId, routeStatistics);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} which reads the data spooled to off-heap or memory-mapped byte buffers.
+ *
+ * The spooled data is shared with the copies of the stream cache, and is released when the exchanges
+ * using the stream cache are done. Reading from the stream cache after the data has been released
+ * fails with an {@link IOException}.
+ */
+public class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final SpooledByteBuffers spooled;
+    private final ByteBuffer[] buffers;
+    private int index;
+
+    ByteBufferInputStreamCache(SpooledByteBuffers spooled) {
+        this.spooled = spooled;
+        this.buffers = spooled.views();
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = current();
+        return buffer != null ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        int count = 0;
+        while (buffer != null && count < len) {
+            int n = Math.min(len - count, buffer.remaining());
+            buffer.get(b, off + count, n);
+            count += n;
+            buffer = current();
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer buffer = current();
+        while (buffer != null && skipped < n) {
+            int step = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + step);
+            skipped += step;
+            buffer = current();
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkNotReleased();
+        long remaining = 0;
+        for (int i = index; i < buffers.length; i++) {
+            remaining += buffers[i].remaining();
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        checkNotReleased();
+        WritableByteChannel channel = Channels.newChannel(os);
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer data = buffer.duplicate();
+            data.rewind();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (exchange != null) {
+            spooled.retain(exchange);
+        } else {
+            checkNotReleased();
+        }
+        return new ByteBufferInputStreamCache(spooled);
+    }
+
+    @Override
+    public boolean inMemory() {
+        // the data is spooled out of the heap
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return spooled.length();
+    }
+
+    private ByteBuffer current() throws IOException {
+        checkNotReleased();
+        while (index < buffers.length && !buffers[index].hasRemaining()) {
+            index++;
+        }
+        return index < buffers.length ? buffers[index] : null;
+    }
+
+    private void checkNotReleased() throws IOException {
+        if (spooled.isReleased()) {
+            throw new IOException("Cannot read from spooled stream cache as it has been released");
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spools data to temporary files, which are memory-mapped when being read.
+ *
+ * The data is written in large blocks, and the temporary file is deleted when the spooled data is released.
+ */
+public class MemoryMappedSpool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedSpool.class);
+
+    private final int chunkSize;
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder created = new LongAdder();
+
+    public MemoryMappedSpool(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, was: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Spools the prefix (already read) and the remainder of the input stream to a memory-mapped temporary file.
+     */
+    SpooledByteBuffers spool(File directory, byte[] prefix, int prefixLength, InputStream in) throws IOException {
+        File file = FileUtil.createTempFile("cos", ".mmap", directory);
+        LOG.trace("Creating memory-mapped spool file: {}", file);
+
+        List<ByteBuffer> mapped = new ArrayList<>();
+        long length = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            length += write(channel, ByteBuffer.wrap(prefix, 0, prefixLength));
+            byte[] block = new byte[chunkSize];
+            int n;
+            while ((n = in.read(block)) != -1) {
+                length += write(channel, ByteBuffer.wrap(block, 0, n));
+            }
+            // a single mapping is limited to 2gb
+            for (long position = 0; position < length; position += Integer.MAX_VALUE) {
+                long size = Math.min(Integer.MAX_VALUE, length - position);
+                mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteFile(file);
+            throw e;
+        } finally {
+            in.close();
+        }
+
+        final long size = length;
+        files.incrementAndGet();
+        bytes.addAndGet(size);
+        created.increment();
+        return new SpooledByteBuffers(mapped, () -> {
+            files.decrementAndGet();
+            bytes.addAndGet(-size);
+            // the mapping stays valid until garbage collected, and on some platforms the file
+            // cannot be deleted while mapped, so then fallback to delete when the JVM terminates
+            LOG.trace("Deleting memory-mapped spool file: {}", file);
+            deleteFile(file);
+        });
+    }
+
+    private static void deleteFile(File file) {
+        if (!file.delete() && file.exists()) {
+            file.deleteOnExit();
+        }
+    }
+
+    private static int write(FileChannel channel, ByteBuffer data) throws IOException {
+        int total = data.remaining();
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+        return total;
+    }
+
+    /**
+     * Number of memory-mapped spool files in use
+     */
+    public long getFiles() {
+        return files.get();
+    }
+
+    /**
+     * Number of bytes in memory-mapped spool files in use
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Total number of memory-mapped spool files created
+     */
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+}
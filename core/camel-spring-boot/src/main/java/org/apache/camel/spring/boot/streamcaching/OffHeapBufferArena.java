@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An arena of direct (off-heap) byte buffers with a hard capacity.
+ *
+ * The buffers are allocated on demand in chunks of the same size, and are pooled for reuse when released,
+ * as allocating direct buffers is expensive.
+ */
+public class OffHeapBufferArena {
+
+    private final long capacity;
+    private final int chunkSize;
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong used = new AtomicLong();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OffHeapBufferArena(long capacity, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, was: " + chunkSize);
+        }
+        this.capacity = capacity;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Acquires a cleared buffer from the arena.
+     *
+     * @return the buffer, or <tt>null</tt> if the arena is exhausted
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            // reserve the capacity before allocating
+            long current;
+            do {
+                current = allocated.get();
+                if (current + chunkSize > capacity) {
+                    exhausted.increment();
+                    return null;
+                }
+            } while (!allocated.compareAndSet(current, current + chunkSize));
+            buffer = ByteBuffer.allocateDirect(chunkSize);
+        }
+        used.addAndGet(chunkSize);
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer back to the arena.
+     */
+    public void release(ByteBuffer buffer) {
+        used.addAndGet(-chunkSize);
+        pool.offer(buffer);
+    }
+
+    /**
+     * Frees the pooled buffers which are not in use.
+     */
+    public void purge() {
+        ByteBuffer buffer;
+        while ((buffer = pool.poll()) != null) {
+            allocated.addAndGet(-buffer.capacity());
+        }
+    }
+
+    /**
+     * The hard capacity in bytes
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Number of bytes of direct memory allocated by the arena (in use or pooled)
+     */
+    public long getAllocated() {
+        return allocated.get();
+    }
+
+    /**
+     * Number of bytes in use by stream caches
+     */
+    public long getUsed() {
+        return used.get();
+    }
+
+    /**
+     * Number of times the arena was exhausted, and the message body was spooled to a temporary file instead
+     */
+    public long getExhaustedCounter() {
+        return exhausted.sum();
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * The spooled data of a stream cache, which is shared by the stream cache and all its copies.
+ *
+ * The data is reference counted, one reference per exchange using the stream cache, and the data is released
+ * (by the given release task) when all the exchanges are done. Once released the data cannot be retained again.
+ */
+final class SpooledByteBuffers {
+
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private final Runnable releaseTask;
+    private final AtomicInteger references = new AtomicInteger();
+    private volatile boolean released;
+
+    SpooledByteBuffers(List<ByteBuffer> buffers, Runnable releaseTask) {
+        this.buffers = buffers.toArray(new ByteBuffer[0]);
+        this.releaseTask = releaseTask;
+        long total = 0;
+        for (ByteBuffer buffer : this.buffers) {
+            total += buffer.remaining();
+        }
+        this.length = total;
+    }
+
+    long length() {
+        return length;
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Read-only views of the spooled data, with their own positions
+     */
+    ByteBuffer[] views() {
+        ByteBuffer[] answer = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            answer[i] = buffers[i].asReadOnlyBuffer();
+        }
+        return answer;
+    }
+
+    /**
+     * Adds a reference for the given exchange, which is released when the exchange is done.
+     */
+    void retain(Exchange exchange) throws IOException {
+        int count;
+        do {
+            count = references.get();
+            if (count < 0) {
+                throw new IOException("Cannot use spooled stream cache as it has been released");
+            }
+        } while (!references.compareAndSet(count, count + 1));
+
+        Synchronization onCompletion = new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                release();
+            }
+        };
+        // the stream cache of splitter and multicast sub exchanges must be released
+        // when the unit of work of the parent exchange is done (same as the default spooling)
+        UnitOfWork streamCacheUnitOfWork = exchange.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+        if (streamCacheUnitOfWork != null && streamCacheUnitOfWork.getRoute() != null) {
+            streamCacheUnitOfWork.addSynchronization(onCompletion);
+        } else {
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(onCompletion);
+        }
+    }
+
+    /**
+     * Releases a reference, and the data when there are no references left.
+     */
+    void release() {
+        // mark as released (-1) unless the data has been retained again concurrently
+        if (references.decrementAndGet() == 0 && references.compareAndSet(0, -1)) {
+            released = true;
+            releaseTask.run();
+        }
+    }
+
+    /**
+     * Releases the data right away, regardless of any references.
+     */
+    void discard() {
+        if (references.getAndSet(-1) >= 0) {
+            released = true;
+            releaseTask.run();
+        }
+    }
+}
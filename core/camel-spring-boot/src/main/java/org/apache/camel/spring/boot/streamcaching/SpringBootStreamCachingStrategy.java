@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.StreamCacheException;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.apache.camel.impl.engine.DefaultStreamCachingStrategy;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.StreamCachingStrategy} which spools large message bodies to an off-heap
+ * {@link OffHeapBufferArena} or to a {@link MemoryMappedSpool}, instead of to temporary files using regular streams.
+ *
+ * Message bodies are kept in memory until the spool rules decide to spool (same as the default strategy).
+ * Only input stream message bodies are spooled by this strategy, any other message bodies are
+ * cached by the default strategy.
+ *
+ * When statistics is enabled, then the largest spooled stream cache is kept track of as well.
+ */
+public class SpringBootStreamCachingStrategy extends DefaultStreamCachingStrategy {
+
+    public static final String DEFAULT = "default";
+    public static final String OFF_HEAP = "off-heap";
+    public static final String MEMORY_MAPPED = "memory-mapped";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootStreamCachingStrategy.class);
+
+    private final String spoolStrategy;
+    private final OffHeapBufferArena offHeapBufferArena;
+    private final MemoryMappedSpool memoryMappedSpool;
+    private final LongAccumulator largestSpoolSize = new LongAccumulator(Math::max, 0);
+    private boolean spoolCipherInUse;
+
+    public SpringBootStreamCachingStrategy(String spoolStrategy, long offHeapCapacity, int chunkSize) {
+        this.spoolStrategy = spoolStrategy;
+        if (OFF_HEAP.equals(spoolStrategy)) {
+            this.offHeapBufferArena = new OffHeapBufferArena(offHeapCapacity, chunkSize);
+            this.memoryMappedSpool = null;
+        } else if (MEMORY_MAPPED.equals(spoolStrategy)) {
+            this.offHeapBufferArena = null;
+            this.memoryMappedSpool = new MemoryMappedSpool(chunkSize);
+        } else if (DEFAULT.equals(spoolStrategy)) {
+            this.offHeapBufferArena = null;
+            this.memoryMappedSpool = null;
+        } else {
+            throw new IllegalArgumentException("Unknown stream caching spool strategy: " + spoolStrategy
+                    + ". Supported strategies are: " + DEFAULT + ", " + OFF_HEAP + " and " + MEMORY_MAPPED);
+        }
+    }
+
+    public String getSpoolStrategy() {
+        return spoolStrategy;
+    }
+
+    /**
+     * The arena in use by the off-heap spool strategy, or <tt>null</tt> if not in use
+     */
+    public OffHeapBufferArena getOffHeapBufferArena() {
+        return offHeapBufferArena;
+    }
+
+    /**
+     * The spool in use by the memory-mapped spool strategy, or <tt>null</tt> if not in use
+     */
+    public MemoryMappedSpool getMemoryMappedSpool() {
+        return memoryMappedSpool;
+    }
+
+    @Override
+    public StreamCache cache(Exchange exchange) {
+        if ((offHeapBufferArena != null || memoryMappedSpool != null) && !spoolCipherInUse) {
+            Message message = exchange.getMessage();
+            Object body = message.getBody();
+            if (body instanceof InputStream && !(body instanceof StreamCache)) {
+                try {
+                    message.setBody(doCache(exchange, (InputStream) body));
+                } catch (IOException e) {
+                    throw new StreamCacheException(body, e);
+                }
+            }
+        }
+        // let the default strategy keep the statistics
+        StreamCache answer = super.cache(exchange);
+        if (answer != null && !answer.inMemory() && getStatistics().isStatisticsEnabled()) {
+            largestSpoolSize.accumulate(answer.length());
+        }
+        return answer;
+    }
+
+    /**
+     * Size in bytes of the largest stream cache which has been spooled (only gathered when statistics is enabled)
+     */
+    public long getCacheSpoolLargestSize() {
+        return largestSpoolSize.get();
+    }
+
+    protected StreamCache doCache(Exchange exchange, InputStream in) throws IOException {
+        // keep in memory until the spool rules decide to spool
+        byte[] data = new byte[bufferSize()];
+        int length = 0;
+        int n;
+        while ((n = in.read(data, length, data.length - length)) != -1) {
+            length += n;
+            if (shouldSpoolCache(length)) {
+                if (offHeapBufferArena != null) {
+                    return spoolOffHeap(exchange, data, length, in);
+                } else {
+                    SpooledByteBuffers spooled = memoryMappedSpool.spool(getSpoolDirectory(), data, length, in);
+                    spooled.retain(exchange);
+                    return new ByteBufferInputStreamCache(spooled);
+                }
+            }
+            if (length == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+        }
+        in.close();
+        return new InputStreamCache(data, length);
+    }
+
+    private StreamCache spoolOffHeap(Exchange exchange, byte[] data, int length, InputStream in) throws IOException {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        ByteBuffer prefix = ByteBuffer.wrap(data, 0, length);
+        byte[] block = null;
+        ByteBuffer buffer = null;
+        try {
+            while (true) {
+                if (buffer == null || !buffer.hasRemaining()) {
+                    buffer = offHeapBufferArena.acquire();
+                    if (buffer == null) {
+                        return spoolToFile(exchange, buffers, prefix, in);
+                    }
+                    buffers.add(buffer);
+                }
+                if (prefix.hasRemaining()) {
+                    ByteBuffer part = prefix.duplicate();
+                    part.limit(part.position() + Math.min(part.remaining(), buffer.remaining()));
+                    prefix.position(part.limit());
+                    buffer.put(part);
+                } else {
+                    if (block == null) {
+                        block = new byte[bufferSize()];
+                    }
+                    int n = in.read(block, 0, Math.min(block.length, buffer.remaining()));
+                    if (n == -1) {
+                        break;
+                    }
+                    buffer.put(block, 0, n);
+                }
+            }
+            in.close();
+        } catch (IOException | RuntimeException e) {
+            // return the buffers to the arena unless already released when spooling to file
+            if (buffer != null) {
+                buffers.forEach(offHeapBufferArena::release);
+            }
+            throw e;
+        }
+
+        SpooledByteBuffers spooled = newSpooledByteBuffers(buffers);
+        spooled.retain(exchange);
+        return new ByteBufferInputStreamCache(spooled);
+    }
+
+    private StreamCache spoolToFile(Exchange exchange, List<ByteBuffer> buffers, ByteBuffer prefix, InputStream in) throws IOException {
+        LOG.debug("Off-heap buffer arena is exhausted (capacity: {} bytes), spooling to temporary file instead",
+                offHeapBufferArena.getCapacity());
+        // the data spooled so far is only needed until the default strategy has spooled it to a temporary file
+        SpooledByteBuffers spooled = newSpooledByteBuffers(buffers);
+        try {
+            InputStream remainder = new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                    new ByteBufferInputStreamCache(spooled),
+                    new ByteArrayInputStream(prefix.array(), prefix.position(), prefix.remaining()),
+                    in)));
+            return exchange.getContext().getTypeConverter().mandatoryConvertTo(StreamCache.class, exchange, remainder);
+        } catch (NoTypeConversionAvailableException e) {
+            throw new IOException(e);
+        } finally {
+            spooled.discard();
+        }
+    }
+
+    private int bufferSize() {
+        // the buffer size is not configured by default
+        int size = getBufferSize();
+        return size > 0 ? size : IOHelper.DEFAULT_BUFFER_SIZE;
+    }
+
+    private SpooledByteBuffers newSpooledByteBuffers(List<ByteBuffer> buffers) {
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+        }
+        return new SpooledByteBuffers(buffers, () -> buffers.forEach(offHeapBufferArena::release));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        spoolCipherInUse = ObjectHelper.isNotEmpty(getSpoolCipher());
+        if (spoolCipherInUse && !DEFAULT.equals(spoolStrategy)) {
+            LOG.warn("Stream caching spool strategy: {} is not in use as a spool cipher is configured", spoolStrategy);
+        } else if (!DEFAULT.equals(spoolStrategy)) {
+            LOG.info("Stream caching spool strategy: {}", spoolStrategy);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (offHeapBufferArena != null) {
+            offHeapBufferArena.purge();
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.ProcessorExchangeFactory;
+import org.apache.camel.spring.boot.TrackingProcessorExchangeFactory;
+
+/**
+ * To help gathering the pooled exchange factories (and their statistics) in use by the routes.
+ */
+public final class ExchangeFactoryHelper {
+
+    private ExchangeFactoryHelper() {
+    }
+
+    /**
+     * The {@link ExchangeFactoryManager} or <tt>null</tt> if not in use
+     */
+    public static ExchangeFactoryManager getExchangeFactoryManager(CamelContext camelContext) {
+        return camelContext.adapt(ExtendedCamelContext.class).getExchangeFactoryManager();
+    }
+
+    /**
+     * The exchange factories in use by the route consumers
+     */
+    public static Collection<ExchangeFactory> getConsumerExchangeFactories(CamelContext camelContext) {
+        ExchangeFactoryManager manager = getExchangeFactoryManager(camelContext);
+        return manager != null ? manager.getExchangeFactories() : Collections.emptyList();
+    }
+
+    /**
+     * The exchange factories in use by the processors (such as multicast, enrich etc.). These can only be gathered
+     * when Camel Spring Boot has installed its {@link TrackingProcessorExchangeFactory}, which is done when the
+     * exchange factory is pooled, or its statistics is enabled.
+     */
+    public static Collection<ProcessorExchangeFactory> getProcessorExchangeFactories(CamelContext camelContext) {
+        ProcessorExchangeFactory factory = camelContext.adapt(ExtendedCamelContext.class).getProcessorExchangeFactory();
+        if (factory instanceof TrackingProcessorExchangeFactory) {
+            return ((TrackingProcessorExchangeFactory) factory).getProcessorExchangeFactories();
+        }
+        return Collections.emptyList();
+    }
+
+    public static List<ExchangeFactory> getConsumerExchangeFactories(CamelContext camelContext, String routeId) {
+        return getConsumerExchangeFactories(camelContext).stream()
+                .filter(f -> Objects.equals(routeId, f.getRouteId()))
+                .collect(Collectors.toList());
+    }
+
+    public static List<ProcessorExchangeFactory> getProcessorExchangeFactories(CamelContext camelContext, String routeId) {
+        return getProcessorExchangeFactories(camelContext).stream()
+                .filter(f -> Objects.equals(routeId, f.getRouteId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The pool utilization as a ratio (0.0 to 1.0) of the number of pooled objects to the capacity
+     */
+    public static double getUtilization(PooledObjectFactory<?> factory) {
+        int capacity = factory.getCapacity();
+        if (capacity <= 0) {
+            return 0d;
+        }
+        return (double) factory.getSize() / capacity;
+    }
+
+}
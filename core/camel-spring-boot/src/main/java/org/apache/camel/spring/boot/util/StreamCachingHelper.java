@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.io.File;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spring.boot.streamcaching.SpringBootStreamCachingStrategy;
+
+/**
+ * To help gathering the stream caching statistics and the disk usage of the spool directory.
+ */
+public final class StreamCachingHelper {
+
+    private StreamCachingHelper() {
+    }
+
+    /**
+     * The spool directory, or <tt>null</tt> if not resolved (which is done when stream caching is started)
+     */
+    public static File getSpoolDirectory(CamelContext camelContext) {
+        StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+        return strategy != null ? strategy.getSpoolDirectory() : null;
+    }
+
+    /**
+     * The statistics, or <tt>null</tt> if statistics is not enabled
+     */
+    public static StreamCachingStrategy.Statistics getStatistics(CamelContext camelContext) {
+        StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+        if (strategy != null && strategy.getStatistics() != null && strategy.getStatistics().isStatisticsEnabled()) {
+            return strategy.getStatistics();
+        }
+        return null;
+    }
+
+    /**
+     * Size in bytes of the largest spooled stream cache, which is only gathered by the
+     * {@link SpringBootStreamCachingStrategy} when statistics is enabled.
+     */
+    public static long getCacheSpoolLargestSize(CamelContext camelContext) {
+        StreamCachingStrategy strategy = camelContext.getStreamCachingStrategy();
+        if (strategy instanceof SpringBootStreamCachingStrategy) {
+            return ((SpringBootStreamCachingStrategy) strategy).getCacheSpoolLargestSize();
+        }
+        return 0;
+    }
+
+    /**
+     * Size in bytes of the spool files in the spool directory
+     */
+    public static long getSpoolDirectoryUsedSpace(File spoolDirectory) {
+        long answer = 0;
+        File[] files = spoolDirectory != null ? spoolDirectory.listFiles() : null;
+        if (files != null) {
+            for (File file : files) {
+                if (file.isFile()) {
+                    answer += file.length();
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Free space in bytes, available for the spool directory, or <tt>-1</tt> if not known
+     */
+    public static long getSpoolDirectoryFreeSpace(File spoolDirectory) {
+        File dir = existingDirectory(spoolDirectory);
+        return dir != null ? dir.getUsableSpace() : -1;
+    }
+
+    /**
+     * Total space in bytes of the partition of the spool directory, or <tt>-1</tt> if not known
+     */
+    public static long getSpoolDirectoryTotalSpace(File spoolDirectory) {
+        File dir = existingDirectory(spoolDirectory);
+        return dir != null ? dir.getTotalSpace() : -1;
+    }
+
+    private static File existingDirectory(File spoolDirectory) {
+        // the spool directory is created on demand, so use its nearest existing parent instead
+        File dir = spoolDirectory != null ? spoolDirectory.getAbsoluteFile() : null;
+        while (dir != null && !dir.exists()) {
+            dir = dir.getParentFile();
+        }
+        return dir;
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Producer;
+import org.apache.camel.Route;
+import org.apache.camel.StartupListener;
+import org.apache.camel.support.EndpointHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link StartupListener} which warms up endpoints and routes when Camel has been fully started.
+ *
+ * Each endpoint is warmed up by creating and starting a producer, which is kept started until Camel is stopped. This
+ * initializes the resources shared by the producers of the endpoint and its component (such as connection pools, SSL
+ * contexts and resolved addresses) and loads the classes in use, without sending any message.
+ *
+ * The routes can also be warmed up, when turned on, by processing synthetic exchanges (with the header
+ * {@link #WARMUP_HEADER}) through the routes listed by their ids. The routes process these exchanges as any other
+ * exchange, including sending them to their endpoints, so only the routes which can handle them should be listed.
+ *
+ * The warm-up is done while Spring Boot is starting the application, so the application is not ready until the
+ * warm-up is complete (or timed out). Failures are logged, and do not fail the startup.
+ */
+public class CamelWarmup implements StartupListener {
+
+    /**
+     * Header set to true on the synthetic warm-up exchanges.
+     */
+    public static final String WARMUP_HEADER = "CamelWarmup";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelWarmup.class);
+
+    private final CamelWarmupConfigurationProperties config;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile int warmedUp;
+
+    public CamelWarmup(CamelWarmupConfigurationProperties config) {
+        this.config = config;
+    }
+
+    /**
+     * Number of endpoints and routes successfully warmed up.
+     */
+    public int getWarmedUp() {
+        return warmedUp;
+    }
+
+    @Override
+    public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        // noop
+    }
+
+    @Override
+    public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        // only warm up once, and not again if Camel is restarted
+        if (done.compareAndSet(false, true)) {
+            warmup(context);
+        }
+    }
+
+    protected void warmup(CamelContext context) {
+        List<Endpoint> endpoints = resolveEndpoints(context);
+        List<Route> routes = resolveRoutes(context);
+        if (endpoints.isEmpty() && routes.isEmpty()) {
+            return;
+        }
+
+        LOG.info("Warming up {} endpoints and {} routes", endpoints.size(), routes.size());
+        StopWatch watch = new StopWatch();
+        List<String> names = new ArrayList<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            names.add(endpoint.toString());
+            tasks.add(() -> warmupEndpoint(context, endpoint));
+        }
+        for (Route route : routes) {
+            names.add("route " + route.getId());
+            tasks.add(() -> warmupRoute(context, route));
+        }
+
+        int parallelism = Math.max(1, Math.min(config.getParallelism(), tasks.size()));
+        ExecutorService executor = context.getExecutorServiceManager().newFixedThreadPool(this, "Warmup", parallelism);
+        int count = 0;
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            long deadline = System.currentTimeMillis() + config.getTimeout();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                    futures.get(i).get(remaining, TimeUnit.MILLISECONDS);
+                    count++;
+                } catch (ExecutionException e) {
+                    LOG.warn("Error warming up {} due to: {}. This exception is ignored.", names.get(i),
+                            e.getCause().getMessage(), e.getCause());
+                } catch (TimeoutException e) {
+                    LOG.warn("Timeout after {} millis warming up {}. Continuing without waiting for the warm-up to complete.",
+                            config.getTimeout(), names.get(i));
+                    break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executor);
+        }
+        warmedUp = count;
+        LOG.info("Warmed up {}/{} endpoints and routes in {} millis", count, tasks.size(), watch.taken());
+    }
+
+    private Void warmupEndpoint(CamelContext context, Endpoint endpoint) throws Exception {
+        LOG.debug("Warming up endpoint: {}", endpoint);
+        // keep the producer started (and stop it together with Camel) so the warmed up state is not lost
+        Producer producer = endpoint.createProducer();
+        context.adapt(ExtendedCamelContext.class).addService(producer, true, true);
+        return null;
+    }
+
+    private Void warmupRoute(CamelContext context, Route route) throws Exception {
+        LOG.debug("Warming up route: {}", route.getId());
+        for (int i = 0; i < config.getRouteExchanges(); i++) {
+            Exchange exchange = route.getEndpoint().createExchange();
+            exchange.adapt(ExtendedExchange.class).setFromRouteId(route.getId());
+            exchange.getMessage().setHeader(WARMUP_HEADER, true);
+            exchange.getMessage().setBody(config.getRouteBody());
+            route.getProcessor().process(exchange);
+            if (exchange.getException() != null) {
+                throw exchange.getException();
+            }
+        }
+        return null;
+    }
+
+    private List<Endpoint> resolveEndpoints(CamelContext context) {
+        Set<Endpoint> answer = new LinkedHashSet<>();
+        for (String uri : split(config.getEndpoints())) {
+            boolean matched = false;
+            for (Endpoint endpoint : context.getEndpoints()) {
+                if (EndpointHelper.matchEndpoint(context, endpoint.getEndpointUri(), uri)) {
+                    answer.add(endpoint);
+                    matched = true;
+                }
+            }
+            // not a pattern, so the endpoint is created
+            if (!matched && !isPattern(uri)) {
+                answer.add(context.getEndpoint(uri));
+            }
+        }
+        return new ArrayList<>(answer);
+    }
+
+    private List<Route> resolveRoutes(CamelContext context) {
+        List<Route> answer = new ArrayList<>();
+        if (!config.isRoutesEnabled() || config.getRouteExchanges() <= 0) {
+            return answer;
+        }
+        // only the routes listed explicitly, as the warm-up exchanges are processed by the routes
+        for (String id : split(config.getRoutes())) {
+            Route route = context.getRoute(id);
+            if (route != null) {
+                answer.add(route);
+            } else {
+                LOG.warn("Cannot warm up route: {} as the route does not exist", id);
+            }
+        }
+        return answer;
+    }
+
+    private static boolean isPattern(String uri) {
+        return uri.contains("*") || uri.startsWith("^") || uri.contains("(");
+    }
+
+    private static List<String> split(String value) {
+        List<String> answer = new ArrayList<>();
+        if (ObjectHelper.isNotEmpty(value)) {
+            for (String part : value.split(",")) {
+                part = part.trim();
+                if (!part.isEmpty()) {
+                    answer.add(part);
+                }
+            }
+        }
+        return answer;
+    }
+
+}
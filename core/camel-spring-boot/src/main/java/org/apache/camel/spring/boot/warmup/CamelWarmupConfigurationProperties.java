@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.springboot.warmup")
+public class CamelWarmupConfigurationProperties {
+
+    /**
+     * Whether to warm up the endpoints and routes when Camel has been started.
+     *
+     * The warm-up is done before the Spring Boot application is ready, so the application only accepts traffic
+     * (readiness) once the warm-up is complete.
+     */
+    private boolean enabled;
+
+    /**
+     * Comma separated list of endpoints to warm up, by creating and starting a producer for each endpoint (without
+     * sending any message), such as to initialize the connection pools, SSL contexts and the classes in use before the
+     * first messages are sent.
+     *
+     * The endpoints can be endpoint uris, or patterns (wildcard or regular expression) which are matched against the
+     * endpoints in use by Camel, such as kafka:* or https:*.
+     */
+    private String endpoints;
+
+    /**
+     * Whether to send synthetic warm-up exchanges through the routes listed in routes. This is turned off by default,
+     * as the warm-up exchanges are processed by the routes like any other exchange, including sending them to the
+     * endpoints of the routes.
+     */
+    private boolean routesEnabled;
+
+    /**
+     * Comma separated list of the ids of the routes to send synthetic warm-up exchanges through, when routes warm-up
+     * is enabled, such as to trigger JIT compilation of the routes.
+     *
+     * The warm-up exchanges are processed by the routes (not sent to their consumers) with the header CamelWarmup
+     * set to true, which the routes must use to skip their side effects.
+     */
+    private String routes;
+
+    /**
+     * The message body of the synthetic warm-up exchanges.
+     */
+    private String routeBody;
+
+    /**
+     * The number of synthetic warm-up exchanges to send through each route.
+     */
+    private int routeExchanges = 1;
+
+    /**
+     * The number of endpoints and routes to warm up concurrently.
+     */
+    private int parallelism = 4;
+
+    /**
+     * The maximum time in millis to wait for the warm-up to complete. The application is started, without waiting
+     * for the remaining endpoints and routes to be warmed up, when the timeout occurs.
+     */
+    private long timeout = 30000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(String endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public boolean isRoutesEnabled() {
+        return routesEnabled;
+    }
+
+    public void setRoutesEnabled(boolean routesEnabled) {
+        this.routesEnabled = routesEnabled;
+    }
+
+    public String getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(String routes) {
+        this.routes = routes;
+    }
+
+    public String getRouteBody() {
+        return routeBody;
+    }
+
+    public void setRouteBody(String routeBody) {
+        this.routeBody = routeBody;
+    }
+
+    public int getRouteExchanges() {
+        return routeExchanges;
+    }
+
+    public void setRouteExchanges(int routeExchanges) {
+        this.routeExchanges = routeExchanges;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dsl.support.RouteBuilderLoaderSupport;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = BackgroundRoutesBuilderLoaderTest.TestConfiguration.class,
+    properties = {
+        "camel.springboot.routes-include-pattern = classpath:background-routes/*.routes"
+    }
+)
+public class BackgroundRoutesBuilderLoaderTest {
+
+    private static final Map<String, String> LOADED_BY = new ConcurrentHashMap<>();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldLoadRoutesInBackground() {
+        assertNotNull(camelContext.getRoute("foo"));
+        assertNotNull(camelContext.getRoute("bar"));
+
+        assertEquals(2, LOADED_BY.size());
+        for (String thread : LOADED_BY.values()) {
+            assertTrue(thread.contains("RoutesLoader-routes"), thread);
+        }
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean(name = "routes-builder-loader-routes")
+        public RoutesBuilderLoader routesBuilderLoader(CamelContext camelContext) {
+            BackgroundRoutesBuilderLoader loader = new BackgroundRoutesBuilderLoader(new SimpleRoutesBuilderLoader(), 2);
+            loader.setCamelContext(camelContext);
+            return loader;
+        }
+    }
+
+    /**
+     * Loads routes from lines with the route id, and the uris to route from and to.
+     */
+    static class SimpleRoutesBuilderLoader extends RouteBuilderLoaderSupport {
+
+        SimpleRoutesBuilderLoader() {
+            super("routes");
+        }
+
+        @Override
+        protected RouteBuilder doLoadRouteBuilder(Resource resource) throws Exception {
+            List<String[]> routes = new ArrayList<>();
+            try (Reader reader = resource.getReader(); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (!line.isBlank() && !line.startsWith("#")) {
+                        routes.add(line.trim().split("\\s+"));
+                    }
+                }
+            }
+            LOADED_BY.put(resource.getLocation(), Thread.currentThread().getName());
+
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    for (String[] route : routes) {
+                        from(route[1]).routeId(route[0]).to(route[2]);
+                    }
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.DefaultRegistry;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = CachingApplicationContextBeanRepositoryTest.TestConfiguration.class,
+        properties = "camel.springboot.bean-repository-cache-enabled=true")
+public class CachingApplicationContextBeanRepositoryTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    @Test
+    public void shouldCacheSingletonBeans() {
+        CachingApplicationContextBeanRepository repository = getRepository();
+
+        Map<String, Greeter> greeters = camelContext.getRegistry().findByTypeWithName(Greeter.class);
+        assertEquals(1, greeters.size());
+        assertSame(repository.findByTypeWithName(Greeter.class), repository.findByTypeWithName(Greeter.class));
+        assertTrue(repository.getTypeCacheSize() > 0);
+        assertSame(greeters.get("greeter"), camelContext.getRegistry().lookupByName("greeter"));
+        assertSame(greeters.get("greeter"), camelContext.getRegistry().lookupByNameAndType("greeter", Greeter.class));
+        assertTrue(repository.getNameCacheSize() > 0);
+
+        // beans registered at runtime are not detected, until the cache is invalidated
+        applicationContext.getBeanFactory().registerSingleton("anotherGreeter", new Greeter());
+        assertEquals(1, camelContext.getRegistry().findByTypeWithName(Greeter.class).size());
+        applicationContext.publishEvent(new ContextRefreshedEvent(applicationContext));
+        assertEquals(0, repository.getTypeCacheSize());
+        assertEquals(2, camelContext.getRegistry().findByTypeWithName(Greeter.class).size());
+    }
+
+    @Test
+    public void shouldNotCacheWhenClosed() {
+        CachingApplicationContextBeanRepository repository = getRepository();
+
+        repository.findByTypeWithName(Greeter.class);
+        repository.onApplicationEvent(new ContextClosedEvent(applicationContext));
+        assertEquals(0, repository.getTypeCacheSize());
+        repository.findByTypeWithName(Greeter.class);
+        assertEquals(0, repository.getTypeCacheSize());
+
+        repository.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+        repository.findByTypeWithName(Greeter.class);
+        assertEquals(1, repository.getTypeCacheSize());
+    }
+
+    @Test
+    public void shouldNotCachePrototypeBeans() {
+        CachingApplicationContextBeanRepository repository = getRepository();
+
+        assertNotSame(repository.findByType(Counter.class).iterator().next(),
+                repository.findByType(Counter.class).iterator().next());
+        assertNotSame(camelContext.getRegistry().lookupByName("counter"), camelContext.getRegistry().lookupByName("counter"));
+    }
+
+    private CachingApplicationContextBeanRepository getRepository() {
+        DefaultRegistry registry = (DefaultRegistry) camelContext.getRegistry();
+        return registry.getRepositories().stream()
+                .filter(CachingApplicationContextBeanRepository.class::isInstance)
+                .map(CachingApplicationContextBeanRepository.class::cast)
+                .findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        public Greeter greeter() {
+            return new Greeter();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public Counter counter() {
+            return new Counter();
+        }
+    }
+
+    public static class Greeter {
+    }
+
+    public static class Counter {
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.Consume;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.PropertyInject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CamelSpringBootBeanPostProcessorTest {
+
+    @Test
+    public void shouldDetectCamelAnnotations() {
+        assertTrue(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(FieldBean.class));
+        assertTrue(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(MethodBean.class));
+        assertTrue(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(SetterBean.class));
+        // annotations inherited from the super class
+        assertTrue(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(SubFieldBean.class));
+
+        assertFalse(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(PlainBean.class));
+        assertFalse(CamelSpringBootBeanPostProcessor.hasCamelAnnotations(Object.class));
+    }
+
+    public static class FieldBean {
+        @EndpointInject("mock:foo")
+        ProducerTemplate template;
+    }
+
+    public static class SubFieldBean extends FieldBean {
+    }
+
+    public static class MethodBean {
+        @Consume("direct:foo")
+        public void onMessage(String body) {
+        }
+    }
+
+    public static class SetterBean {
+        @PropertyInject("foo")
+        public void setFoo(String foo) {
+        }
+    }
+
+    public static class PlainBean {
+        @Deprecated
+        String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+}
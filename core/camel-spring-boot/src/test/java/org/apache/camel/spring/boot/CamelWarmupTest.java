@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spring.boot.warmup.CamelWarmup;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = CamelWarmupTest.TestConfiguration.class,
+    properties = {
+        "camel.springboot.warmup.enabled = true",
+        "camel.springboot.warmup.endpoints = mock:warm*, log:warmup, counting:lazy*, counting:unused",
+        "camel.springboot.warmup.routes-enabled = true",
+        "camel.springboot.warmup.routes = warm, unknown",
+        "camel.springboot.warmup.route-exchanges = 2",
+        "camel.springboot.warmup.route-body = Hello"
+    }
+)
+public class CamelWarmupTest {
+
+    @Autowired
+    CamelWarmup warmup;
+
+    @Autowired
+    CamelContext context;
+
+    @EndpointInject("mock:warm")
+    MockEndpoint mock;
+
+    @Test
+    public void shouldWarmupEndpointsAndRoutes() {
+        // the endpoints matched by the patterns, the log and unused endpoints, and the warm route
+        assertEquals(5, warmup.getWarmedUp());
+
+        assertEquals(2, mock.getReceivedCounter());
+        assertEquals("Hello", mock.getReceivedExchanges().get(0).getMessage().getBody());
+        assertTrue(mock.getReceivedExchanges().get(0).getMessage().getHeader(CamelWarmup.WARMUP_HEADER, boolean.class));
+    }
+
+    @Test
+    public void shouldStartProducersOfEndpoints() {
+        CountingEndpoint lazy = context.getEndpoint("counting:lazy?lazyStartProducer=true", CountingEndpoint.class);
+        CountingEndpoint unused = context.getEndpoint("counting:unused", CountingEndpoint.class);
+        CountingEndpoint cold = context.getEndpoint("counting:cold?lazyStartProducer=true", CountingEndpoint.class);
+
+        // a producer is started by the warm-up, without sending any message
+        assertEquals(1, lazy.getStarted());
+        assertEquals(1, unused.getStarted());
+        assertEquals(0, lazy.getProcessed());
+        assertEquals(0, unused.getProcessed());
+        assertEquals(0, cold.getStarted());
+    }
+
+    @Test
+    public void shouldNotSendWarmupExchangesToRoutesNotListed() {
+        CountingEndpoint lazy = context.getEndpoint("counting:lazy?lazyStartProducer=true", CountingEndpoint.class);
+
+        assertEquals(0, context.getEndpoint("mock:cold", MockEndpoint.class).getReceivedCounter());
+        assertEquals(0, lazy.getProcessed());
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        public CountingComponent counting() {
+            return new CountingComponent();
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:warm").routeId("warm").to("mock:warm");
+                    from("direct:cold").routeId("cold").to("mock:cold");
+                    from("direct:lazy").routeId("lazy").to("counting:lazy?lazyStartProducer=true");
+                    from("direct:cold-lazy").routeId("cold-lazy").to("counting:cold?lazyStartProducer=true");
+                }
+            };
+        }
+    }
+
+    static class CountingComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) {
+            return new CountingEndpoint(uri, this);
+        }
+    }
+
+    static class CountingEndpoint extends DefaultEndpoint {
+
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger processed = new AtomicInteger();
+
+        CountingEndpoint(String uri, Component component) {
+            super(uri, component);
+        }
+
+        int getStarted() {
+            return started.get();
+        }
+
+        int getProcessed() {
+            return processed.get();
+        }
+
+        @Override
+        public Producer createProducer() {
+            return new DefaultProducer(this) {
+                @Override
+                protected void doStart() {
+                    started.incrementAndGet();
+                }
+
+                @Override
+                public void process(Exchange exchange) {
+                    processed.incrementAndGet();
+                }
+            };
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
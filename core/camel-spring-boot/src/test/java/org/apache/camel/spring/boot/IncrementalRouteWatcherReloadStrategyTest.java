@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.model.Model;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        IncrementalRouteWatcherReloadStrategyTest.class },
+    properties = {
+        "camel.springboot.routes-include-pattern=file:target/incremental-reload/routes.xml",
+        "camel.springboot.routes-reload-enabled=true",
+        "camel.springboot.routes-reload-directory=target/incremental-reload-watch",
+        "camel.springboot.routes-reload-pattern=*.xml",
+        "camel.springboot.routes-reload-incremental=true"}
+)
+public class IncrementalRouteWatcherReloadStrategyTest {
+
+    private static final File ROUTES = new File("target/incremental-reload/routes.xml");
+    private static final String FOO = "<route id=\"foo\"><from uri=\"direct:foo\"/>"
+            + "<choice><when><simple>${body} == 'a'</simple><to id=\"foo-a\" uri=\"mock:a\"/></when>"
+            + "<otherwise><to uri=\"mock:foo\"/></otherwise></choice></route>";
+    private static final String BAR = "<route id=\"bar\"><from uri=\"direct:bar\"/><to uri=\"mock:bar\"/></route>";
+    private static final String BAZ = "<route id=\"baz\"><from uri=\"direct:baz\"/><to uri=\"mock:baz\"/></route>";
+
+    @Autowired
+    CamelContext camelContext;
+
+    @BeforeAll
+    public static void writeRoutes() throws Exception {
+        ROUTES.getParentFile().mkdirs();
+        // the routes are reloaded explicit by the test, so the file watcher is not watching the routes
+        new File("target/incremental-reload-watch").mkdirs();
+        writeRoutes(FOO, BAR, BAZ);
+    }
+
+    @Test
+    public void shouldOnlyReloadChangedRoutes() throws Exception {
+        IncrementalRouteWatcherReloadStrategy reload = camelContext.hasService(IncrementalRouteWatcherReloadStrategy.class);
+        assertNotNull(reload);
+
+        writeRoutes(FOO, BAR, BAZ);
+        reload.onRouteReload(resource());
+        long counter = reload.getReloadCounter();
+
+        Route foo = camelContext.getRoute("foo");
+        Route bar = camelContext.getRoute("bar");
+        assertNotNull(foo);
+        assertNotNull(bar);
+        assertNotNull(camelContext.getRoute("baz"));
+
+        // bar is changed, baz is removed, and qux is added
+        writeRoutes(FOO,
+                "<route id=\"bar\"><from uri=\"direct:bar\"/><to uri=\"mock:bar2\"/></route>",
+                "<route id=\"qux\"><from uri=\"direct:qux\"/><to uri=\"mock:qux\"/></route>");
+        Resource resource = resource();
+        reload.onRouteReload(resource);
+
+        assertSame(foo, camelContext.getRoute("foo"));
+        assertNotSame(bar, camelContext.getRoute("bar"));
+        assertNotNull(camelContext.getRoute("bar").getEndpoint());
+        assertNull(camelContext.getRoute("baz"));
+        assertNotNull(camelContext.getRoute("qux"));
+        assertEquals("Started", camelContext.getRouteController().getRouteStatus("bar").name());
+        assertEquals("Started", camelContext.getRouteController().getRouteStatus("qux").name());
+        assertEquals(counter + 1, reload.getReloadCounter());
+
+        // and nothing is reloaded when unchanged
+        Route qux = camelContext.getRoute("qux");
+        reload.onRouteReload(resource);
+        assertSame(qux, camelContext.getRoute("qux"));
+        assertEquals(counter + 2, reload.getReloadCounter());
+    }
+
+    @Test
+    public void shouldStartRouteAddedBackAfterRemoval() throws Exception {
+        IncrementalRouteWatcherReloadStrategy reload = camelContext.hasService(IncrementalRouteWatcherReloadStrategy.class);
+        Model model = camelContext.getExtension(Model.class);
+
+        writeRoutes(FOO, BAR, BAZ);
+        reload.onRouteReload(resource());
+        assertNotNull(camelContext.getRoute("baz"));
+
+        // baz is removed, together with its route definition
+        writeRoutes(FOO, BAR);
+        reload.onRouteReload(resource());
+        assertNull(camelContext.getRoute("baz"));
+        assertNull(model.getRouteDefinition("baz"));
+
+        // and started again when added back
+        writeRoutes(FOO, BAR, BAZ);
+        reload.onRouteReload(resource());
+        assertNotNull(camelContext.getRoute("baz"));
+        assertNotNull(model.getRouteDefinition("baz"));
+        assertEquals("Started", camelContext.getRouteController().getRouteStatus("baz").name());
+    }
+
+    private Resource resource() {
+        return camelContext.adapt(ExtendedCamelContext.class).getResourceLoader()
+                .resolveResource("file:" + ROUTES.getPath());
+    }
+
+    private static void writeRoutes(String... routes) throws Exception {
+        String xml = "<routes xmlns=\"http://camel.apache.org/schema/spring\">" + String.join("", routes) + "</routes>";
+        Files.write(ROUTES.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
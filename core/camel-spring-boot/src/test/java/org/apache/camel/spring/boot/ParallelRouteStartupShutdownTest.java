@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        ParallelRouteStartupShutdownTest.TestConfiguration.class },
+    properties = {
+        "camel.springboot.route-startup-parallelism=4",
+        "camel.springboot.route-shutdown-parallelism=4"}
+)
+public class ParallelRouteStartupShutdownTest {
+
+    static final List<String> STARTED_CONSUMERS = new CopyOnWriteArrayList<>();
+    static final List<String> STOPPED_CONSUMERS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldStartAndStopRoutesConcurrently() throws Exception {
+        assertTrue(camelContext.getShutdownStrategy() instanceof ParallelShutdownStrategy);
+        for (String id : new String[] { "first", "a", "b", "c", "d" }) {
+            assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus(id));
+        }
+        assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("manual"));
+
+        // the route with startup order is started before the other routes
+        assertEquals(5, STARTED_CONSUMERS.size());
+        assertTrue(STARTED_CONSUMERS.get(0).startsWith("first@"));
+        assertTrue(STARTED_CONSUMERS.stream().allMatch(s -> s.contains("RouteStartup")));
+
+        camelContext.stop();
+
+        // and stopped after the other routes (reverse order), where the consumer of the route not started is stopped last
+        List<String> stopped = STOPPED_CONSUMERS.stream().filter(s -> !s.startsWith("manual@")).collect(Collectors.toList());
+        assertEquals(5, stopped.size());
+        assertTrue(stopped.get(4).startsWith("first@"));
+        assertTrue(stopped.stream().filter(s -> !s.startsWith("first@")).allMatch(s -> s.contains("RouteShutdown")));
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        public DefaultComponent slow() {
+            return new SlowComponent();
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("slow:first").routeId("first").startupOrder(1).to("mock:first");
+                    from("slow:a").routeId("a").to("mock:a");
+                    from("slow:b").routeId("b").to("mock:b");
+                    from("slow:c").routeId("c").to("mock:c");
+                    from("slow:d").routeId("d").to("mock:d");
+                    from("slow:manual").routeId("manual").autoStartup(false).to("mock:manual");
+                }
+            };
+        }
+    }
+
+    static class SlowComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+            return new SlowEndpoint(uri, this, remaining);
+        }
+    }
+
+    static class SlowEndpoint extends DefaultEndpoint {
+
+        private final String name;
+
+        SlowEndpoint(String uri, SlowComponent component, String name) {
+            super(uri, component);
+            this.name = name;
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    // such as connecting to a message broker
+                    Thread.sleep(100);
+                    STARTED_CONSUMERS.add(name + "@" + Thread.currentThread().getName());
+                }
+
+                @Override
+                protected void doStop() throws Exception {
+                    Thread.sleep(100);
+                    STOPPED_CONSUMERS.add(name + "@" + Thread.currentThread().getName());
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TemplateEndpointCacheTest {
+
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testSharedCacheEvictsLeastRecentlyUsed() {
+        TemplateEndpointCache cache = new TemplateEndpointCache(TemplateEndpointCache.SHARED, 2);
+
+        resolve(cache, "direct:a");
+        resolve(cache, "direct:b");
+        // direct:a is used after direct:b, so direct:b is evicted when direct:c is cached
+        resolve(cache, "direct:a");
+        resolve(cache, "direct:c");
+        assertEquals(1, cache.getEvictions());
+
+        resolve(cache, "direct:a");
+        assertEquals(2, cache.getHits());
+        resolve(cache, "direct:b");
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testSharedCacheIsBoundedWhenUsedConcurrently() throws Exception {
+        TemplateEndpointCache cache = new TemplateEndpointCache(TemplateEndpointCache.SHARED, 5);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        resolve(cache, "direct:" + (j % 10));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4000, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getSize() <= 5);
+        // threads missing the same endpoint at the same time both cache it, so not every miss leads to an eviction
+        assertTrue(cache.getEvictions() > 0);
+        assertTrue(cache.getEvictions() <= cache.getMisses() - cache.getSize());
+    }
+
+    @Test
+    public void testThreadLocalCacheOfAllThreads() throws Exception {
+        TemplateEndpointCache cache = new TemplateEndpointCache(TemplateEndpointCache.THREAD_LOCAL, 10);
+
+        Endpoint endpoint = resolve(cache, "direct:a");
+        Thread thread = new Thread(() -> resolve(cache, "direct:a"));
+        thread.start();
+        thread.join();
+
+        // each thread has its own cache
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getSize());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+
+        assertSame(endpoint, resolve(cache, "direct:a"));
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testNoCacheHasNoStatistics() {
+        TemplateEndpointCache cache = new TemplateEndpointCache(TemplateEndpointCache.NONE, 10);
+
+        resolve(cache, "direct:a");
+        resolve(cache, "direct:a");
+
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getSize());
+    }
+
+    private Endpoint resolve(TemplateEndpointCache cache, String uri) {
+        return cache.resolve(uri, context::getEndpoint);
+    }
+
+}
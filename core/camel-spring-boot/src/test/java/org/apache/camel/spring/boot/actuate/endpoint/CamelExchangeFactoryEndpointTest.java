@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelExchangeFactoryEndpoint.ExchangeFactoryEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelExchangeFactoryEndpoint.ExchangeFactoryManagerEndpointInfo;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Test for the {@link CamelExchangeFactoryEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelExchangeFactoryEndpointAutoConfiguration.class,
+                CamelExchangeFactoryEndpointTest.TestConfiguration.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.exchangeFactory=pooled",
+                      "camel.springboot.exchangeFactoryStatisticsEnabled=true"})
+public class CamelExchangeFactoryEndpointTest {
+
+    @Autowired
+    CamelExchangeFactoryEndpoint endpoint;
+
+    @Test
+    public void testExchangeFactoryEndpoint() throws Exception {
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            ExchangeFactoryManagerEndpointInfo info = endpoint.readExchangeFactories();
+            Assertions.assertTrue(info.isPooled());
+            Assertions.assertTrue(info.isStatisticsEnabled());
+            Assertions.assertTrue(info.getConsumerCounter() > 0);
+            Assertions.assertTrue(info.getConsumers().stream().anyMatch(f -> "pool-route".equals(f.getRouteId())));
+            Assertions.assertTrue(info.getProcessors().stream().anyMatch(f -> "pool-route".equals(f.getRouteId())));
+            Assertions.assertTrue(info.getCreatedCounter() > 0);
+            Assertions.assertTrue(info.getAcquiredCounter() > 0);
+        });
+    }
+
+    @Test
+    public void testRouteExchangeFactories() throws Exception {
+        List<ExchangeFactoryEndpointInfo> factories = endpoint.readRouteExchangeFactories("pool-route");
+        Assertions.assertTrue(factories.stream().anyMatch(f -> "consumer".equals(f.getType())));
+        Assertions.assertTrue(factories.stream().anyMatch(f -> "processor".equals(f.getType())));
+        Assertions.assertTrue(factories.stream().allMatch(f -> "pool-route".equals(f.getRouteId())));
+        Assertions.assertTrue(factories.stream().allMatch(ExchangeFactoryEndpointInfo::isPooled));
+
+        Assertions.assertTrue(endpoint.readRouteExchangeFactories("unknown").isEmpty());
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("timer:pool?period=10").routeId("pool-route")
+                        .multicast().to("log:a?level=OFF", "log:b?level=OFF");
+                }
+            };
+        }
+    }
+
+}
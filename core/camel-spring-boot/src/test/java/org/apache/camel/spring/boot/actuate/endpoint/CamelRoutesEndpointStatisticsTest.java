@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.ReadAction;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDetailsEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDetailsEndpointInfo.RouteDetails;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.WriteAction;
+import org.apache.camel.spring.boot.statistics.RouteStatistics;
+import org.apache.camel.spring.boot.statistics.RouteStatisticsCollector;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the route statistics of the {@link CamelRoutesEndpoint} actuator endpoint when JMX is disabled.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class,
+                           CamelRoutesEndpointStatisticsTest.TestConfiguration.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "management.endpoint.camelroutes.read-only=false",
+                              "camel.springboot.jmx-enabled=false",
+                              "camel.springboot.routes-include-pattern=false"})
+public class CamelRoutesEndpointStatisticsTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    RouteStatisticsCollector collector;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testRouteStatistics() throws Exception {
+        Assertions.assertNull(camelContext.getManagementStrategy().getManagementAgent());
+        Assertions.assertEquals(1, camelContext.getRoutePolicyFactories().stream().filter(f -> f == collector).count());
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:ok", "Hello");
+        }
+        template.send("direct:fail", e -> e.getIn().setBody("Bye"));
+
+        RouteStatistics ok = collector.getStatistics("ok-route");
+        Assertions.assertEquals(5, ok.getExchangesTotal());
+        Assertions.assertEquals(0, ok.getExchangesFailed());
+        Assertions.assertEquals(0, ok.getExchangesInflight());
+        Assertions.assertNotNull(ok.getFirstExchangeCompletedExchangeId());
+        Assertions.assertNotNull(ok.getLastExchangeCompletedExchangeId());
+        Assertions.assertTrue(ok.getMinProcessingTime() <= ok.getMaxProcessingTime());
+        Assertions.assertTrue(ok.getProcessingTimePercentile(0.99) <= ok.getMaxProcessingTime());
+
+        RouteStatistics fail = collector.getStatistics("fail-route");
+        Assertions.assertEquals(1, fail.getExchangesTotal());
+        Assertions.assertEquals(1, fail.getExchangesFailed());
+        Assertions.assertNotNull(fail.getLastExchangeFailureExchangeId());
+        Assertions.assertNull(fail.getLastExchangeCompletedExchangeId());
+
+        Object answer = endpoint.doReadAction("ok-route", ReadAction.DETAIL);
+        Assertions.assertEquals(RouteDetailsEndpointInfo.class, answer.getClass());
+        RouteDetails details = ((RouteDetailsEndpointInfo) answer).getRouteDetails();
+        Assertions.assertNotNull(details);
+        Assertions.assertEquals(5, details.getExchangesTotal());
+        Assertions.assertEquals(0, details.getExchangesInflight());
+        Assertions.assertEquals(ok.getLastExchangeCompletedExchangeId(), details.getLastExchangeCompletedExchangeId());
+        Assertions.assertNotNull(details.getLastExchangeCompletedTimestamp());
+        Assertions.assertTrue(details.getMinProcessingTime() <= details.getMaxProcessingTime());
+        Assertions.assertNotNull(details.getP99ProcessingTime());
+        Assertions.assertNull(details.getOldestInflightExchangeId());
+
+        RouteDetails failDetails = ((RouteDetailsEndpointInfo) endpoint.doReadAction("fail-route", ReadAction.DETAIL))
+                .getRouteDetails();
+        Assertions.assertNotNull(failDetails);
+        Assertions.assertEquals(1, failDetails.getExchangesTotal());
+        Assertions.assertEquals(fail.getLastExchangeFailureExchangeId(), failDetails.getLastExchangeFailureExchangeId());
+
+        // exchanges routed from another route are measured from when they enter the route
+        template.sendBody("direct:sub", "Hi");
+        Assertions.assertEquals(6, ok.getExchangesTotal());
+        Assertions.assertEquals(1, collector.getStatistics("sub-route").getExchangesTotal());
+
+        endpoint.doWriteAction("ok-route", WriteAction.RESET, null);
+        Assertions.assertEquals(0, ok.getExchangesTotal());
+        Assertions.assertNull(ok.getLastExchangeCompletedExchangeId());
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:ok").routeId("ok-route").to("log:ok");
+                    from("direct:sub").routeId("sub-route").to("direct:ok");
+                    from("direct:fail").routeId("fail-route").throwException(new IllegalArgumentException("Forced"));
+                }
+            };
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDe
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.TimeInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.WriteAction;
+import org.apache.camel.spring.boot.statistics.RouteStatisticsCollector;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +53,9 @@ public class CamelRoutesEndpointTest {
     @Autowired
     CamelContext camelContext;
 
+    @Autowired
+    RouteStatisticsCollector collector;
+
     @Test
     public void testRoutesEndpoint() throws Exception {
         List<RouteEndpointInfo> routes = endpoint.readRoutes();
@@ -73,6 +77,10 @@ public class CamelRoutesEndpointTest {
         Assertions.assertEquals("foo-route", RouteEndpointInfo.class.cast(answer).getId());
         answer = endpoint.doReadAction("foo-route", ReadAction.DETAIL);
         Assertions.assertEquals(RouteDetailsEndpointInfo.class, answer.getClass());
+        // JMX is not disabled, but there is no management agent, so the details are from the in-process statistics
+        Assertions.assertNull(camelContext.getManagementStrategy().getManagementAgent());
+        Assertions.assertNotNull(RouteDetailsEndpointInfo.class.cast(answer).getRouteDetails());
+        Assertions.assertNotNull(collector.getStatistics("foo-route"));
     }
 
     @Test
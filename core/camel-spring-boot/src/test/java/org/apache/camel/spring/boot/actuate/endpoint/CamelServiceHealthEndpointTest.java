@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceFilter;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.cloud.PassiveHealthServiceFilter;
+import org.apache.camel.spring.boot.cloud.PassiveHealthServiceFilter.ServerHealth;
+import org.apache.camel.spring.boot.cloud.PassiveHealthServiceFilter.State;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelServiceHealthEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelServiceHealthEndpointTest.TestConfiguration.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.cloud.service-discovery.services[flaky-service]=healthy:3001,flaky:3002",
+                      "camel.cloud.service-filter.passive-health.enabled=true",
+                      "camel.cloud.service-filter.passive-health.failure-threshold=2",
+                      "camel.cloud.service-filter.passive-health.back-off=500",
+                      "camel.cloud.service-filter.configurations[flaky-filter].blacklist[flaky-service]=blocked:3003"})
+public class CamelServiceHealthEndpointTest {
+
+    private static final AtomicBoolean FAILING = new AtomicBoolean(true);
+    private static final AtomicInteger FLAKY_CALLS = new AtomicInteger();
+
+    @Autowired
+    CamelServiceHealthEndpoint endpoint;
+
+    @Autowired
+    PassiveHealthServiceFilter serviceFilter;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    @Qualifier("flaky-filter")
+    ServiceFilter flakyFilter;
+
+    @Test
+    public void testServiceHealthEndpoint() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            try {
+                template.requestBody("direct:start", null, String.class);
+            } catch (Exception e) {
+                // expected for the flaky service
+            }
+        }
+
+        // the flaky service is ejected after failing twice
+        Assertions.assertEquals(2, FLAKY_CALLS.get());
+        ServerHealth flaky = endpoint.readServers().stream()
+                .filter(s -> "flaky".equals(s.getHost())).findFirst().orElse(null);
+        Assertions.assertNotNull(flaky);
+        Assertions.assertEquals(State.OPEN, flaky.getState());
+        Assertions.assertEquals(1, flaky.getEjections());
+        Assertions.assertTrue(flaky.getRetryIn() > 0);
+
+        // the service filters configured per service filter out the ejected service as well
+        List<ServiceDefinition> services = Arrays.asList(
+                new DefaultServiceDefinition("flaky-service", "healthy", 3001),
+                new DefaultServiceDefinition("flaky-service", "flaky", 3002),
+                new DefaultServiceDefinition("flaky-service", "blocked", 3003));
+        List<ServiceDefinition> filtered = flakyFilter.apply(new DefaultExchange(camelContext), services);
+        Assertions.assertEquals(1, filtered.size());
+        Assertions.assertEquals("healthy", filtered.get(0).getHost());
+
+        // after the back off time, the next call probes the flaky service, which is then used again
+        FAILING.set(false);
+        Thread.sleep(600);
+        Assertions.assertEquals("flaky", template.requestBody("direct:start", null, String.class));
+        Assertions.assertEquals(State.CLOSED, serviceFilter.getState("flaky", 3002));
+        Assertions.assertEquals(3, FLAKY_CALLS.get());
+
+        // the servers which are no longer called are no longer tracked
+        Assertions.assertEquals(2, serviceFilter.getServerCount());
+        serviceFilter.setIdleTime(50);
+        Thread.sleep(100);
+        serviceFilter.apply(new DefaultExchange(camelContext), services);
+        Assertions.assertEquals(0, serviceFilter.getServerCount());
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .serviceCall()
+                            .name("flaky-service")
+                            .expression().simple("direct:${header.CamelServiceCallServiceHost}");
+
+                    from("direct:healthy")
+                        .transform().constant("healthy");
+                    from("direct:flaky")
+                        .process(e -> {
+                            FLAKY_CALLS.incrementAndGet();
+                            if (FAILING.get()) {
+                                throw new IllegalStateException("Service failed");
+                            }
+                        })
+                        .transform().constant("flaky");
+                }
+            };
+        }
+    }
+}
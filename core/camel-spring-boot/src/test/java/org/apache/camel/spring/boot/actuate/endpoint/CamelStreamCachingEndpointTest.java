@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStreamCachingEndpoint.StreamCachingEndpointInfo;
+import org.apache.camel.spring.boot.actuate.health.CamelStreamCachingHealthIndicator;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelStreamCachingEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelStreamCachingEndpointAutoConfiguration.class,
+                CamelStreamCachingEndpointTest.TestConfiguration.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.streamCachingEnabled=true",
+                      "camel.springboot.streamCachingStatisticsEnabled=true",
+                      "camel.springboot.streamCachingSpoolThreshold=1024",
+                      "camel.springboot.streamCachingSpoolDirectory=target/camel-spool"})
+public class CamelStreamCachingEndpointTest {
+
+    @Autowired
+    CamelStreamCachingEndpoint endpoint;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void testStreamCachingEndpoint() throws Exception {
+        template.sendBody("direct:start", body(100));
+        template.sendBody("direct:start", body(5000));
+        template.sendBody("direct:start", body(3000));
+
+        StreamCachingEndpointInfo info = endpoint.readStreamCaching();
+        Assertions.assertTrue(info.isEnabled());
+        Assertions.assertTrue(info.isStatisticsEnabled());
+        Assertions.assertEquals("default", info.getSpoolStrategy());
+        Assertions.assertEquals(1024, info.getSpoolThreshold());
+        Assertions.assertEquals(1, info.getCacheMemoryCounter());
+        Assertions.assertEquals(100, info.getCacheMemorySize());
+        Assertions.assertEquals(2, info.getCacheSpoolCounter());
+        Assertions.assertEquals(8000, info.getCacheSpoolSize());
+        Assertions.assertEquals(4000, info.getCacheSpoolAverageSize());
+        Assertions.assertEquals(5000, info.getCacheSpoolLargestSize());
+        Assertions.assertNotNull(info.getSpoolDirectory());
+        Assertions.assertTrue(info.getSpoolDirectoryFreeSpace() > 0);
+        Assertions.assertTrue(info.getSpoolDirectoryTotalSpace() >= info.getSpoolDirectoryFreeSpace());
+    }
+
+    @Test
+    public void testStreamCachingHealth() throws Exception {
+        Health health = new CamelStreamCachingHealthIndicator(camelContext, 1024).health();
+        Assertions.assertEquals(Status.UP, health.getStatus());
+        Assertions.assertNotNull(health.getDetails().get("spoolDirectory"));
+
+        // there is not that much free space
+        health = new CamelStreamCachingHealthIndicator(camelContext, Long.MAX_VALUE).health();
+        Assertions.assertEquals(Status.DOWN, health.getStatus());
+    }
+
+    private static InputStream body(int length) {
+        // not a byte array input stream as they are always cached in memory
+        return new BufferedInputStream(new ByteArrayInputStream(new byte[length]));
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").routeId("spool-route")
+                        .convertBodyTo(String.class);
+                }
+            };
+        }
+    }
+
+}
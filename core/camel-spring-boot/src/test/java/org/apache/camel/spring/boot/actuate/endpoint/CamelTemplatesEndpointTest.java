@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelTemplatesEndpoint.TemplateInfo;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelTemplatesEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelTemplatesEndpointAutoConfiguration.class,
+                CamelTemplatesEndpointTest.TestConfiguration.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.templateEndpointCache=shared",
+                      "camel.springboot.producerTemplateCacheSize=2"})
+public class CamelTemplatesEndpointTest {
+
+    @Autowired
+    CamelTemplatesEndpoint endpoint;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testTemplatesEndpoint() throws Exception {
+        template.sendBody("direct:a", "Hello");
+        template.sendBody("direct:a", "Hello");
+        template.sendBody("direct:b", "Hello");
+        template.sendBody("direct:c", "Hello");
+
+        List<TemplateInfo> templates = endpoint.readTemplates();
+        Assertions.assertEquals(1, templates.size());
+
+        TemplateInfo info = templates.get(0);
+        Assertions.assertEquals("producer", info.getType());
+        Assertions.assertEquals("shared", info.getEndpointCache());
+        Assertions.assertEquals(2, info.getMaximumCacheSize());
+        Assertions.assertEquals(1, info.getEndpointCacheHits());
+        Assertions.assertEquals(3, info.getEndpointCacheMisses());
+        // the cache holds two endpoints, so one endpoint was evicted
+        Assertions.assertEquals(1, info.getEndpointCacheEvictions());
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:a").to("log:a");
+                    from("direct:b").to("log:b");
+                    from("direct:c").to("log:c");
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Test for the {@link CamelExchangeFactoryMetrics} meter binder.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelMetricsAutoConfiguration.class,
+                CamelExchangeFactoryMetricsTest.TestConfiguration.class},
+        properties = {"camel.springboot.exchangeFactory=pooled",
+                      "camel.springboot.exchangeFactoryStatisticsEnabled=true"})
+public class CamelExchangeFactoryMetricsTest {
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void testExchangeFactoryMetrics() throws Exception {
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            FunctionCounter created = registry.find("camel.exchange.factory.created")
+                    .tag("routeId", "metrics-route").tag("type", "consumer").functionCounter();
+            Assertions.assertNotNull(created);
+            Assertions.assertTrue(created.count() > 0);
+        });
+
+        Gauge capacity = registry.find("camel.exchange.factory.capacity")
+                .tag("routeId", "metrics-route").tag("type", "processor").gauge();
+        Assertions.assertNotNull(capacity);
+        Assertions.assertEquals(100, capacity.value());
+        Assertions.assertNotNull(registry.find("camel.exchange.factory.consumers").gauge());
+    }
+
+    @Test
+    public void testRouteRemoved() throws Exception {
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:removed?period=10").routeId("removed-route").to("log:removed?level=OFF");
+            }
+        });
+        Assertions.assertNotNull(registry.find("camel.exchange.factory.size").tag("routeId", "removed-route").gauge());
+
+        camelContext.getRouteController().stopRoute("removed-route");
+        camelContext.removeRoute("removed-route");
+        Assertions.assertNull(registry.find("camel.exchange.factory.size").tag("routeId", "removed-route").gauge());
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("timer:metrics?period=10").routeId("metrics-route")
+                        .multicast().to("log:a?level=OFF", "log:b?level=OFF");
+                }
+            };
+        }
+    }
+
+}
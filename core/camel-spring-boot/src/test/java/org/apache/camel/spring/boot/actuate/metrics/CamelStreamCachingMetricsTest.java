@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * Test for the {@link CamelStreamCachingMetrics} meter binder.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelMetricsAutoConfiguration.class,
+                CamelStreamCachingMetricsTest.TestConfiguration.class},
+        properties = {"camel.springboot.streamCachingEnabled=true",
+                      "camel.springboot.streamCachingStatisticsEnabled=true",
+                      "camel.springboot.streamCachingSpoolThreshold=1024",
+                      "camel.springboot.streamCachingSpoolDirectory=target/camel-spool"})
+public class CamelStreamCachingMetricsTest {
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testStreamCachingMetrics() throws Exception {
+        template.sendBody("direct:start", body(100));
+        template.sendBody("direct:start", body(5000));
+
+        Assertions.assertEquals(1, registry.get("camel.stream.caching.memory.count").functionCounter().count());
+        Assertions.assertEquals(100, registry.get("camel.stream.caching.memory.size").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("camel.stream.caching.spool.count").functionCounter().count());
+        Assertions.assertEquals(5000, registry.get("camel.stream.caching.spool.largest.size").gauge().value());
+        Assertions.assertTrue(registry.get("camel.stream.caching.spool.directory.free").gauge().value() > 0);
+    }
+
+    private static InputStream body(int length) {
+        // not a byte array input stream as they are always cached in memory
+        return new BufferedInputStream(new ByteArrayInputStream(new byte[length]));
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").convertBodyTo(String.class);
+                }
+            };
+        }
+    }
+
+}
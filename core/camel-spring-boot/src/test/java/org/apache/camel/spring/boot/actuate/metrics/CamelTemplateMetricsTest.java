@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * Test for the {@link CamelTemplateMetrics} meter binder.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelMetricsAutoConfiguration.class,
+                CamelTemplateMetricsTest.TestConfiguration.class},
+        properties = {"camel.springboot.templateEndpointCache=thread-local",
+                      "camel.springboot.producerTemplateCacheSize=10"})
+public class CamelTemplateMetricsTest {
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testTemplateMetrics() throws Exception {
+        template.sendBody("direct:start", "Hello");
+        template.sendBody("direct:start", "World");
+        template.sendBody("direct:start", "Camel");
+
+        Assertions.assertEquals(2, registry.get("camel.template.endpoint.cache.hits").tag("type", "producer")
+                .functionCounter().count());
+        Assertions.assertEquals(1, registry.get("camel.template.endpoint.cache.misses").tag("type", "producer")
+                .functionCounter().count());
+        Assertions.assertEquals(0, registry.get("camel.template.endpoint.cache.evictions").tag("type", "producer")
+                .functionCounter().count());
+        Assertions.assertEquals(1, registry.get("camel.template.cache.size").tag("type", "producer").gauge().value());
+        Assertions.assertEquals(10, registry.get("camel.template.cache.capacity").tag("type", "producer").gauge().value());
+
+        // the consumer template is not in use
+        Assertions.assertEquals(0, registry.get("camel.template.endpoint.cache.misses").tag("type", "consumer")
+                .functionCounter().count());
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").to("log:template");
+                }
+            };
+        }
+    }
+
+}
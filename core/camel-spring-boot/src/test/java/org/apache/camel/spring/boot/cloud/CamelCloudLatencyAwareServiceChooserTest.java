@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelCloudLatencyAwareServiceChooserTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.cloud.service-discovery.services[slow-service]=slow:1001,fast:1002",
+        "camel.cloud.service-discovery.services[failing-service]=ok:2001,failing:2002",
+        "camel.cloud.service-chooser.latency-aware.enabled=true",
+        "camel.cloud.service-chooser.latency-aware.failure-threshold=3"
+    }
+)
+public class CamelCloudLatencyAwareServiceChooserTest {
+
+    private static final AtomicInteger SLOW_CALLS = new AtomicInteger();
+    private static final AtomicInteger FAILING_CALLS = new AtomicInteger();
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Autowired
+    @Qualifier("service-chooser")
+    private ServiceChooser serviceChooser;
+
+    @Test
+    public void testServiceChooser() {
+        Assertions.assertInstanceOf(LatencyAwareServiceChooser.class, serviceChooser);
+        Assertions.assertTrue(camelContext.getManagementStrategy().getEventNotifiers().contains(serviceChooser));
+    }
+
+    @Test
+    public void testFastServiceIsChosen() {
+        for (int i = 0; i < 50; i++) {
+            template.requestBody("direct:slow-service", null, String.class);
+        }
+
+        LatencyAwareServiceChooser chooser = (LatencyAwareServiceChooser) serviceChooser;
+        Assertions.assertTrue(chooser.getResponseTime("slow", 1001) > chooser.getResponseTime("fast", 1002));
+        Assertions.assertTrue(SLOW_CALLS.get() < 10, "Slow service called " + SLOW_CALLS.get() + " times");
+    }
+
+    @Test
+    public void testFailingServiceIsEjected() {
+        // the failing service responds faster, so it is chosen until it is ejected
+        for (int i = 0; i < 50; i++) {
+            try {
+                template.requestBody("direct:failing-service", null, String.class);
+            } catch (Exception e) {
+                // expected for the failing service
+            }
+        }
+
+        Assertions.assertTrue(((LatencyAwareServiceChooser) serviceChooser).isEjected("failing", 2002));
+        Assertions.assertEquals(3, FAILING_CALLS.get());
+    }
+
+    @Test
+    public void testIdleServersAreRemoved() throws Exception {
+        LatencyAwareServiceChooser chooser = new LatencyAwareServiceChooser();
+        chooser.setIdleTime(50);
+
+        chooser.choose(Arrays.asList(
+            new DefaultServiceDefinition("service", "pod-1", 8080),
+            new DefaultServiceDefinition("service", "pod-2", 8080)));
+        Assertions.assertEquals(2, chooser.getServerCount());
+
+        // the pods are replaced by pods with other addresses
+        Thread.sleep(100);
+        chooser.choose(Arrays.asList(
+            new DefaultServiceDefinition("service", "pod-3", 8080),
+            new DefaultServiceDefinition("service", "pod-4", 8080)));
+        Assertions.assertEquals(2, chooser.getServerCount());
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder myRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:slow-service")
+                        .serviceCall()
+                            .name("slow-service")
+                            .expression().simple("direct:${header.CamelServiceCallServiceHost}-${header.CamelServiceCallServicePort}");
+                    from("direct:failing-service")
+                        .serviceCall()
+                            .name("failing-service")
+                            .expression().simple("direct:${header.CamelServiceCallServiceHost}-${header.CamelServiceCallServicePort}");
+
+                    from("direct:slow-1001")
+                        .process(e -> SLOW_CALLS.incrementAndGet())
+                        .delay(20)
+                        .transform().constant("slow");
+                    from("direct:fast-1002")
+                        .transform().constant("fast");
+                    from("direct:ok-2001")
+                        .delay(50)
+                        .transform().constant("ok");
+                    from("direct:failing-2002")
+                        .process(e -> FAILING_CALLS.incrementAndGet())
+                        .throwException(new IllegalStateException("Service failed"));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelCloudServiceDiscoveryCacheTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.cloud.service-discovery.cache.enabled=true",
+        "camel.cloud.service-discovery.cache.ttl=200",
+        "camel.cloud.service-discovery.cache.stale-while-revalidate=60000"
+    }
+)
+public class CamelCloudServiceDiscoveryCacheTest {
+
+    @Autowired
+    @Qualifier("service-discovery")
+    private CamelCloudServiceDiscovery serviceDiscovery;
+
+    @Autowired
+    private CountingServiceDiscovery backend;
+
+    @BeforeEach
+    public void reset() {
+        ((CachingServiceDiscovery) serviceDiscovery.getDelegate()).invalidateAll();
+        backend.lookups.set(0);
+        backend.failing.set(false);
+    }
+
+    @Test
+    public void testServicesAreCached() {
+        Assertions.assertInstanceOf(CachingServiceDiscovery.class, serviceDiscovery.getDelegate());
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(1, serviceDiscovery.getServices("my-service").size());
+        }
+        Assertions.assertEquals(1, backend.lookups.get());
+    }
+
+    @Test
+    public void testStaleServicesAreRefreshedInBackground() throws Exception {
+        List<ServiceDefinition> services = serviceDiscovery.getServices("my-service");
+        Thread.sleep(300);
+
+        // the stale services are used while they are looked up again
+        Assertions.assertSame(services, serviceDiscovery.getServices("my-service"));
+        await().untilAsserted(() -> Assertions.assertEquals(2, backend.lookups.get()));
+        await().untilAsserted(() -> Assertions.assertNotSame(services, serviceDiscovery.getServices("my-service")));
+    }
+
+    @Test
+    public void testLastKnownServicesAreUsedOnFailure() throws Exception {
+        List<ServiceDefinition> services = serviceDiscovery.getServices("my-service");
+        backend.failing.set(true);
+        Thread.sleep(300);
+
+        serviceDiscovery.getServices("my-service");
+        await().untilAsserted(() -> Assertions.assertEquals(2, backend.lookups.get()));
+        Assertions.assertSame(services, serviceDiscovery.getServices("my-service"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedServicesAreEvicted() {
+        CachingServiceDiscovery cache = new CachingServiceDiscovery(backend, 60000, 0, 2);
+
+        cache.getServices("service-a");
+        cache.getServices("service-b");
+        cache.getServices("service-a");
+        // service-b is the least recently used, and the added service-c is kept
+        cache.getServices("service-c");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(3, backend.lookups.get());
+
+        cache.getServices("service-a");
+        cache.getServices("service-c");
+        Assertions.assertEquals(3, backend.lookups.get());
+
+        cache.getServices("service-b");
+        Assertions.assertEquals(4, backend.lookups.get());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public CountingServiceDiscovery countingServiceDiscovery() {
+            return new CountingServiceDiscovery();
+        }
+    }
+
+    public static class CountingServiceDiscovery implements ServiceDiscovery {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public List<ServiceDefinition> getServices(String name) {
+            lookups.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("Service discovery not available");
+            }
+            return Collections.singletonList(new DefaultServiceDefinition(name, "localhost", 8080));
+        }
+    }
+}
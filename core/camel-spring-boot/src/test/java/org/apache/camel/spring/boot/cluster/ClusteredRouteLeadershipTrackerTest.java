@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelClusterLeadershipEndpoint;
+import org.apache.camel.spring.boot.cluster.ClusteredRouteLeadershipTracker.NamespaceLeadership;
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * Test for the {@link ClusteredRouteLeadershipTracker} with warm standby routes.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, ClusteredRouteLeadershipTrackerTest.TestConfiguration.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.routes-include-pattern=false",
+                      "camel.clustered.controller.enabled=true",
+                      "camel.clustered.controller.namespace=test-ns",
+                      "camel.clustered.controller.initial-delay=0",
+                      "camel.clustered.controller.warm-standby=true"})
+public class ClusteredRouteLeadershipTrackerTest {
+
+    private static final AtomicInteger PROCESSOR_STARTS = new AtomicInteger();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    TestClusterService clusterService;
+
+    @Autowired
+    ClusteredRouteLeadershipTracker tracker;
+
+    @Autowired
+    CamelClusterLeadershipEndpoint endpoint;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Test
+    public void testWarmStandbyTakeover() throws Exception {
+        // not the leader, so the route is not started but its endpoints are (and Camel warms up the processors of
+        // the routes which are not started when it starts)
+        NamespaceLeadership leadership = tracker.getNamespace("test-ns");
+        Assertions.assertNotNull(leadership);
+        Assertions.assertFalse(leadership.isLeader());
+        Assertions.assertEquals("remote", leadership.getLeaderId());
+        Assertions.assertEquals(Arrays.asList("clustered"), leadership.getRoutes());
+        Assertions.assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("clustered"));
+        Assertions.assertEquals(1, PROCESSOR_STARTS.get());
+        Assertions.assertTrue(camelContext.getEndpoint("mock:result", MockEndpoint.class).isStarted());
+        long elections = leadership.getElections();
+
+        // the same leader notified again is not an election
+        clusterService.view.setLeader(false);
+        Assertions.assertEquals(elections, leadership.getElections());
+
+        // take over the routes
+        clusterService.view.setLeader(true);
+        Assertions.assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus("clustered"));
+        Assertions.assertEquals(1, PROCESSOR_STARTS.get());
+        Assertions.assertTrue(leadership.isLeader());
+        Assertions.assertEquals("local", leadership.getLeaderId());
+        Assertions.assertEquals(elections + 1, leadership.getElections());
+        Assertions.assertEquals(1, leadership.getTakeovers());
+        Assertions.assertTrue(leadership.getLastTakeoverTime() >= 0);
+        Assertions.assertTrue(leadership.getLeaderSince() > 0);
+
+        Assertions.assertEquals(1, registry.get("camel.cluster.leader").tag("namespace", "test-ns").gauge().value());
+        Assertions.assertEquals(1, registry.get("camel.cluster.takeovers").tag("namespace", "test-ns")
+                .functionCounter().count());
+        Assertions.assertSame(leadership, endpoint.readNamespace("test-ns"));
+        Assertions.assertEquals(1, endpoint.readNamespaces().size());
+
+        // lose the leadership, so the route is stopped, and only its endpoints are kept started
+        clusterService.view.setLeader(false);
+        Assertions.assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("clustered"));
+        Assertions.assertEquals(1, PROCESSOR_STARTS.get());
+        Assertions.assertTrue(camelContext.getEndpoint("mock:result", MockEndpoint.class).isStarted());
+        Assertions.assertFalse(leadership.isLeader());
+        Assertions.assertEquals(elections + 2, leadership.getElections());
+        Assertions.assertEquals(0, registry.get("camel.cluster.leader").tag("namespace", "test-ns").gauge().value());
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public TestClusterService clusterService() {
+            return new TestClusterService();
+        }
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("timer:clustered?period=60000").routeId("clustered")
+                        .process(new CountingProcessor())
+                        .to("mock:result");
+                }
+            };
+        }
+    }
+
+    public static class CountingProcessor extends ServiceSupport implements Processor {
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            PROCESSOR_STARTS.incrementAndGet();
+        }
+    }
+
+    public static class TestClusterService extends AbstractCamelClusterService<TestClusterView> {
+
+        private TestClusterView view;
+
+        public TestClusterService() {
+            super("test");
+        }
+
+        @Override
+        protected synchronized TestClusterView createView(String namespace) throws Exception {
+            view = new TestClusterView(this, namespace);
+            return view;
+        }
+    }
+
+    public static class TestClusterView extends AbstractCamelClusterView {
+
+        private final Member local = new Member("local", true);
+        private final Member remote = new Member("remote", false);
+        private volatile Member leader = remote;
+
+        TestClusterView(CamelClusterService cluster, String namespace) {
+            super(cluster, namespace);
+        }
+
+        void setLeader(boolean local) {
+            leader = local ? this.local : remote;
+            fireLeadershipChangedEvent(getLeader());
+        }
+
+        @Override
+        public Optional<CamelClusterMember> getLeader() {
+            return Optional.of(leader);
+        }
+
+        @Override
+        public CamelClusterMember getLocalMember() {
+            return local;
+        }
+
+        @Override
+        public List<CamelClusterMember> getMembers() {
+            return Arrays.asList(local, remote);
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            fireLeadershipChangedEvent(getLeader());
+        }
+
+        private final class Member implements CamelClusterMember {
+
+            private final String id;
+            private final boolean isLocal;
+
+            Member(String id, boolean isLocal) {
+                this.id = id;
+                this.isLocal = isLocal;
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public boolean isLeader() {
+                return leader == this;
+            }
+
+            @Override
+            public boolean isLocal() {
+                return isLocal;
+            }
+        }
+    }
+}
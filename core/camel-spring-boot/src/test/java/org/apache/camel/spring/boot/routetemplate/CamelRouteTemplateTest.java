@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.routetemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = CamelRouteTemplateTest.TestConfiguration.class,
+    properties = {
+        "camel.routetemplate.config[0].templateId = greeter",
+        "camel.routetemplate.config[0].routeId = one",
+        "camel.routetemplate.config[0].name = one",
+        "camel.routetemplate.config[1].template-id = greeter",
+        "camel.routetemplate.config[1].route-id = two",
+        "camel.routetemplate.config[1].name = two",
+        "camel.routetemplate.config[1].greeting = Bye",
+        "camel.routetemplate.config[2].templateId = greeter",
+        "camel.routetemplate.config[2].name = three"
+    }
+)
+public class CamelRouteTemplateTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    RouteTemplateInstantiator instantiator;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    MockEndpoint mock;
+
+    @Test
+    public void shouldCreateRoutesFromTemplates() throws Exception {
+        Assertions.assertEquals(3, instantiator.getCreated());
+        Assertions.assertNotNull(camelContext.getRoute("one"));
+        Assertions.assertNotNull(camelContext.getRoute("two"));
+        // use counter as route id since none was specified
+        Assertions.assertNotNull(camelContext.getRoute("0"));
+
+        mock.expectedBodiesReceived("Hello World", "Bye World", "Hello Camel");
+        template.sendBody("direct:one", "World");
+        template.sendBody("direct:two", "World");
+        template.sendBody("direct:three", "Camel");
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void shouldValidateAllRoutesBeforeCreatingRoutes() {
+        Map<String, String> valid = new HashMap<>();
+        valid.put("templateId", "greeter");
+        valid.put("routeId", "valid");
+        valid.put("name", "valid");
+        Map<String, String> invalid = new HashMap<>();
+        invalid.put("templateId", "greeter");
+        invalid.put("routeId", "invalid");
+        Map<String, String> unknown = new HashMap<>();
+        unknown.put("templateId", "unknown");
+        unknown.put("routeId", "unknown");
+
+        RouteTemplateInstantiator other = new RouteTemplateInstantiator(Arrays.asList(valid, invalid, unknown));
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> other.beforeApplicationStart(camelContext));
+        Assertions.assertTrue(e.getMessage().contains("for route invalid the following mandatory parameters must be provided: name"));
+        Assertions.assertTrue(e.getMessage().contains("Cannot find RouteTemplate with id unknown"));
+        // no routes are created when any route is invalid
+        Assertions.assertNull(camelContext.getRoute("valid"));
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    routeTemplate("greeter")
+                        .templateParameter("name")
+                        .templateParameter("greeting", "Hello")
+                        .from("direct:{{name}}")
+                        .setBody(simple("{{greeting}} ${body}"))
+                        .to("mock:result");
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.script;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.apache.camel.util.FileUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = CompiledScriptCacheTest.class,
+    properties = {
+        "camel.springboot.script-cache.enabled = true",
+        "camel.springboot.script-cache.directory = target/compiled-script-cache-test",
+        "camel.springboot.script-cache.memory-cache-size = 2",
+        "camel.springboot.script-cache.compile-parallelism = 2"
+    }
+)
+public class CompiledScriptCacheTest {
+
+    @Autowired
+    CompiledScriptCache cache;
+
+    private final AtomicInteger compiled = new AtomicInteger();
+
+    @Test
+    public void shouldCompileScriptsOnce() throws Exception {
+        FileUtil.removeDir(((DefaultCompiledScriptCache) cache).getDirectory().toFile());
+
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+        ScriptKey key = new ScriptKey("test", "1.0", "Hello", "hello " + System.nanoTime());
+        CompiledScript script = cache.compile(key, this::compile);
+        assertSame(script, cache.compile(key, this::compile));
+        assertEquals(1, compiled.get());
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(misses + 1, cache.getMisses());
+
+        // a new version of the engine compiles the script again
+        assertNull(cache.lookup(new ScriptKey("test", "2.0", "Hello", key.getSource())));
+
+        // the compiled script is stored on disk
+        DefaultCompiledScriptCache other = new DefaultCompiledScriptCache(
+                ((DefaultCompiledScriptCache) cache).getDirectory().toString(), 2, 1);
+        CompiledScript stored = other.lookup(key);
+        assertNotNull(stored);
+        assertEquals("Hello", stored.getName());
+        assertArrayEquals(script.getClasses().get("Hello"), stored.getClasses().get("Hello"));
+    }
+
+    @Test
+    public void shouldCompileScriptsConcurrently() throws Exception {
+        List<Future<CompiledScript>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(cache.compileAsync(new ScriptKey("test", "1.0", "Script" + i, "script " + i), this::compile));
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Script" + i, futures.get(i).get().getName());
+        }
+    }
+
+    @Test
+    public void shouldCompileScriptsAgainWhenNotMatchingDigest() throws Exception {
+        Path directory = ((DefaultCompiledScriptCache) cache).getDirectory();
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(directory)));
+
+        ScriptKey key = new ScriptKey("test", "1.0", "Tampered", "tampered " + System.nanoTime());
+        cache.compile(key, this::compile);
+        Files.write(directory.resolve("test").resolve(key.getHash()).resolve("Tampered.class"), new byte[] { 1, 2, 3 });
+
+        DefaultCompiledScriptCache other = new DefaultCompiledScriptCache(directory.toString(), 2, 1);
+        assertNull(other.lookup(key));
+    }
+
+    private CompiledScript compile(ScriptKey key) {
+        compiled.incrementAndGet();
+        return new CompiledScript(key.getName(),
+                Collections.singletonMap(key.getName(), key.getSource().getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
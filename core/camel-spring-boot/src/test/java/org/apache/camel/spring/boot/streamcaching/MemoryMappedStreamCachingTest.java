@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.apache.camel.spring.boot.streamcaching.OffHeapStreamCachingTest.data;
+import static org.apache.camel.spring.boot.streamcaching.OffHeapStreamCachingTest.read;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, MemoryMappedStreamCachingTest.TestConfiguration.class},
+        properties = {"camel.springboot.streamCachingEnabled=true",
+                      "camel.springboot.streamCachingSpoolThreshold=1024",
+                      "camel.springboot.streamCachingSpoolStrategy=memory-mapped",
+                      "camel.springboot.streamCachingSpoolChunkSize=4096"})
+public class MemoryMappedStreamCachingTest {
+
+    static final Map<String, Object> RECEIVED = new ConcurrentHashMap<>();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testSpoolMemoryMapped() throws Exception {
+        MemoryMappedSpool spool = ((SpringBootStreamCachingStrategy) camelContext.getStreamCachingStrategy())
+                .getMemoryMappedSpool();
+        Assertions.assertNotNull(spool);
+
+        byte[] data = data(50000);
+        template.sendBody("direct:start", new ByteArrayInputStream(data));
+
+        Assertions.assertTrue(RECEIVED.get("type") instanceof ByteBufferInputStreamCache);
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("body"));
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("copy"));
+        Assertions.assertEquals(50000, RECEIVED.get("length"));
+
+        // the spool file is deleted when the exchange is done
+        Assertions.assertEquals(1, spool.getCreatedCounter());
+        Assertions.assertEquals(0, spool.getFiles());
+        Assertions.assertEquals(0, spool.getBytes());
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .process(e -> {
+                            StreamCache cache = e.getMessage().getBody(StreamCache.class);
+                            RECEIVED.put("type", cache);
+                            RECEIVED.put("length", (int) cache.length());
+                            RECEIVED.put("body", read((InputStream) cache));
+                            RECEIVED.put("copy", read((InputStream) cache.copy(e)));
+                        });
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.streamcaching;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, OffHeapStreamCachingTest.TestConfiguration.class},
+        properties = {"camel.springboot.streamCachingEnabled=true",
+                      "camel.springboot.streamCachingSpoolThreshold=1024",
+                      "camel.springboot.streamCachingSpoolStrategy=off-heap",
+                      "camel.springboot.streamCachingOffHeapCapacity=16384",
+                      "camel.springboot.streamCachingSpoolChunkSize=4096"})
+public class OffHeapStreamCachingTest {
+
+    static final Map<String, Object> RECEIVED = new ConcurrentHashMap<>();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        SpringBootStreamCachingStrategy strategy = (SpringBootStreamCachingStrategy) camelContext.getStreamCachingStrategy();
+        OffHeapBufferArena arena = strategy.getOffHeapBufferArena();
+        Assertions.assertNotNull(arena);
+
+        byte[] data = data(10000);
+        template.sendBody("direct:start", new ByteArrayInputStream(data));
+
+        Assertions.assertTrue(RECEIVED.get("type") instanceof ByteBufferInputStreamCache);
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("first"));
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("second"));
+
+        // the buffers are released to the arena when the exchange is done
+        Assertions.assertEquals(0, arena.getUsed());
+        Assertions.assertEquals(12288, arena.getAllocated());
+        Assertions.assertEquals(0, arena.getExhaustedCounter());
+    }
+
+    @Test
+    public void testKeepInMemoryBelowThreshold() throws Exception {
+        byte[] data = data(100);
+        template.sendBody("direct:start", new ByteArrayInputStream(data));
+
+        Assertions.assertTrue(RECEIVED.get("type") instanceof InputStreamCache);
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("first"));
+    }
+
+    @Test
+    public void testSpoolToFileWhenExhausted() throws Exception {
+        OffHeapBufferArena arena = ((SpringBootStreamCachingStrategy) camelContext.getStreamCachingStrategy())
+                .getOffHeapBufferArena();
+        long exhausted = arena.getExhaustedCounter();
+
+        byte[] data = data(100000);
+        template.sendBody("direct:start", new ByteArrayInputStream(data));
+
+        Assertions.assertTrue(RECEIVED.get("type") instanceof StreamCache);
+        Assertions.assertFalse(RECEIVED.get("type") instanceof ByteBufferInputStreamCache);
+        Assertions.assertArrayEquals(data, (byte[]) RECEIVED.get("first"));
+        Assertions.assertEquals(exhausted + 1, arena.getExhaustedCounter());
+        Assertions.assertEquals(0, arena.getUsed());
+    }
+
+    static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    static byte[] read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[777];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            bos.write(buffer, 0, n);
+        }
+        return bos.toByteArray();
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .process(e -> {
+                            StreamCache cache = e.getMessage().getBody(StreamCache.class);
+                            RECEIVED.put("type", cache);
+                            RECEIVED.put("first", read((InputStream) cache));
+                            cache.reset();
+                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                            cache.writeTo(bos);
+                            RECEIVED.put("second", bos.toByteArray());
+                        });
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.groovy.springboot;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.endpoint.EndpointRouteBuilder;
+import org.apache.camel.dsl.groovy.GroovyDSL;
+import org.apache.camel.dsl.support.RouteBuilderLoaderSupport;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spring.boot.script.CompiledScript;
+import org.apache.camel.spring.boot.script.CompiledScriptCache;
+import org.apache.camel.spring.boot.script.CompiledScriptClassLoader;
+import org.apache.camel.spring.boot.script.ScriptKey;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.tools.GroovyClass;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovySystem;
+import groovy.util.DelegatingScript;
+
+/**
+ * A Groovy routes loader which compiles the Groovy routes scripts with a {@link CompiledScriptCache}, so the scripts
+ * which did not change are not compiled again, and the scripts which are not cached are compiled concurrently in the
+ * background while the other routes are loaded.
+ *
+ * The scripts are compiled and run the same way as by the Groovy routes loader of camel-groovy-dsl.
+ */
+public class CachingGroovyRoutesBuilderLoader extends RouteBuilderLoaderSupport {
+
+    public static final String EXTENSION = "groovy";
+
+    private final CompiledScriptCache cache;
+
+    public CachingGroovyRoutesBuilderLoader(CompiledScriptCache cache) {
+        super(EXTENSION);
+        this.cache = cache;
+    }
+
+    public CompiledScriptCache getCache() {
+        return cache;
+    }
+
+    @Override
+    protected RouteBuilder doLoadRouteBuilder(Resource resource) throws Exception {
+        String code;
+        try (InputStream is = resource.getInputStream()) {
+            code = IOHelper.loadText(is);
+        }
+        ScriptKey key = new ScriptKey(EXTENSION, GroovySystem.getVersion(), scriptName(resource), code);
+        Future<CompiledScript> future = cache.compileAsync(key, this::compile);
+
+        return new EndpointRouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                CompiledScript compiled;
+                try {
+                    compiled = future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : e;
+                }
+                // a class loader for each script, as scripts of different routes files may have the same class name,
+                // and a changed script must not use the classes of the script loaded before
+                DelegatingScript script = (DelegatingScript) new CompiledScriptClassLoader(parentClassLoader())
+                        .loadScript(compiled).getDeclaredConstructor().newInstance();
+                // set the delegate target
+                script.setDelegate(new GroovyDSL(this));
+                script.run();
+            }
+        };
+    }
+
+    private CompiledScript compile(ScriptKey key) {
+        ImportCustomizer ic = new ImportCustomizer();
+        ic.addStarImports("org.apache.camel");
+        ic.addStarImports("org.apache.camel.spi");
+
+        CompilerConfiguration cc = new CompilerConfiguration();
+        cc.addCompilationCustomizers(ic);
+        cc.setScriptBaseClass(DelegatingScript.class.getName());
+
+        CompilationUnit unit = new CompilationUnit(cc, null, new GroovyClassLoader(parentClassLoader(), cc));
+        unit.addSource(key.getName() + "." + EXTENSION, key.getSource());
+        unit.compile(Phases.CLASS_GENERATION);
+
+        Map<String, byte[]> classes = new HashMap<>();
+        for (GroovyClass clazz : unit.getClasses()) {
+            classes.put(clazz.getName(), clazz.getBytes());
+        }
+        return new CompiledScript(key.getName(), classes);
+    }
+
+    private ClassLoader parentClassLoader() {
+        ClassLoader answer = getCamelContext().getApplicationContextClassLoader();
+        return answer != null ? answer : getClass().getClassLoader();
+    }
+
+    /**
+     * The class name of the script, from the name of the routes file.
+     */
+    private static String scriptName(Resource resource) {
+        String loc = resource.getLocation();
+        // strip scheme to compute the name
+        int pos = loc.indexOf(':');
+        if (pos != -1) {
+            loc = loc.substring(pos + 1);
+        }
+        String name = FileUtil.onlyName(FileUtil.stripPath(loc), true);
+        StringBuilder sb = new StringBuilder(name.length());
+        for (char ch : name.toCharArray()) {
+            sb.append(Character.isJavaIdentifierPart(ch) ? ch : '_');
+        }
+        if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+            sb.insert(0, '_');
+        }
+        return sb.toString();
+    }
+
+}
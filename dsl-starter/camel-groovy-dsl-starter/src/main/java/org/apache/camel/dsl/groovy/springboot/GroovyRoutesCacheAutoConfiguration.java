@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.groovy.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.script.CompiledScriptCache;
+import org.apache.camel.spring.boot.script.CompiledScriptCacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Compiles the Groovy routes with the compiled scripts cache, when enabled (camel.springboot.script-cache).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(CompiledScriptCache.class)
+@AutoConfigureAfter(CompiledScriptCacheAutoConfiguration.class)
+public class GroovyRoutesCacheAutoConfiguration {
+
+    /**
+     * The Groovy routes loader, which Camel looks up by name when loading Groovy routes files
+     */
+    // must be named routes-builder-loader-groovy
+    @Bean(name = "routes-builder-loader-groovy")
+    @ConditionalOnMissingBean(name = "routes-builder-loader-groovy")
+    RoutesBuilderLoader groovyRoutesBuilderLoader(CamelContext camelContext, CompiledScriptCache cache) {
+        CachingGroovyRoutesBuilderLoader loader = new CachingGroovyRoutesBuilderLoader(cache);
+        loader.setCamelContext(camelContext);
+        return loader;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.groovy.springboot;
+
+import java.nio.file.Path;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spring.boot.script.DefaultCompiledScriptCache;
+import org.apache.camel.support.ResourceHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CachingGroovyRoutesBuilderLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldLoadUnchangedScriptsFromCache() throws Exception {
+        DefaultCompiledScriptCache cache = new DefaultCompiledScriptCache(tempDir.resolve("cache").toString(), 10, 1);
+
+        assertEquals("A", route(new CachingGroovyRoutesBuilderLoader(cache), routes("file:MyRoutes.groovy", "A")));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // the application is restarted
+        cache = new DefaultCompiledScriptCache(tempDir.resolve("cache").toString(), 10, 1);
+        assertEquals("A", route(new CachingGroovyRoutesBuilderLoader(cache), routes("file:MyRoutes.groovy", "A")));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void shouldReloadChangedScripts() throws Exception {
+        DefaultCompiledScriptCache cache = new DefaultCompiledScriptCache(null, 10, 1);
+        CachingGroovyRoutesBuilderLoader loader = new CachingGroovyRoutesBuilderLoader(cache);
+
+        assertEquals("A", route(loader, routes("file:MyRoutes.groovy", "A")));
+        // the script is changed and loaded again by the same loader
+        assertEquals("B", route(loader, routes("file:MyRoutes.groovy", "B")));
+    }
+
+    @Test
+    public void shouldLoadScriptsWithSameName() throws Exception {
+        DefaultCompiledScriptCache cache = new DefaultCompiledScriptCache(null, 10, 1);
+        CachingGroovyRoutesBuilderLoader loader = new CachingGroovyRoutesBuilderLoader(cache);
+
+        CamelContext context = new DefaultCamelContext();
+        try {
+            loader.setCamelContext(context);
+            context.addRoutes(loader.loadRoutesBuilder(
+                    ResourceHelper.fromString("file:a/MyRoutes.groovy", "from('direct:a').setBody().constant('A')")));
+            context.addRoutes(loader.loadRoutesBuilder(
+                    ResourceHelper.fromString("file:b/MyRoutes.groovy", "from('direct:b').setBody().constant('B')")));
+            context.start();
+
+            ProducerTemplate template = context.createProducerTemplate();
+            assertEquals("A", template.requestBody("direct:a", "Hello"));
+            assertEquals("B", template.requestBody("direct:b", "Hello"));
+        } finally {
+            context.stop();
+        }
+    }
+
+    private static Resource routes(String location, String body) {
+        return ResourceHelper.fromString(location, "from('direct:start').setBody().constant('" + body + "')");
+    }
+
+    private static Object route(CachingGroovyRoutesBuilderLoader loader, Resource resource) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        try {
+            loader.setCamelContext(context);
+            context.addRoutes(loader.loadRoutesBuilder(resource));
+            context.start();
+            return context.createProducerTemplate().requestBody("direct:start", "Hello");
+        } finally {
+            context.stop();
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.java.joor.springboot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.LambdaRouteBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.DeferredRoutesBuilder;
+import org.apache.camel.spring.boot.script.CompiledScript;
+import org.apache.camel.spring.boot.script.CompiledScriptCache;
+import org.apache.camel.spring.boot.script.CompiledScriptClassLoader;
+import org.apache.camel.spring.boot.script.ScriptKey;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Java routes loader which keeps the classes compiled from the Java routes files in a {@link CompiledScriptCache},
+ * keyed by a hash of the source code (and the Java version), so the routes files which did not change are not
+ * compiled again when the application is restarted.
+ *
+ * The routes files which are not in the cache are compiled together, in a single compilation, when Camel adds the
+ * first of the routes. If the routes cannot be compiled this way (such as when the Java compiler is not available, or
+ * the classpath cannot be used by the compiler when running from a fat jar), the routes files are compiled by the
+ * jOOR Java routes loader as usual, which also reports any compilation errors.
+ */
+public class CachingJavaRoutesBuilderLoader extends ServiceSupport implements RoutesBuilderLoader {
+
+    public static final String EXTENSION = "java";
+    public static final String ENGINE = "javac";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingJavaRoutesBuilderLoader.class);
+    private static final Pattern PACKAGE_PATTERN
+            = Pattern.compile("^\\s*package\\s+([a-zA-Z][.\\w]*)\\s*;.*$", Pattern.MULTILINE);
+
+    private final CompiledScriptCache cache;
+    private final List<JavaRoutesSource> pending = new ArrayList<>();
+    private CamelContext camelContext;
+    private RoutesBuilderLoader fallback;
+    private int hits;
+    private int misses;
+
+    public CachingJavaRoutesBuilderLoader(CompiledScriptCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public String getSupportedExtension() {
+        return EXTENSION;
+    }
+
+    public CompiledScriptCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Number of routes files whose classes were loaded from the cache.
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Number of routes files which were compiled, as their classes were not in the cache.
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    @Override
+    public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext");
+
+        String code;
+        try (InputStream is = resource.getInputStream()) {
+            code = IOHelper.loadText(is);
+        }
+        JavaRoutesSource source = new JavaRoutesSource(resource, determineName(resource, code), code);
+        synchronized (this) {
+            pending.add(source);
+        }
+        return new DeferredRoutesBuilder(resource.getLocation(), () -> createRoutesBuilder(source));
+    }
+
+    private RoutesBuilder createRoutesBuilder(JavaRoutesSource source) throws Exception {
+        Class<?> clazz = loadClass(source);
+        if (clazz == null) {
+            return getFallback().loadRoutesBuilder(source.resource);
+        }
+
+        Object obj = camelContext.getInjector().newInstance(clazz);
+        if (obj instanceof LambdaRouteBuilder) {
+            LambdaRouteBuilder lrb = (LambdaRouteBuilder) obj;
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    lrb.accept(this);
+                }
+            };
+        } else if (obj instanceof RoutesBuilder) {
+            return (RoutesBuilder) obj;
+        }
+        // not a routes builder, so there are no routes to add
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // noop
+            }
+        };
+    }
+
+    private synchronized Class<?> loadClass(JavaRoutesSource source) throws ClassNotFoundException {
+        if (!source.compiled) {
+            compilePending();
+        }
+        return source.failed ? null : source.classLoader.loadClass(source.name);
+    }
+
+    private void compilePending() {
+        // a class loader for each batch, so the routes files which are loaded again use their changed classes
+        ClassLoader parent = camelContext.getApplicationContextClassLoader();
+        CompiledScriptClassLoader classLoader
+                = new CompiledScriptClassLoader(parent != null ? parent : getClass().getClassLoader());
+
+        StopWatch watch = new StopWatch();
+        List<JavaRoutesSource> batch = new ArrayList<>(pending);
+        List<JavaRoutesSource> compile = new ArrayList<>();
+        pending.clear();
+        for (JavaRoutesSource source : batch) {
+            source.compiled = true;
+            source.classLoader = classLoader;
+            CompiledScript script = cache.lookup(source.key);
+            if (script != null) {
+                classLoader.addScript(script);
+                hits++;
+            } else {
+                compile.add(source);
+            }
+        }
+
+        if (!compile.isEmpty()) {
+            Map<JavaRoutesSource, Map<String, byte[]>> compiled = compile(compile);
+            if (compiled == null && compile.size() < batch.size()) {
+                // the routes may use classes of the other routes, which were not compiled as they were cached
+                compiled = compile(batch);
+            }
+            for (JavaRoutesSource source : compile) {
+                Map<String, byte[]> classes = compiled != null ? compiled.get(source) : null;
+                if (classes == null || !classes.containsKey(source.name)) {
+                    // compile it with jOOR instead
+                    source.failed = true;
+                    continue;
+                }
+                CompiledScript script = new CompiledScript(source.name, classes);
+                classLoader.addScript(script);
+                cache.store(source.key, script);
+                misses++;
+            }
+        }
+        LOG.info("Loaded {} Java routes from compiled classes cache and compiled {} in {} millis",
+                batch.size() - compile.size(), compile.size(), watch.taken());
+    }
+
+    private Map<JavaRoutesSource, Map<String, byte[]>> compile(List<JavaRoutesSource> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            LOG.debug("Java compiler not available");
+            return null;
+        }
+
+        List<String> options = new ArrayList<>();
+        options.add("-classpath");
+        options.add(System.getProperty("java.class.path"));
+        options.add("-proc:none");
+
+        Map<JavaFileObject, JavaRoutesSource> units = new LinkedHashMap<>();
+        for (JavaRoutesSource source : sources) {
+            units.put(source.toJavaFileObject(), source);
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<JavaRoutesSource, Map<String, byte[]>> answer = new HashMap<>();
+        StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(standard) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(
+                    Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+                // keep the compiled classes of each routes file by the routes file they were compiled from
+                Map<String, byte[]> classes = answer.computeIfAbsent(units.get(sibling), k -> new HashMap<>());
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return new ByteArrayOutputStream() {
+                            @Override
+                            public void close() {
+                                classes.put(className, toByteArray());
+                            }
+                        };
+                    }
+                };
+            }
+        };
+
+        boolean success;
+        try {
+            success = compiler.getTask(null, fileManager, diagnostics, options, null, units.keySet()).call();
+        } catch (RuntimeException e) {
+            LOG.debug("Error compiling Java routes", e);
+            success = false;
+        } finally {
+            IOHelper.close(fileManager);
+        }
+        if (!success) {
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                LOG.debug("{}", diagnostic);
+            }
+            LOG.info("Cannot compile {} Java routes together. The routes are compiled one by one instead.", sources.size());
+            return null;
+        }
+        return answer;
+    }
+
+    private synchronized RoutesBuilderLoader getFallback() throws Exception {
+        if (fallback == null) {
+            // the jOOR Java routes loader which Camel would otherwise use
+            fallback = camelContext.adapt(ExtendedCamelContext.class)
+                    .getBootstrapFactoryFinder(RoutesBuilderLoader.FACTORY_PATH)
+                    .newInstance(EXTENSION, RoutesBuilderLoader.class)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Cannot find RoutesBuilderLoader in classpath supporting file extension: " + EXTENSION));
+            fallback.setCamelContext(camelContext);
+            ServiceHelper.startService(fallback);
+        }
+        return fallback;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(fallback);
+    }
+
+    private static String determineName(Resource resource, String content) {
+        String loc = resource.getLocation();
+        // strip scheme to compute the name
+        int pos = loc.indexOf(':');
+        if (pos != -1) {
+            loc = loc.substring(pos + 1);
+        }
+        String name = FileUtil.onlyName(FileUtil.stripPath(loc), true);
+
+        Matcher matcher = PACKAGE_PATTERN.matcher(content);
+        if (matcher.find()) {
+            name = matcher.group(1) + "." + name;
+        }
+        return name;
+    }
+
+    private static final class JavaRoutesSource {
+
+        private final Resource resource;
+        private final String name;
+        private final String code;
+        private final ScriptKey key;
+        private boolean compiled;
+        private boolean failed;
+        private CompiledScriptClassLoader classLoader;
+
+        JavaRoutesSource(Resource resource, String name, String code) {
+            this.resource = resource;
+            this.name = name;
+            this.code = code;
+            // the compiled classes depend on the java version as well
+            this.key = new ScriptKey(ENGINE, System.getProperty("java.specification.version"), name, code);
+        }
+
+        JavaFileObject toJavaFileObject() {
+            return new SimpleJavaFileObject(
+                    URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                    JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return code;
+                }
+            };
+        }
+    }
+
+}
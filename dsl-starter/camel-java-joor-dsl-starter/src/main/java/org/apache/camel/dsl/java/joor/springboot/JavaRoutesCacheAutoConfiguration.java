@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.java.joor.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.script.CompiledScriptCache;
+import org.apache.camel.spring.boot.script.CompiledScriptCacheAutoConfiguration;
+import org.apache.camel.spring.boot.script.DefaultCompiledScriptCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(CamelAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "camel.dsl.java.cache", name = "enabled")
+@EnableConfigurationProperties(JavaRoutesCacheConfigurationProperties.class)
+@AutoConfigureAfter({CamelAutoConfiguration.class, CompiledScriptCacheAutoConfiguration.class})
+public class JavaRoutesCacheAutoConfiguration {
+
+    /**
+     * The Java routes loader, which Camel looks up by name when loading Java routes files
+     */
+    // must be named routes-builder-loader-java
+    @Bean(name = "routes-builder-loader-java")
+    @ConditionalOnMissingBean(name = "routes-builder-loader-java")
+    RoutesBuilderLoader javaRoutesBuilderLoader(CamelContext camelContext, JavaRoutesCacheConfigurationProperties config,
+                                                ObjectProvider<CompiledScriptCache> compiledScriptCache) {
+        // use the shared compiled scripts cache if enabled
+        CompiledScriptCache cache = compiledScriptCache.getIfAvailable(
+                () -> new DefaultCompiledScriptCache(config.getDirectory(), 0, 1));
+        CachingJavaRoutesBuilderLoader loader = new CachingJavaRoutesBuilderLoader(cache);
+        loader.setCamelContext(camelContext);
+        return loader;
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.java.joor.springboot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.dsl.java.cache")
+public class JavaRoutesCacheConfigurationProperties {
+
+    /**
+     * Whether to keep the classes compiled from the Java routes files in a cache directory, so the routes files
+     * which did not change are not compiled again when the application is restarted.
+     *
+     * The routes files which are not in the cache are compiled together in a single compilation.
+     */
+    private boolean enabled;
+
+    /**
+     * The directory of the compiled classes cache. The default is .camel/java-routes in the working directory of the
+     * application. The directory is created readable and writable by its owner only, and the cache is not used when
+     * the directory is owned by another user or writable by others.
+     *
+     * This directory is not used when the shared compiled scripts cache is enabled (camel.springboot.script-cache),
+     * as the compiled classes are then kept in the shared cache.
+     */
+    private String directory = System.getProperty("user.dir") + "/.camel/java-routes";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.java.joor.springboot;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spring.boot.script.DefaultCompiledScriptCache;
+import org.apache.camel.support.ResourceHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class CachingJavaRoutesBuilderLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldLoadUnchangedRoutesFromCache() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+
+        CachingJavaRoutesBuilderLoader loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+        assertEquals(0, loader.getHits());
+        assertEquals(1, loader.getMisses());
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDir)));
+
+        // the application is restarted
+        loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+        assertEquals(1, loader.getHits());
+        assertEquals(0, loader.getMisses());
+    }
+
+    @Test
+    public void shouldCompileChangedRoutes() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+
+        CachingJavaRoutesBuilderLoader loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+
+        // the stale classes of the routes are not used
+        loader = loader(cacheDir);
+        assertEquals("B", route(loader, routes("B")));
+        assertEquals(0, loader.getHits());
+        assertEquals(1, loader.getMisses());
+    }
+
+    @Test
+    public void shouldReloadChangedRoutes() throws Exception {
+        CachingJavaRoutesBuilderLoader loader = loader(tempDir.resolve("cache"));
+        assertEquals("A", route(loader, routes("A")));
+
+        // the routes file is changed and loaded again by the same loader
+        assertEquals("B", route(loader, routes("B")));
+        assertEquals(2, loader.getMisses());
+    }
+
+    @Test
+    public void shouldCompileRoutesWhenClassesDoNotMatchDigest() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+
+        CachingJavaRoutesBuilderLoader loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(cacheDir.resolve(CachingJavaRoutesBuilderLoader.ENGINE))) {
+            for (Path dir : dirs) {
+                Files.write(dir.resolve("MyRoutes.class"), new byte[] { 1, 2, 3 });
+            }
+        }
+
+        loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+        assertEquals(0, loader.getHits());
+        assertEquals(1, loader.getMisses());
+    }
+
+    @Test
+    public void shouldNotUseCacheWritableByOthers() throws Exception {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        Files.setPosixFilePermissions(cacheDir, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        CachingJavaRoutesBuilderLoader loader = loader(cacheDir);
+        assertEquals("A", route(loader, routes("A")));
+        assertEquals(1, loader.getMisses());
+        assertFalse(hasEntries(cacheDir));
+    }
+
+    private static CachingJavaRoutesBuilderLoader loader(Path cacheDir) {
+        return new CachingJavaRoutesBuilderLoader(new DefaultCompiledScriptCache(cacheDir.toString(), 0, 1));
+    }
+
+    private static Resource routes(String body) {
+        return ResourceHelper.fromString("file:MyRoutes.java",
+                "public class MyRoutes extends org.apache.camel.builder.RouteBuilder {\n"
+                                                               + "    public void configure() {\n"
+                                                               + "        from(\"direct:start\").setBody().constant(\"" + body
+                                                               + "\");\n"
+                                                               + "    }\n"
+                                                               + "}\n");
+    }
+
+    private static Object route(CachingJavaRoutesBuilderLoader loader, Resource resource) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        try {
+            loader.setCamelContext(context);
+            context.addRoutes(loader.loadRoutesBuilder(resource));
+            context.start();
+            assertEquals(1, context.getRoutes().size());
+            return context.createProducerTemplate().requestBody("direct:start", "Hello");
+        } finally {
+            context.stop();
+        }
+    }
+
+    private static boolean hasEntries(Path dir) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            return entries.iterator().hasNext();
+        }
+    }
+
+}
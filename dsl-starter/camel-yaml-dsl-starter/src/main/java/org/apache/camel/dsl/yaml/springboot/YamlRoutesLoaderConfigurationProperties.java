@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.yaml.springboot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.dsl.yaml")
+public class YamlRoutesLoaderConfigurationProperties {
+
+    /**
+     * The number of YAML routes files to parse concurrently when loading the routes.
+     *
+     * The YAML routes files are parsed in the background when they are discovered, while Camel adds the routes
+     * from the files which are already parsed. This can speed up startup when having many YAML routes files.
+     * The default is 1, to parse the files one by one.
+     */
+    private int routesParseParallelism = 1;
+
+    public int getRoutesParseParallelism() {
+        return routesParseParallelism;
+    }
+
+    public void setRoutesParseParallelism(int routesParseParallelism) {
+        this.routesParseParallelism = routesParseParallelism;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.yaml.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spring.boot.BackgroundRoutesBuilderLoader;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(properties = {
+    "camel.springboot.routes-include-pattern = classpath:yaml-routes/*.yaml",
+    "camel.dsl.yaml.routes-parse-parallelism = 2"
+})
+public class YamlRoutesLoaderAutoConfigurationTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+    }
+
+    @Autowired
+    private CamelContext camel;
+
+    @Autowired
+    @Qualifier("routes-builder-loader-yaml")
+    private RoutesBuilderLoader loader;
+
+    @Test
+    public void shouldLoadYamlRoutesInTheBackground() throws Exception {
+        assertThat(loader).isInstanceOf(BackgroundRoutesBuilderLoader.class);
+        assertThat(((BackgroundRoutesBuilderLoader) loader).getParallelism()).isEqualTo(2);
+        assertThat(loader.getSupportedExtension()).isEqualTo("yaml");
+
+        assertThat(camel.getRoute("foo")).isNotNull();
+        assertThat(camel.getRoute("bar")).isNotNull();
+
+        MockEndpoint foo = camel.getEndpoint("mock:foo", MockEndpoint.class);
+        foo.expectedBodiesReceived("foo Hello");
+        MockEndpoint bar = camel.getEndpoint("mock:bar", MockEndpoint.class);
+        bar.expectedBodiesReceived("bar Hello");
+        ProducerTemplate template = camel.createProducerTemplate();
+        template.sendBody("direct:foo", "Hello");
+        template.sendBody("direct:bar", "Hello");
+        MockEndpoint.assertIsSatisfied(camel);
+    }
+}